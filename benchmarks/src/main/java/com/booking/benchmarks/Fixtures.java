@@ -0,0 +1,47 @@
+package com.booking.benchmarks;
+
+import com.booking.property.entity.Property;
+import com.booking.property.entity.PropertyType;
+import com.booking.user.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic test data, so runs on different machines and commits measure the same inputs.
+ */
+final class Fixtures {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final PropertyType[] TYPES = PropertyType.values();
+
+    private Fixtures() {
+    }
+
+    static List<User> users(int count) {
+        var random = new Random(42);
+        var users = new ArrayList<User>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new User(new UUID(random.nextLong(), random.nextLong()), "First" + i, "Last" + i,
+                    "user" + i + "@example.com", BASE_TIME.plusSeconds(i), false));
+        }
+        return users;
+    }
+
+    static List<Property> properties(int count) {
+        var random = new Random(42);
+        var owner = new UUID(random.nextLong(), random.nextLong());
+        var properties = new ArrayList<Property>(count);
+        for (int i = 0; i < count; i++) {
+            properties.add(new Property(new UUID(random.nextLong(), random.nextLong()), "Property " + i,
+                    "A comfortable place to stay, number " + i, i + " Main Street", "Lisbon", "Portugal",
+                    TYPES[i % TYPES.length], BigDecimal.valueOf(50 + i % 400, 0).setScale(2), 1 + i % 8, owner, true,
+                    BASE_TIME.plusSeconds(i), 0));
+        }
+        return properties;
+    }
+}
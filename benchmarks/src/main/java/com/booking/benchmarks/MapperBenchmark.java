@@ -0,0 +1,51 @@
+package com.booking.benchmarks;
+
+import com.booking.property.dto.PropertyDto;
+import com.booking.property.entity.Property;
+import com.booking.property.mapper.PropertyMapper;
+import com.booking.property.mapper.PropertyMapperImpl;
+import com.booking.user.dto.UserDto;
+import com.booking.user.entity.User;
+import com.booking.user.mapper.UserMapper;
+import com.booking.user.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO list conversions used by every list and batch endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private final PropertyMapper propertyMapper = new PropertyMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private List<Property> properties;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        properties = Fixtures.properties(size);
+        users = Fixtures.users(size);
+    }
+
+    @Benchmark
+    public List<PropertyDto> toPropertyDtoList() {
+        return propertyMapper.toPropertyDtoList(properties);
+    }
+
+    @Benchmark
+    public List<UserDto> toUserDtoList() {
+        return userMapper.toUserDtoList(users);
+    }
+}
@@ -0,0 +1,56 @@
+package com.booking.benchmarks;
+
+import com.booking.common.pagination.CursorPage;
+import com.booking.property.dto.PropertyDto;
+import com.booking.property.mapper.PropertyMapperImpl;
+import com.booking.user.dto.UserDto;
+import com.booking.user.mapper.UserMapperImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization of cursor pages, using the ObjectMapper configuration Spring Boot gives the
+ * controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private ObjectWriter propertyPageWriter;
+    private ObjectWriter userPageWriter;
+    private CursorPage<PropertyDto> propertyPage;
+    private CursorPage<UserDto> userPage;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        propertyPageWriter = objectMapper.writerFor(new TypeReference<CursorPage<PropertyDto>>() {});
+        userPageWriter = objectMapper.writerFor(new TypeReference<CursorPage<UserDto>>() {});
+
+        propertyPage = new CursorPage<>(new PropertyMapperImpl().toPropertyDtoList(Fixtures.properties(size)), "next");
+        userPage = new CursorPage<>(new UserMapperImpl().toUserDtoList(Fixtures.users(size)), "next");
+    }
+
+    @Benchmark
+    public byte[] serializePropertyPage() throws JsonProcessingException {
+        return propertyPageWriter.writeValueAsBytes(propertyPage);
+    }
+
+    @Benchmark
+    public byte[] serializeUserPage() throws JsonProcessingException {
+        return userPageWriter.writeValueAsBytes(userPage);
+    }
+}
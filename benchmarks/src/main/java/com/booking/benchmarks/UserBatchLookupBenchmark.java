@@ -0,0 +1,57 @@
+package com.booking.benchmarks;
+
+import com.booking.user.dto.UserDto;
+import com.booking.user.entity.User;
+import com.booking.user.mapper.UserMapperImpl;
+import com.booking.user.repository.UserRepository;
+import com.booking.user.service.impl.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code UserServiceImpl.getAllByIds}: the requested/found set diff plus DTO mapping, with the repository
+ * replaced by a stub returning pre-built entities so only service-layer work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserBatchLookupBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private UserServiceImpl userService;
+    private Set<UUID> ids;
+
+    @Setup
+    public void setUp() {
+        var users = Fixtures.users(size);
+        ids = new LinkedHashSet<>(users.stream().map(User::getId).toList());
+        userService = new UserServiceImpl(stubRepository(users), new UserMapperImpl(), null, null);
+    }
+
+    @Benchmark
+    public List<UserDto> getAllByIds() {
+        return userService.getAllByIds(ids);
+    }
+
+    private static UserRepository stubRepository(List<User> users) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByIdIn")) {
+                        return users;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
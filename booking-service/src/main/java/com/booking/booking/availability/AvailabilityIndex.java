@@ -0,0 +1,60 @@
+package com.booking.booking.availability;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory per-property calendar of confirmed bookings, answering availability checks without a database round-trip.
+ * It is rebuilt from Postgres on startup by {@link AvailabilityIndexLoader}, kept current by the booking write path,
+ * and drops stays that have ended once a day.
+ */
+@Component
+@Slf4j
+public class AvailabilityIndex {
+
+    private final ConcurrentMap<UUID, PropertyCalendar> calendars = new ConcurrentHashMap<>();
+
+    public boolean isAvailable(UUID propertyId, LocalDate checkIn, LocalDate checkOut) {
+        var calendar = calendars.get(propertyId);
+        return calendar == null || calendar.isFree(checkIn, checkOut);
+    }
+
+    /**
+     * Atomically checks the dates and reserves them.
+     * @return false if the dates overlap an existing reservation
+     */
+    public boolean tryReserve(UUID propertyId, LocalDate checkIn, LocalDate checkOut) {
+        return calendars.computeIfAbsent(propertyId, id -> new PropertyCalendar()).tryReserve(checkIn, checkOut);
+    }
+
+    public void release(UUID propertyId, LocalDate checkIn, LocalDate checkOut) {
+        var calendar = calendars.get(propertyId);
+        if (calendar != null) {
+            calendar.release(checkIn, checkOut);
+        }
+    }
+
+    @Scheduled(cron = "${booking.availability.evict-cron:0 5 0 * * *}")
+    public void evictEndedReservations() {
+        int evicted = evictEndingBy(LocalDate.now());
+        log.info("Evicted {} ended reservations from the availability index", evicted);
+    }
+
+    /**
+     * Removes reservations whose check-out is on or before {@code day}; they can no longer overlap a new booking.
+     * @return the number of reservations removed
+     */
+    public int evictEndingBy(LocalDate day) {
+        return calendars.values().stream().mapToInt(calendar -> calendar.evictEndingBy(day)).sum();
+    }
+
+    public int reservationCount() {
+        return calendars.values().stream().mapToInt(PropertyCalendar::size).sum();
+    }
+}
@@ -0,0 +1,63 @@
+package com.booking.booking.availability;
+
+import com.booking.booking.entity.Booking;
+import com.booking.booking.entity.BookingStatus;
+import com.booking.booking.repository.BookingRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+
+/**
+ * Rebuilds the {@link AvailabilityIndex} once all singletons exist, which is before the web server starts and the
+ * application reports itself ready, so no request is ever checked against a partially loaded index.
+ */
+@Component
+@Slf4j
+public class AvailabilityIndexLoader implements SmartInitializingSingleton {
+
+    private final BookingRepository bookingRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public AvailabilityIndexLoader(BookingRepository bookingRepository,
+                                   AvailabilityIndex availabilityIndex,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> load());
+    }
+
+    private void load() {
+        log.info("Rebuilding availability index from bookings");
+
+        int loaded = 0;
+        try (var bookings = bookingRepository.streamByStatusEndingAfter(BookingStatus.CONFIRMED, LocalDate.now())) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                var booking = iterator.next();
+                if (!availabilityIndex.tryReserve(booking.getPropertyId(), booking.getCheckIn(), booking.getCheckOut())) {
+                    log.warn("Booking {} overlaps an already indexed reservation", booking.getId());
+                }
+                entityManager.detach(booking);
+                loaded++;
+            }
+        }
+
+        log.info("Availability index rebuilt with {} bookings", loaded);
+    }
+}
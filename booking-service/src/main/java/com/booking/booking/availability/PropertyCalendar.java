@@ -0,0 +1,82 @@
+package com.booking.booking.availability;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reserved date ranges of a single property, kept as non-overlapping half-open intervals
+ * {@code [checkIn, checkOut)} keyed by check-in date.
+ */
+class PropertyCalendar {
+
+    private final TreeMap<LocalDate, LocalDate> reservations = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    boolean isFree(LocalDate checkIn, LocalDate checkOut) {
+        lock.readLock().lock();
+        try {
+            return isFreeUnlocked(checkIn, checkOut);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean tryReserve(LocalDate checkIn, LocalDate checkOut) {
+        lock.writeLock().lock();
+        try {
+            if (!isFreeUnlocked(checkIn, checkOut)) {
+                return false;
+            }
+            reservations.put(checkIn, checkOut);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void release(LocalDate checkIn, LocalDate checkOut) {
+        lock.writeLock().lock();
+        try {
+            reservations.remove(checkIn, checkOut);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Intervals never overlap, so ordering by check-in also orders them by check-out and the ended ones are a prefix.
+     */
+    int evictEndingBy(LocalDate day) {
+        lock.writeLock().lock();
+        try {
+            int evicted = 0;
+            var first = reservations.firstEntry();
+            while (first != null && !first.getValue().isAfter(day)) {
+                reservations.pollFirstEntry();
+                evicted++;
+                first = reservations.firstEntry();
+            }
+            return evicted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return reservations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isFreeUnlocked(LocalDate checkIn, LocalDate checkOut) {
+        // intervals never overlap, so only the last one starting before checkOut can intersect [checkIn, checkOut)
+        Map.Entry<LocalDate, LocalDate> candidate = reservations.lowerEntry(checkOut);
+        return candidate == null || !candidate.getValue().isAfter(checkIn);
+    }
+}
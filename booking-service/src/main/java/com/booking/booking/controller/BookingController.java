@@ -0,0 +1,84 @@
+package com.booking.booking.controller;
+
+import com.booking.booking.dto.AvailabilityDto;
+import com.booking.booking.dto.BookingCreationDto;
+import com.booking.booking.dto.BookingDto;
+import com.booking.booking.dto.HoldCreationDto;
+import com.booking.booking.dto.HoldDto;
+import com.booking.booking.dto.HoldMetricsDto;
+import com.booking.booking.service.BookingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/bookings")
+@AllArgsConstructor
+@Validated
+@Slf4j
+@Tag(name = "Bookings", description = "API for booking service")
+public class BookingController {
+
+    private final BookingService bookingService;
+
+    @Operation(summary = "Create booking", description = "Reserves the property for the requested dates")
+    @PostMapping
+    public ResponseEntity<BookingDto> createBooking(@RequestBody @Valid BookingCreationDto creationDto) {
+        log.info("Creating booking for property {}", creationDto.propertyId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookingService.createBooking(creationDto));
+    }
+
+    @Operation(summary = "Get booking by ID", description = "Returns a booking by unique ID")
+    @GetMapping("/{bookingId}")
+    public ResponseEntity<BookingDto> getBooking(@PathVariable("bookingId") UUID bookingId) {
+        log.debug("Getting booking {}", bookingId);
+        return ResponseEntity.ok(bookingService.getBookingById(bookingId));
+    }
+
+    @Operation(summary = "Cancel booking", description = "Cancels the booking and frees its dates")
+    @PatchMapping("/{bookingId}/cancel")
+    public ResponseEntity<BookingDto> cancelBooking(@PathVariable("bookingId") UUID bookingId) {
+        log.info("Cancelling booking {}", bookingId);
+        return ResponseEntity.ok(bookingService.cancelBooking(bookingId));
+    }
+
+    @Operation(summary = "Check availability", description = "Checks whether the property is free for [checkIn, checkOut) using the in-memory availability index")
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityDto> checkAvailability(
+            @RequestParam("propertyId") UUID propertyId,
+            @RequestParam("checkIn") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam("checkOut") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        return ResponseEntity.ok(bookingService.checkAvailability(propertyId, checkIn, checkOut));
+    }
+
+    @Operation(summary = "Place hold", description = "Temporarily holds the dates while the guest completes checkout; the hold expires after a TTL")
+    @PostMapping("/holds")
+    public ResponseEntity<HoldDto> placeHold(@RequestBody @Valid HoldCreationDto creationDto) {
+        log.info("Placing hold on property {}", creationDto.propertyId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookingService.placeHold(creationDto));
+    }
+
+    @Operation(summary = "Release hold", description = "Releases a hold and frees its dates")
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable("holdId") UUID holdId) {
+        log.info("Releasing hold {}", holdId);
+        bookingService.releaseHold(holdId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Hold metrics", description = "Returns hold counters and lock contention statistics")
+    @GetMapping("/holds/metrics")
+    public ResponseEntity<HoldMetricsDto> getHoldMetrics() {
+        return ResponseEntity.ok(bookingService.getHoldMetrics());
+    }
+}
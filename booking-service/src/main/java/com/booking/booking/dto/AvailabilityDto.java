@@ -0,0 +1,23 @@
+package com.booking.booking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "Availability of a property for a date range")
+public record AvailabilityDto(
+
+        @Schema(description = "Property ID")
+        UUID propertyId,
+
+        @Schema(description = "Check-in date, inclusive")
+        LocalDate checkIn,
+
+        @Schema(description = "Check-out date, exclusive")
+        LocalDate checkOut,
+
+        @Schema(description = "Whether the property is free for the whole range")
+        boolean available
+) {
+}
@@ -0,0 +1,33 @@
+package com.booking.booking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "Data for creating a new booking")
+public record BookingCreationDto(
+        @Schema(description = "Property ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        @NotNull(message = "Property ID is required")
+        UUID propertyId,
+
+        @Schema(description = "Guest ID", example = "123e4567-e89b-12d3-a456-426614174001")
+        @NotNull(message = "Guest ID is required")
+        UUID guestId,
+
+        @Schema(description = "Check-in date, inclusive", example = "2025-07-01")
+        @NotNull(message = "Check-in date is required")
+        LocalDate checkIn,
+
+        @Schema(description = "Check-out date, exclusive", example = "2025-07-05")
+        @NotNull(message = "Check-out date is required")
+        LocalDate checkOut,
+
+        @Schema(description = "Optional hold placed at checkout; the booking takes over its dates")
+        UUID holdId
+) {
+    public BookingCreationDto(UUID propertyId, UUID guestId, LocalDate checkIn, LocalDate checkOut) {
+        this(propertyId, guestId, checkIn, checkOut, null);
+    }
+}
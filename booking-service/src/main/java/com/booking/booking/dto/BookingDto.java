@@ -0,0 +1,34 @@
+package com.booking.booking.dto;
+
+import com.booking.booking.entity.BookingStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Booking details")
+public record BookingDto(
+
+        @Schema(description = "Unique identifier")
+        UUID id,
+
+        @Schema(description = "Property ID")
+        UUID propertyId,
+
+        @Schema(description = "Guest ID")
+        UUID guestId,
+
+        @Schema(description = "Check-in date, inclusive")
+        LocalDate checkIn,
+
+        @Schema(description = "Check-out date, exclusive")
+        LocalDate checkOut,
+
+        @Schema(description = "Booking status")
+        BookingStatus status,
+
+        @Schema(description = "Creation timestamp")
+        LocalDateTime createdAt
+) {
+}
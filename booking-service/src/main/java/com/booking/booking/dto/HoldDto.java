@@ -0,0 +1,30 @@
+package com.booking.booking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "Temporary hold on a property's dates")
+public record HoldDto(
+
+        @Schema(description = "Hold ID, pass it when creating the booking")
+        UUID id,
+
+        @Schema(description = "Property ID")
+        UUID propertyId,
+
+        @Schema(description = "Guest ID")
+        UUID guestId,
+
+        @Schema(description = "Check-in date, inclusive")
+        LocalDate checkIn,
+
+        @Schema(description = "Check-out date, exclusive")
+        LocalDate checkOut,
+
+        @Schema(description = "Moment the hold expires and the dates are freed")
+        Instant expiresAt
+) {
+}
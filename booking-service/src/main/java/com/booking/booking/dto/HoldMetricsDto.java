@@ -0,0 +1,35 @@
+package com.booking.booking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Hold manager counters since startup")
+public record HoldMetricsDto(
+
+        @Schema(description = "Holds currently active")
+        int activeHolds,
+
+        @Schema(description = "Holds placed")
+        long placed,
+
+        @Schema(description = "Hold requests rejected because the dates were taken")
+        long rejected,
+
+        @Schema(description = "Holds released by the guest")
+        long released,
+
+        @Schema(description = "Holds converted into bookings")
+        long consumed,
+
+        @Schema(description = "Holds expired by TTL")
+        long expired,
+
+        @Schema(description = "Lock stripe acquisitions")
+        long lockAcquisitions,
+
+        @Schema(description = "Acquisitions that had to wait for another thread")
+        long contendedAcquisitions,
+
+        @Schema(description = "Total time spent waiting for stripe locks, microseconds")
+        long lockWaitMicros
+) {
+}
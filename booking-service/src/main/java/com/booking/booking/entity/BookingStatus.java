@@ -0,0 +1,12 @@
+package com.booking.booking.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Booking status")
+public enum BookingStatus {
+    @Schema(description = "Dates are reserved for the guest")
+    CONFIRMED,
+
+    @Schema(description = "Booking was cancelled, dates are free again")
+    CANCELLED
+}
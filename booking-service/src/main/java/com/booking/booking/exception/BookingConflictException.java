@@ -0,0 +1,14 @@
+package com.booking.booking.exception;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class BookingConflictException extends RuntimeException {
+    private BookingConflictException(String message) {
+        super(message);
+    }
+
+    public static BookingConflictException forDates(UUID propertyId, LocalDate checkIn, LocalDate checkOut) {
+        return new BookingConflictException("Property " + propertyId + " is not available from " + checkIn + " to " + checkOut);
+    }
+}
@@ -0,0 +1,13 @@
+package com.booking.booking.exception;
+
+import java.util.UUID;
+
+public class BookingNotFoundException extends RuntimeException {
+    private BookingNotFoundException(String message) {
+        super(message);
+    }
+
+    public static BookingNotFoundException forBooking(UUID id) {
+        return new BookingNotFoundException("Booking with id " + id + " not found");
+    }
+}
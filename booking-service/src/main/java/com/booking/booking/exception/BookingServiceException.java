@@ -0,0 +1,15 @@
+package com.booking.booking.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class BookingServiceException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public BookingServiceException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+}
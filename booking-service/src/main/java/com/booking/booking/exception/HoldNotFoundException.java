@@ -0,0 +1,13 @@
+package com.booking.booking.exception;
+
+import java.util.UUID;
+
+public class HoldNotFoundException extends RuntimeException {
+    private HoldNotFoundException(String message) {
+        super(message);
+    }
+
+    public static HoldNotFoundException forHold(UUID id) {
+        return new HoldNotFoundException("Hold with id " + id + " not found or already expired");
+    }
+}
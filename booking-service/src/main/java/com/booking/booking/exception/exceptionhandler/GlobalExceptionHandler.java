@@ -0,0 +1,108 @@
+package com.booking.booking.exception.exceptionhandler;
+
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.exception.BookingNotFoundException;
+import com.booking.booking.exception.BookingServiceException;
+import com.booking.booking.exception.HoldNotFoundException;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.*;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@ControllerAdvice
+@Slf4j
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler(BookingNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handleBookingNotFound(BookingNotFoundException ex, WebRequest request) {
+        log.warn("Booking not found {}", ex.getMessage());
+
+        return createProblemDetail(ex.getMessage(), HttpStatus.NOT_FOUND, request);
+    }
+
+    @ExceptionHandler(HoldNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handleHoldNotFound(HoldNotFoundException ex, WebRequest request) {
+        log.warn("Hold not found {}", ex.getMessage());
+
+        return createProblemDetail(ex.getMessage(), HttpStatus.NOT_FOUND, request);
+    }
+
+    @ExceptionHandler(BookingConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ProblemDetail handleBookingConflict(BookingConflictException ex, WebRequest request) {
+        log.debug("Booking conflict {}", ex.getMessage());
+
+        return createProblemDetail(ex.getMessage(), HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(BookingServiceException.class)
+    public ResponseEntity<ProblemDetail> handleBookingServiceException(BookingServiceException ex, WebRequest request) {
+        log.warn("Booking service error {}", ex.getMessage());
+
+        return ResponseEntity.status(ex.getStatus()).body(createProblemDetail(ex.getMessage(), ex.getStatus(), request));
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
+                                                                  HttpHeaders headers,
+                                                                  HttpStatusCode status,
+                                                                  WebRequest request) {
+        log.warn("Validation error: {}", ex.getMessage());
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getFieldErrors().forEach(error ->
+                errors.put(error.getField(), error.getDefaultMessage())
+        );
+
+        ProblemDetail pd = createProblemDetail(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+        pd.setTitle("Validation Error");
+        pd.setDetail("Invalid request parameters");
+        pd.setProperty("invalid_params", errors);
+
+        return ResponseEntity.badRequest().body(pd);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleConstraintViolation(ConstraintViolationException ex, WebRequest request) {
+        log.warn("Validation error: {}", ex.getMessage());
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation -> {
+            var fieldName = extractFieldName(violation.getPropertyPath().toString());
+            errors.put(fieldName, violation.getMessage());
+        });
+
+        ProblemDetail pd = createProblemDetail(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+        pd.setTitle("Validation Error");
+        pd.setDetail("Invalid request parameters");
+        pd.setProperty("invalid_params", errors);
+
+        return pd;
+    }
+
+    private static ProblemDetail createProblemDetail(String message, HttpStatus status, WebRequest request) {
+        var pd = ProblemDetail.forStatusAndDetail(status, message);
+        pd.setProperty("timestamp", Instant.now());
+        pd.setInstance(URI.create(((ServletWebRequest) request).getRequest().getRequestURI()));
+        return pd;
+    }
+
+    private String extractFieldName(String propertyPath) {
+        String[] parts = propertyPath.split("\\.");
+        return parts[parts.length - 1];
+    }
+}
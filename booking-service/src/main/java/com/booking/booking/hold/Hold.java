@@ -0,0 +1,13 @@
+package com.booking.booking.hold;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record Hold(UUID id, UUID propertyId, UUID guestId, LocalDate checkIn, LocalDate checkOut, Instant expiresAt) {
+
+    boolean matches(UUID propertyId, UUID guestId, LocalDate checkIn, LocalDate checkOut) {
+        return this.propertyId.equals(propertyId) && this.guestId.equals(guestId)
+                && this.checkIn.equals(checkIn) && this.checkOut.equals(checkOut);
+    }
+}
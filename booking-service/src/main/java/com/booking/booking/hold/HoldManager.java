@@ -0,0 +1,164 @@
+package com.booking.booking.hold;
+
+import com.booking.booking.availability.AvailabilityIndex;
+import com.booking.booking.dto.HoldMetricsDto;
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.exception.BookingServiceException;
+import com.booking.booking.exception.HoldNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Short-lived holds on a property's dates while the guest completes checkout. A hold claims its dates in the
+ * {@link AvailabilityIndex} and is released explicitly, converted into a booking, or expired by a timer wheel.
+ * <p>
+ * Each hold's lifecycle is guarded by one of a fixed set of lock stripes picked by property id, so holds on
+ * different properties almost never share a lock and no lock is held across I/O.
+ */
+@Component
+@Slf4j
+public class HoldManager {
+
+    private final AvailabilityIndex availabilityIndex;
+    private final Duration ttl;
+    private final ReentrantLock[] stripes;
+    private final HashedWheelTimer timer;
+    private final ConcurrentMap<UUID, ActiveHold> holds = new ConcurrentHashMap<>();
+
+    private final LongAdder placed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder lockAcquisitions = new LongAdder();
+    private final LongAdder contendedAcquisitions = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+
+    public HoldManager(AvailabilityIndex availabilityIndex,
+                       @Value("${booking.hold.ttl:PT10M}") Duration ttl,
+                       @Value("${booking.hold.lock-stripes:4096}") int lockStripes,
+                       @Value("${booking.hold.timer.tick:PT0.1S}") Duration tick,
+                       @Value("${booking.hold.timer.wheel-size:512}") int wheelSize) {
+        this.availabilityIndex = availabilityIndex;
+        this.ttl = ttl;
+        int stripeCount = Integer.highestOneBit(Math.max(1, lockStripes - 1)) << 1;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timer = new HashedWheelTimer("hold-expiry-timer", tick, wheelSize);
+        log.info("Hold manager initialized with ttl={}, stripes={}, tick={}", ttl, stripeCount, tick);
+    }
+
+    public Hold place(UUID propertyId, UUID guestId, LocalDate checkIn, LocalDate checkOut) {
+        var lock = lock(propertyId);
+        try {
+            if (!availabilityIndex.tryReserve(propertyId, checkIn, checkOut)) {
+                rejected.increment();
+                throw BookingConflictException.forDates(propertyId, checkIn, checkOut);
+            }
+            var hold = new Hold(UUID.randomUUID(), propertyId, guestId, checkIn, checkOut, Instant.now().plus(ttl));
+            var timeout = timer.schedule(() -> expire(hold.id()), ttl);
+            holds.put(hold.id(), new ActiveHold(hold, timeout));
+            placed.increment();
+            return hold;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(UUID holdId) {
+        var hold = remove(holdId);
+        availabilityIndex.release(hold.propertyId(), hold.checkIn(), hold.checkOut());
+        released.increment();
+    }
+
+    /**
+     * Converts the hold into a booking: the hold disappears but its dates stay reserved in the index.
+     */
+    public void consume(UUID holdId, UUID propertyId, UUID guestId, LocalDate checkIn, LocalDate checkOut) {
+        var active = holds.get(holdId);
+        if (active == null) {
+            throw HoldNotFoundException.forHold(holdId);
+        }
+        if (!active.hold().matches(propertyId, guestId, checkIn, checkOut)) {
+            throw new BookingServiceException("Hold " + holdId + " does not match the requested booking", HttpStatus.BAD_REQUEST);
+        }
+        remove(holdId);
+        consumed.increment();
+    }
+
+    public HoldMetricsDto metrics() {
+        return new HoldMetricsDto(holds.size(), placed.sum(), rejected.sum(), released.sum(), consumed.sum(), expired.sum(),
+                lockAcquisitions.sum(), contendedAcquisitions.sum(), lockWaitNanos.sum() / 1_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.close();
+    }
+
+    private Hold remove(UUID holdId) {
+        var active = holds.get(holdId);
+        if (active == null) {
+            throw HoldNotFoundException.forHold(holdId);
+        }
+        var lock = lock(active.hold().propertyId());
+        try {
+            if (!holds.remove(holdId, active)) {
+                throw HoldNotFoundException.forHold(holdId);
+            }
+            active.timeout().cancel();
+            return active.hold();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expire(UUID holdId) {
+        var active = holds.get(holdId);
+        if (active == null) {
+            return;
+        }
+        var hold = active.hold();
+        var lock = lock(hold.propertyId());
+        try {
+            if (holds.remove(holdId, active)) {
+                availabilityIndex.release(hold.propertyId(), hold.checkIn(), hold.checkOut());
+                expired.increment();
+                log.debug("Hold {} on property {} expired", holdId, hold.propertyId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lock(UUID propertyId) {
+        int h = propertyId.hashCode();
+        var lock = stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+
+        lockAcquisitions.increment();
+        if (!lock.tryLock()) {
+            contendedAcquisitions.increment();
+            long start = System.nanoTime();
+            lock.lock();
+            lockWaitNanos.add(System.nanoTime() - start);
+        }
+        return lock;
+    }
+
+    private record ActiveHold(Hold hold, HashedWheelTimer.Timeout timeout) {
+    }
+}
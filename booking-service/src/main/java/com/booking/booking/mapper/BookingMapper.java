@@ -0,0 +1,18 @@
+package com.booking.booking.mapper;
+
+import com.booking.booking.dto.BookingCreationDto;
+import com.booking.booking.dto.BookingDto;
+import com.booking.booking.entity.Booking;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface BookingMapper {
+
+    BookingDto toBookingDto(Booking booking);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    Booking toBookingEntity(BookingCreationDto bookingCreationDto);
+}
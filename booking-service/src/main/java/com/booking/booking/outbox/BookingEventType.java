@@ -0,0 +1,20 @@
+package com.booking.booking.outbox;
+
+/**
+ * Booking lifecycle events. A booking only moves from confirmed to cancelled, so the event type fixes the version
+ * consumers use to order and de-duplicate them.
+ */
+public enum BookingEventType {
+    BOOKING_CONFIRMED(0),
+    BOOKING_CANCELLED(1);
+
+    private final long version;
+
+    BookingEventType(long version) {
+        this.version = version;
+    }
+
+    public long version() {
+        return version;
+    }
+}
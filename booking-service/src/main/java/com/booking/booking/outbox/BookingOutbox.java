@@ -0,0 +1,31 @@
+package com.booking.booking.outbox;
+
+import com.booking.booking.entity.Booking;
+import com.booking.booking.entity.BookingOutboxEvent;
+import com.booking.booking.mapper.BookingMapper;
+import com.booking.booking.repository.BookingOutboxRepository;
+import com.booking.common.event.EventEnvelope;
+import com.booking.common.event.EventSerializer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records booking events in the outbox table within the caller's transaction; {@link BookingOutboxRelay} publishes
+ * them to the booking events topic.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingOutbox {
+
+    private final BookingOutboxRepository outboxRepository;
+    private final BookingMapper bookingMapper;
+    private final EventSerializer eventSerializer;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(BookingEventType type, Booking booking) {
+        var envelope = EventEnvelope.of(type.name(), booking.getId(), type.version(), bookingMapper.toBookingDto(booking));
+        outboxRepository.save(new BookingOutboxEvent(booking.getId(), type.version(), type, eventSerializer.serialize(envelope)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.booking.booking.repository;
+
+import com.booking.booking.entity.Booking;
+import com.booking.booking.entity.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface BookingRepository extends JpaRepository<Booking, UUID> {
+
+    /**
+     * Streams bookings of the given status that end after {@code from}. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Booking b where b.status = :status and b.checkOut > :from")
+    Stream<Booking> streamByStatusEndingAfter(@Param("status") BookingStatus status, @Param("from") LocalDate from);
+}
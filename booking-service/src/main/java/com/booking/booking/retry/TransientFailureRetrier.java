@@ -0,0 +1,66 @@
+package com.booking.booking.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs an action that failed with a transient database error (serialization failure, deadlock,
+ * lock timeout) using bounded exponential backoff with jitter. The action must open its own
+ * transaction, otherwise every attempt would reuse the already rolled back one.
+ */
+@Component
+@Slf4j
+public class TransientFailureRetrier {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public TransientFailureRetrier(@Value("${booking.write.retry.max-attempts:3}") int maxAttempts,
+                                   @Value("${booking.write.retry.initial-backoff:PT0.02S}") Duration initialBackoff,
+                                   @Value("${booking.write.retry.max-backoff:PT0.5S}") Duration maxBackoff) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (TransientDataAccessException ex) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Giving up after {} attempts: {}", attempt, ex.getMessage());
+                    throw ex;
+                }
+                long backoff = backoffMillis(attempt);
+                log.debug("Transient failure on attempt {}, retrying in {} ms: {}", attempt, backoff, ex.getMessage());
+                sleep(backoff);
+            }
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        // full jitter spreads out requests that collided on the same rows
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) {
+        if (millis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.booking.booking.service;
+
+import com.booking.booking.dto.AvailabilityDto;
+import com.booking.booking.dto.BookingCreationDto;
+import com.booking.booking.dto.BookingDto;
+import com.booking.booking.dto.HoldCreationDto;
+import com.booking.booking.dto.HoldDto;
+import com.booking.booking.dto.HoldMetricsDto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface BookingService {
+    BookingDto createBooking(BookingCreationDto dto);
+
+    BookingDto getBookingById(UUID id);
+
+    BookingDto cancelBooking(UUID id);
+
+    AvailabilityDto checkAvailability(UUID propertyId, LocalDate checkIn, LocalDate checkOut);
+
+    HoldDto placeHold(HoldCreationDto dto);
+
+    void releaseHold(UUID holdId);
+
+    HoldMetricsDto getHoldMetrics();
+}
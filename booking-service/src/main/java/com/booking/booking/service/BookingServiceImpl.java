@@ -0,0 +1,145 @@
+package com.booking.booking.service;
+
+import com.booking.booking.availability.AvailabilityIndex;
+import com.booking.booking.dto.AvailabilityDto;
+import com.booking.booking.dto.BookingCreationDto;
+import com.booking.booking.dto.BookingDto;
+import com.booking.booking.dto.HoldCreationDto;
+import com.booking.booking.dto.HoldDto;
+import com.booking.booking.dto.HoldMetricsDto;
+import com.booking.booking.entity.BookingStatus;
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.exception.BookingNotFoundException;
+import com.booking.booking.exception.BookingServiceException;
+import com.booking.booking.hold.HoldManager;
+import com.booking.booking.mapper.BookingMapper;
+import com.booking.booking.outbox.BookingEventType;
+import com.booking.booking.outbox.BookingOutbox;
+import com.booking.booking.repository.BookingRepository;
+import com.booking.booking.retry.TransientFailureRetrier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingServiceImpl implements BookingService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingMapper bookingMapper;
+    private final AvailabilityIndex availabilityIndex;
+    private final BookingWriter bookingWriter;
+    private final TransientFailureRetrier retrier;
+    private final HoldManager holdManager;
+    private final BookingOutbox outbox;
+
+    @Override
+    public BookingDto createBooking(BookingCreationDto dto) {
+        log.info("Creating booking for property {} from {} to {}", dto.propertyId(), dto.checkIn(), dto.checkOut());
+
+        validateDates(dto.checkIn(), dto.checkOut());
+
+        if (dto.holdId() != null) {
+            // the hold already owns the dates in the index
+            holdManager.consume(dto.holdId(), dto.propertyId(), dto.guestId(), dto.checkIn(), dto.checkOut());
+        } else if (!availabilityIndex.tryReserve(dto.propertyId(), dto.checkIn(), dto.checkOut())) {
+            // claim the dates in memory first so concurrent requests for the same dates fail fast
+            throw BookingConflictException.forDates(dto.propertyId(), dto.checkIn(), dto.checkOut());
+        }
+
+        try {
+            // the exclusion constraint is the source of truth; each attempt runs in a fresh transaction
+            var saved = retrier.execute(() -> {
+                var booking = bookingMapper.toBookingEntity(dto);
+                booking.setStatus(BookingStatus.CONFIRMED);
+                return bookingWriter.insert(booking);
+            });
+            log.info("Booking created with id {}", saved.getId());
+
+            return bookingMapper.toBookingDto(saved);
+        } catch (RuntimeException ex) {
+            availabilityIndex.release(dto.propertyId(), dto.checkIn(), dto.checkOut());
+            throw ex;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingDto getBookingById(UUID id) {
+        log.debug("Getting booking by id {}", id);
+
+        var booking = bookingRepository.findById(id).orElseThrow(() -> BookingNotFoundException.forBooking(id));
+        return bookingMapper.toBookingDto(booking);
+    }
+
+    @Override
+    @Transactional
+    public BookingDto cancelBooking(UUID id) {
+        log.info("Cancelling booking {}", id);
+
+        var booking = bookingRepository.findById(id).orElseThrow(() -> BookingNotFoundException.forBooking(id));
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            booking.setStatus(BookingStatus.CANCELLED);
+            outbox.record(BookingEventType.BOOKING_CANCELLED, booking);
+            onCommit(() -> availabilityIndex.release(booking.getPropertyId(), booking.getCheckIn(), booking.getCheckOut()));
+        }
+
+        return bookingMapper.toBookingDto(booking);
+    }
+
+    @Override
+    public AvailabilityDto checkAvailability(UUID propertyId, LocalDate checkIn, LocalDate checkOut) {
+        validateDates(checkIn, checkOut);
+
+        return new AvailabilityDto(propertyId, checkIn, checkOut, availabilityIndex.isAvailable(propertyId, checkIn, checkOut));
+    }
+
+    @Override
+    public HoldDto placeHold(HoldCreationDto dto) {
+        log.info("Placing hold on property {} from {} to {}", dto.propertyId(), dto.checkIn(), dto.checkOut());
+
+        validateDates(dto.checkIn(), dto.checkOut());
+
+        var hold = holdManager.place(dto.propertyId(), dto.guestId(), dto.checkIn(), dto.checkOut());
+        return new HoldDto(hold.id(), hold.propertyId(), hold.guestId(), hold.checkIn(), hold.checkOut(), hold.expiresAt());
+    }
+
+    @Override
+    public void releaseHold(UUID holdId) {
+        log.info("Releasing hold {}", holdId);
+
+        holdManager.release(holdId);
+    }
+
+    @Override
+    public HoldMetricsDto getHoldMetrics() {
+        return holdManager.metrics();
+    }
+
+    private void validateDates(LocalDate checkIn, LocalDate checkOut) {
+        if (!checkIn.isBefore(checkOut)) {
+            throw new BookingServiceException("Check-out date must be after check-in date", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private void onCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
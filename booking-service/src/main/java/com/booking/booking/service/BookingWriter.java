@@ -0,0 +1,52 @@
+package com.booking.booking.service;
+
+import com.booking.booking.entity.Booking;
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.outbox.BookingEventType;
+import com.booking.booking.outbox.BookingOutbox;
+import com.booking.booking.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+
+/**
+ * Inserts a single booking in its own transaction, together with its {@code BOOKING_CONFIRMED} event, so that
+ * callers can retry it.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingWriter {
+
+    /** Postgres SQLSTATE for exclusion constraint violations. */
+    static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final BookingRepository bookingRepository;
+    private final BookingOutbox outbox;
+
+    @Transactional
+    public Booking insert(Booking booking) {
+        try {
+            // flush so the exclusion constraint fires here rather than at commit
+            var saved = bookingRepository.saveAndFlush(booking);
+            outbox.record(BookingEventType.BOOKING_CONFIRMED, saved);
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            if (isExclusionViolation(ex)) {
+                throw BookingConflictException.forDates(booking.getPropertyId(), booking.getCheckIn(), booking.getCheckOut());
+            }
+            throw ex;
+        }
+    }
+
+    static boolean isExclusionViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS bookings(
+    id UUID NOT NULL PRIMARY KEY,
+    property_id UUID NOT NULL,
+    guest_id UUID NOT NULL,
+    check_in DATE NOT NULL,
+    check_out DATE NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_bookings_dates CHECK (check_out > check_in)
+);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_property_check_in ON bookings (property_id, check_in);
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- half-open [check_in, check_out) so a check-out and the next check-in may share a day
+ALTER TABLE bookings
+    ADD CONSTRAINT ex_bookings_no_overlap
+    EXCLUDE USING gist (property_id WITH =, daterange(check_in, check_out, '[)') WITH &&)
+    WHERE (status <> 'CANCELLED');
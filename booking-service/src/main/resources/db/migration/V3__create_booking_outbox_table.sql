@@ -0,0 +1,12 @@
+-- Booking events for notification-service, published by the shared outbox relay
+CREATE SEQUENCE IF NOT EXISTS booking_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS booking_outbox(
+    id BIGINT NOT NULL PRIMARY KEY,
+    aggregate_id UUID NOT NULL,
+    aggregate_version BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    claimed_until TIMESTAMPTZ
+);
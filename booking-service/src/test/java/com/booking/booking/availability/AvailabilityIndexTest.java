@@ -0,0 +1,74 @@
+package com.booking.booking.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AvailabilityIndexTest {
+
+    private final AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+
+    private final UUID propertyId = UUID.randomUUID();
+    private final LocalDate day = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void isAvailable_WhenPropertyHasNoReservations_ShouldReturnTrue() {
+        assertThat(availabilityIndex.isAvailable(propertyId, day, day.plusDays(3))).isTrue();
+    }
+
+    @Test
+    void tryReserve_WhenDatesOverlap_ShouldReturnFalse() {
+        assertThat(availabilityIndex.tryReserve(propertyId, day, day.plusDays(5))).isTrue();
+
+        assertThat(availabilityIndex.tryReserve(propertyId, day.plusDays(2), day.plusDays(7))).isFalse();
+        assertThat(availabilityIndex.tryReserve(propertyId, day.minusDays(2), day.plusDays(1))).isFalse();
+        assertThat(availabilityIndex.tryReserve(propertyId, day.plusDays(1), day.plusDays(2))).isFalse();
+        assertThat(availabilityIndex.tryReserve(propertyId, day.minusDays(1), day.plusDays(6))).isFalse();
+    }
+
+    @Test
+    void tryReserve_WhenRangesOnlyTouch_ShouldSucceed() {
+        assertThat(availabilityIndex.tryReserve(propertyId, day, day.plusDays(3))).isTrue();
+
+        assertThat(availabilityIndex.tryReserve(propertyId, day.plusDays(3), day.plusDays(5))).isTrue();
+        assertThat(availabilityIndex.tryReserve(propertyId, day.minusDays(2), day)).isTrue();
+        assertThat(availabilityIndex.reservationCount()).isEqualTo(3);
+    }
+
+    @Test
+    void isAvailable_ShouldCheckAgainstAllReservations() {
+        availabilityIndex.tryReserve(propertyId, day, day.plusDays(3));
+        availabilityIndex.tryReserve(propertyId, day.plusDays(10), day.plusDays(12));
+
+        assertThat(availabilityIndex.isAvailable(propertyId, day.plusDays(3), day.plusDays(10))).isTrue();
+        assertThat(availabilityIndex.isAvailable(propertyId, day.plusDays(5), day.plusDays(11))).isFalse();
+        assertThat(availabilityIndex.isAvailable(UUID.randomUUID(), day, day.plusDays(3))).isTrue();
+    }
+
+    @Test
+    void release_ShouldFreeDates() {
+        availabilityIndex.tryReserve(propertyId, day, day.plusDays(3));
+
+        availabilityIndex.release(propertyId, day, day.plusDays(3));
+
+        assertThat(availabilityIndex.isAvailable(propertyId, day, day.plusDays(3))).isTrue();
+    }
+
+    @Test
+    void evictEndingBy_ShouldDropOnlyStaysThatHaveEnded() {
+        var otherProperty = UUID.randomUUID();
+        availabilityIndex.tryReserve(propertyId, day, day.plusDays(3));
+        availabilityIndex.tryReserve(propertyId, day.plusDays(3), day.plusDays(5));
+        availabilityIndex.tryReserve(propertyId, day.plusDays(5), day.plusDays(8));
+        availabilityIndex.tryReserve(otherProperty, day.minusDays(4), day.minusDays(1));
+
+        int evicted = availabilityIndex.evictEndingBy(day.plusDays(5));
+
+        assertThat(evicted).isEqualTo(3);
+        assertThat(availabilityIndex.reservationCount()).isEqualTo(1);
+        assertThat(availabilityIndex.isAvailable(propertyId, day.plusDays(6), day.plusDays(7))).isFalse();
+    }
+}
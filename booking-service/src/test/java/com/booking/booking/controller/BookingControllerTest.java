@@ -0,0 +1,161 @@
+package com.booking.booking.controller;
+
+import com.booking.booking.dto.AvailabilityDto;
+import com.booking.booking.dto.BookingCreationDto;
+import com.booking.booking.dto.BookingDto;
+import com.booking.booking.dto.HoldCreationDto;
+import com.booking.booking.dto.HoldDto;
+import com.booking.booking.entity.BookingStatus;
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.exception.BookingNotFoundException;
+import com.booking.booking.exception.HoldNotFoundException;
+import com.booking.booking.exception.exceptionhandler.GlobalExceptionHandler;
+import com.booking.booking.service.BookingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BookingController.class)
+@Import(GlobalExceptionHandler.class)
+public class BookingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BookingService bookingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final UUID BOOKING_ID = UUID.randomUUID();
+    private final UUID PROPERTY_ID = UUID.randomUUID();
+    private final UUID GUEST_ID = UUID.randomUUID();
+    private final LocalDate CHECK_IN = LocalDate.of(2025, 7, 1);
+    private final LocalDate CHECK_OUT = LocalDate.of(2025, 7, 5);
+
+    @Test
+    void createBooking_Success() throws Exception {
+        var creationDto = new BookingCreationDto(PROPERTY_ID, GUEST_ID, CHECK_IN, CHECK_OUT);
+
+        when(bookingService.createBooking(creationDto)).thenReturn(createBookingDto(BookingStatus.CONFIRMED));
+
+        mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(BOOKING_ID.toString()))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    void createBooking_WhenDatesTaken_ShouldReturn409() throws Exception {
+        var creationDto = new BookingCreationDto(PROPERTY_ID, GUEST_ID, CHECK_IN, CHECK_OUT);
+
+        when(bookingService.createBooking(creationDto))
+                .thenThrow(BookingConflictException.forDates(PROPERTY_ID, CHECK_IN, CHECK_OUT));
+
+        mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").exists());
+    }
+
+    @Test
+    void createBooking_WhenPropertyMissing_ShouldReturn400() throws Exception {
+        var creationDto = new BookingCreationDto(null, GUEST_ID, CHECK_IN, CHECK_OUT);
+
+        mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void getBooking_NotFound() throws Exception {
+        when(bookingService.getBookingById(BOOKING_ID)).thenThrow(BookingNotFoundException.forBooking(BOOKING_ID));
+
+        mockMvc.perform(get("/api/v1/bookings/{bookingId}", BOOKING_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void cancelBooking_Success() throws Exception {
+        when(bookingService.cancelBooking(BOOKING_ID)).thenReturn(createBookingDto(BookingStatus.CANCELLED));
+
+        mockMvc.perform(patch("/api/v1/bookings/{bookingId}/cancel", BOOKING_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
+    @Test
+    void checkAvailability_Success() throws Exception {
+        when(bookingService.checkAvailability(PROPERTY_ID, CHECK_IN, CHECK_OUT))
+                .thenReturn(new AvailabilityDto(PROPERTY_ID, CHECK_IN, CHECK_OUT, true));
+
+        mockMvc.perform(get("/api/v1/bookings/availability")
+                        .param("propertyId", PROPERTY_ID.toString())
+                        .param("checkIn", CHECK_IN.toString())
+                        .param("checkOut", CHECK_OUT.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(true));
+    }
+
+    @Test
+    void placeHold_Success() throws Exception {
+        var creationDto = new HoldCreationDto(PROPERTY_ID, GUEST_ID, CHECK_IN, CHECK_OUT);
+        var holdId = UUID.randomUUID();
+
+        when(bookingService.placeHold(creationDto))
+                .thenReturn(new HoldDto(holdId, PROPERTY_ID, GUEST_ID, CHECK_IN, CHECK_OUT, Instant.now().plusSeconds(600)));
+
+        mockMvc.perform(post("/api/v1/bookings/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(holdId.toString()))
+                .andExpect(jsonPath("$.expiresAt").exists());
+    }
+
+    @Test
+    void releaseHold_Success() throws Exception {
+        var holdId = UUID.randomUUID();
+
+        mockMvc.perform(delete("/api/v1/bookings/holds/{holdId}", holdId))
+                .andExpect(status().isNoContent());
+
+        verify(bookingService).releaseHold(holdId);
+    }
+
+    @Test
+    void releaseHold_NotFound() throws Exception {
+        var holdId = UUID.randomUUID();
+
+        doThrow(HoldNotFoundException.forHold(holdId)).when(bookingService).releaseHold(holdId);
+
+        mockMvc.perform(delete("/api/v1/bookings/holds/{holdId}", holdId))
+                .andExpect(status().isNotFound());
+    }
+
+    private BookingDto createBookingDto(BookingStatus status) {
+        return new BookingDto(BOOKING_ID, PROPERTY_ID, GUEST_ID, CHECK_IN, CHECK_OUT, status, LocalDateTime.now());
+    }
+}
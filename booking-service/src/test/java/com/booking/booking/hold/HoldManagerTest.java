@@ -0,0 +1,131 @@
+package com.booking.booking.hold;
+
+import com.booking.booking.availability.AvailabilityIndex;
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.exception.BookingServiceException;
+import com.booking.booking.exception.HoldNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HoldManagerTest {
+
+    private final AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+
+    private HoldManager holdManager = new HoldManager(availabilityIndex, Duration.ofMinutes(10), 64, Duration.ofMillis(10), 8);
+
+    private final UUID propertyId = UUID.randomUUID();
+    private final UUID guestId = UUID.randomUUID();
+    private final LocalDate checkIn = LocalDate.of(2025, 7, 1);
+    private final LocalDate checkOut = LocalDate.of(2025, 7, 5);
+
+    @AfterEach
+    void tearDown() {
+        holdManager.shutdown();
+    }
+
+    @Test
+    void place_ShouldReserveDates() {
+        var hold = holdManager.place(propertyId, guestId, checkIn, checkOut);
+
+        assertThat(hold.expiresAt()).isAfter(Instant.now());
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isFalse();
+        assertThat(holdManager.metrics().activeHolds()).isEqualTo(1);
+    }
+
+    @Test
+    void place_WhenDatesAlreadyHeld_ShouldThrowConflict() {
+        holdManager.place(propertyId, guestId, checkIn, checkOut);
+
+        assertThatThrownBy(() -> holdManager.place(propertyId, UUID.randomUUID(), checkIn.plusDays(2), checkOut.plusDays(2)))
+                .isInstanceOf(BookingConflictException.class);
+        assertThat(holdManager.metrics().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void release_ShouldFreeDates() {
+        var hold = holdManager.place(propertyId, guestId, checkIn, checkOut);
+
+        holdManager.release(hold.id());
+
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isTrue();
+        assertThatThrownBy(() -> holdManager.release(hold.id())).isInstanceOf(HoldNotFoundException.class);
+    }
+
+    @Test
+    void consume_ShouldKeepDatesReserved() {
+        var hold = holdManager.place(propertyId, guestId, checkIn, checkOut);
+
+        holdManager.consume(hold.id(), propertyId, guestId, checkIn, checkOut);
+
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isFalse();
+        assertThat(holdManager.metrics().activeHolds()).isZero();
+        assertThat(holdManager.metrics().consumed()).isEqualTo(1);
+    }
+
+    @Test
+    void consume_WhenBookingDoesNotMatchHold_ShouldThrowAndKeepHold() {
+        var hold = holdManager.place(propertyId, guestId, checkIn, checkOut);
+
+        assertThatThrownBy(() -> holdManager.consume(hold.id(), propertyId, UUID.randomUUID(), checkIn, checkOut))
+                .isInstanceOf(BookingServiceException.class);
+        assertThat(holdManager.metrics().activeHolds()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredHold_ShouldFreeDates() throws InterruptedException {
+        holdManager.shutdown();
+        holdManager = new HoldManager(availabilityIndex, Duration.ofMillis(50), 64, Duration.ofMillis(10), 8);
+
+        holdManager.place(propertyId, guestId, checkIn, checkOut);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (holdManager.metrics().expired() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(holdManager.metrics().expired()).isEqualTo(1);
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isTrue();
+    }
+
+    @Test
+    void concurrentHoldsOnSameDates_OnlyOneShouldWin() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<Boolean>>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    holdManager.place(propertyId, UUID.randomUUID(), checkIn, checkOut);
+                    return true;
+                } catch (BookingConflictException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int winners = 0;
+        for (var result : results) {
+            winners += result.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(winners).isEqualTo(1);
+        assertThat(holdManager.metrics().lockAcquisitions()).isEqualTo(threads);
+    }
+}
@@ -0,0 +1,124 @@
+package com.booking.booking.repository;
+
+import com.booking.booking.entity.BookingOutboxEvent;
+import com.booking.booking.outbox.BookingEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises the lease-based claim of {@link BookingOutboxRepository} against Postgres. Every call commits in its own
+ * transaction, as it does for the relay, so a claim is visible to the next one only through {@code claimed_until}.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BookingOutboxRepositoryIntegrationTest {
+
+    private static final long LEASE_SECONDS = 60;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("bookings")
+            .withUsername("booking")
+            .withPassword("password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private BookingOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void claimNextBatch_ShouldClaimOldestRowsUpToLimit() {
+        var events = saveEvents(3);
+
+        var claimed = outboxRepository.claimNextBatch(2, LEASE_SECONDS);
+
+        assertThat(claimed).extracting(BookingOutboxEvent::getId)
+                .containsExactly(events.get(0).getId(), events.get(1).getId());
+    }
+
+    @Test
+    void claimNextBatch_WhileLeaseHolds_ShouldNotClaimRowsAgain() {
+        var events = saveEvents(3);
+        outboxRepository.claimNextBatch(2, LEASE_SECONDS);
+
+        var claimed = outboxRepository.claimNextBatch(10, LEASE_SECONDS);
+
+        assertThat(claimed).extracting(BookingOutboxEvent::getId).containsExactly(events.get(2).getId());
+        assertThat(outboxRepository.claimNextBatch(10, LEASE_SECONDS)).isEmpty();
+    }
+
+    @Test
+    void claimNextBatch_WhenLeaseExpired_ShouldClaimRowsAgain() {
+        var events = saveEvents(2);
+        outboxRepository.claimNextBatch(10, LEASE_SECONDS);
+        jdbcTemplate.update("UPDATE booking_outbox SET claimed_until = now() - INTERVAL '1 second' WHERE id = ?", events.get(0).getId());
+
+        var claimed = outboxRepository.claimNextBatch(10, LEASE_SECONDS);
+
+        assertThat(claimed).extracting(BookingOutboxEvent::getId).containsExactly(events.get(0).getId());
+    }
+
+    @Test
+    void releaseClaims_ShouldMakeRowsClaimableAgain() {
+        var events = saveEvents(2);
+        outboxRepository.claimNextBatch(10, LEASE_SECONDS);
+
+        outboxRepository.releaseClaims(List.of(events.get(1).getId()));
+
+        assertThat(outboxRepository.claimNextBatch(10, LEASE_SECONDS))
+                .extracting(BookingOutboxEvent::getId)
+                .containsExactly(events.get(1).getId());
+    }
+
+    @Test
+    void deleteAllByIdInBatch_ShouldRemoveOnlySentRows() {
+        var events = saveEvents(2);
+        var claimed = outboxRepository.claimNextBatch(10, LEASE_SECONDS);
+
+        outboxRepository.deleteAllByIdInBatch(List.of(claimed.get(0).getId()));
+
+        assertThat(outboxRepository.findAll()).extracting(BookingOutboxEvent::getId).containsExactly(events.get(1).getId());
+    }
+
+    private List<BookingOutboxEvent> saveEvents(int count) {
+        var events = new ArrayList<BookingOutboxEvent>();
+        for (int i = 0; i < count; i++) {
+            var payload = "{}".getBytes(StandardCharsets.UTF_8);
+            events.add(outboxRepository.save(new BookingOutboxEvent(UUID.randomUUID(), 0, BookingEventType.BOOKING_CONFIRMED, payload)));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,117 @@
+package com.booking.booking.repository;
+
+import com.booking.booking.entity.Booking;
+import com.booking.booking.entity.BookingStatus;
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.outbox.BookingOutbox;
+import com.booking.booking.service.BookingWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises the {@code ex_bookings_no_overlap} exclusion constraint through {@link BookingWriter}, which turns its
+ * violation into the {@link BookingConflictException} that the API answers with 409. Each insert commits in its
+ * own transaction, as it does in production.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(BookingWriter.class)
+public class BookingRepositoryIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("bookings")
+            .withUsername("booking")
+            .withPassword("password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @MockitoBean
+    private BookingOutbox outbox;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingWriter bookingWriter;
+
+    private final UUID propertyId = UUID.randomUUID();
+    private final LocalDate day = LocalDate.of(2025, 7, 1);
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+    }
+
+    @Test
+    void insert_WhenDatesOverlapConfirmedBooking_ShouldThrowConflict() {
+        bookingWriter.insert(booking(propertyId, day, day.plusDays(5)));
+
+        assertThatThrownBy(() -> bookingWriter.insert(booking(propertyId, day.plusDays(2), day.plusDays(7))))
+                .isInstanceOf(BookingConflictException.class);
+        assertThatThrownBy(() -> bookingWriter.insert(booking(propertyId, day.minusDays(1), day.plusDays(1))))
+                .isInstanceOf(BookingConflictException.class);
+
+        assertThat(bookingRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void insert_WhenCheckOutEqualsNextCheckIn_ShouldAcceptBothStays() {
+        bookingWriter.insert(booking(propertyId, day, day.plusDays(3)));
+
+        bookingWriter.insert(booking(propertyId, day.plusDays(3), day.plusDays(6)));
+        bookingWriter.insert(booking(propertyId, day.minusDays(2), day));
+
+        assertThat(bookingRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void insert_WhenOverlappingBookingIsCancelled_ShouldAcceptDates() {
+        var cancelled = bookingWriter.insert(booking(propertyId, day, day.plusDays(5)));
+        cancelled.setStatus(BookingStatus.CANCELLED);
+        bookingRepository.saveAndFlush(cancelled);
+
+        var rebooked = bookingWriter.insert(booking(propertyId, day.plusDays(1), day.plusDays(4)));
+
+        assertThat(bookingRepository.findById(rebooked.getId())).get()
+                .extracting(Booking::getStatus).isEqualTo(BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    void insert_WhenSameDatesOnAnotherProperty_ShouldAccept() {
+        bookingWriter.insert(booking(propertyId, day, day.plusDays(5)));
+
+        bookingWriter.insert(booking(UUID.randomUUID(), day, day.plusDays(5)));
+
+        assertThat(bookingRepository.count()).isEqualTo(2);
+    }
+
+    private static Booking booking(UUID propertyId, LocalDate checkIn, LocalDate checkOut) {
+        return new Booking(propertyId, UUID.randomUUID(), checkIn, checkOut, BookingStatus.CONFIRMED);
+    }
+}
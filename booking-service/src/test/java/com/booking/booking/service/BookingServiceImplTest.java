@@ -0,0 +1,237 @@
+package com.booking.booking.service;
+
+import com.booking.booking.availability.AvailabilityIndex;
+import com.booking.booking.dto.BookingCreationDto;
+import com.booking.booking.dto.BookingDto;
+import com.booking.booking.dto.HoldCreationDto;
+import com.booking.booking.entity.Booking;
+import com.booking.booking.entity.BookingStatus;
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.exception.BookingNotFoundException;
+import com.booking.booking.exception.BookingServiceException;
+import com.booking.booking.exception.HoldNotFoundException;
+import com.booking.booking.hold.HoldManager;
+import com.booking.booking.mapper.BookingMapper;
+import com.booking.booking.outbox.BookingEventType;
+import com.booking.booking.outbox.BookingOutbox;
+import com.booking.booking.repository.BookingRepository;
+import com.booking.booking.retry.TransientFailureRetrier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingServiceImplTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    @Mock
+    private BookingWriter bookingWriter;
+
+    @Spy
+    private AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+
+    @Mock
+    private HoldManager holdManager;
+
+    @Mock
+    private BookingOutbox outbox;
+
+    @Spy
+    private TransientFailureRetrier retrier = new TransientFailureRetrier(3, Duration.ZERO, Duration.ZERO);
+
+    @InjectMocks
+    private BookingServiceImpl bookingService;
+
+    private final UUID propertyId = UUID.randomUUID();
+    private final UUID guestId = UUID.randomUUID();
+    private final UUID bookingId = UUID.randomUUID();
+    private final LocalDate checkIn = LocalDate.of(2025, 7, 1);
+    private final LocalDate checkOut = LocalDate.of(2025, 7, 5);
+
+    private final BookingCreationDto creationDto = new BookingCreationDto(propertyId, guestId, checkIn, checkOut);
+
+    @Test
+    void createBooking_WhenDatesFree_ShouldSaveAndReserve() {
+        var booking = createBooking(BookingStatus.CONFIRMED);
+        var bookingDto = toDto(booking);
+
+        when(bookingMapper.toBookingEntity(creationDto)).thenReturn(booking);
+        when(bookingWriter.insert(booking)).thenReturn(booking);
+        when(bookingMapper.toBookingDto(booking)).thenReturn(bookingDto);
+
+        var result = bookingService.createBooking(creationDto);
+
+        assertThat(result).isEqualTo(bookingDto);
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isFalse();
+    }
+
+    @Test
+    void createBooking_WhenDatesTaken_ShouldThrowConflictWithoutDatabaseCall() {
+        availabilityIndex.tryReserve(propertyId, checkIn.plusDays(1), checkOut.plusDays(1));
+
+        assertThatThrownBy(() -> bookingService.createBooking(creationDto))
+                .isInstanceOf(BookingConflictException.class)
+                .hasMessageContaining(propertyId.toString());
+
+        verifyNoInteractions(bookingWriter);
+    }
+
+    @Test
+    void createBooking_WhenConstraintRejectsDates_ShouldThrowConflictAndFreeIndex() {
+        var booking = createBooking(BookingStatus.CONFIRMED);
+
+        when(bookingMapper.toBookingEntity(creationDto)).thenReturn(booking);
+        when(bookingWriter.insert(booking)).thenThrow(BookingConflictException.forDates(propertyId, checkIn, checkOut));
+
+        assertThatThrownBy(() -> bookingService.createBooking(creationDto))
+                .isInstanceOf(BookingConflictException.class);
+
+        verify(bookingWriter, times(1)).insert(booking);
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isTrue();
+    }
+
+    @Test
+    void createBooking_WhenTransientFailure_ShouldRetry() {
+        var booking = createBooking(BookingStatus.CONFIRMED);
+
+        when(bookingMapper.toBookingEntity(creationDto)).thenReturn(booking);
+        when(bookingWriter.insert(booking))
+                .thenThrow(new CannotAcquireLockException("lock timeout"))
+                .thenReturn(booking);
+        when(bookingMapper.toBookingDto(booking)).thenReturn(toDto(booking));
+
+        var result = bookingService.createBooking(creationDto);
+
+        assertThat(result.id()).isEqualTo(bookingId);
+        verify(bookingWriter, times(2)).insert(booking);
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isFalse();
+    }
+
+    @Test
+    void createBooking_WhenTransientFailuresPersist_ShouldGiveUpAfterMaxAttempts() {
+        var booking = createBooking(BookingStatus.CONFIRMED);
+
+        when(bookingMapper.toBookingEntity(creationDto)).thenReturn(booking);
+        when(bookingWriter.insert(booking)).thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        assertThatThrownBy(() -> bookingService.createBooking(creationDto))
+                .isInstanceOf(CannotAcquireLockException.class);
+
+        verify(bookingWriter, times(3)).insert(booking);
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isTrue();
+    }
+
+    @Test
+    void createBooking_WithHold_ShouldConsumeHoldInsteadOfReserving() {
+        var holdId = UUID.randomUUID();
+        var dtoWithHold = new BookingCreationDto(propertyId, guestId, checkIn, checkOut, holdId);
+        var booking = createBooking(BookingStatus.CONFIRMED);
+
+        when(bookingMapper.toBookingEntity(dtoWithHold)).thenReturn(booking);
+        when(bookingWriter.insert(booking)).thenReturn(booking);
+        when(bookingMapper.toBookingDto(booking)).thenReturn(toDto(booking));
+
+        bookingService.createBooking(dtoWithHold);
+
+        verify(holdManager).consume(holdId, propertyId, guestId, checkIn, checkOut);
+        verify(availabilityIndex, never()).tryReserve(any(), any(), any());
+    }
+
+    @Test
+    void createBooking_WhenHoldUnknown_ShouldThrowHoldNotFound() {
+        var holdId = UUID.randomUUID();
+        var dtoWithHold = new BookingCreationDto(propertyId, guestId, checkIn, checkOut, holdId);
+
+        doThrow(HoldNotFoundException.forHold(holdId)).when(holdManager).consume(holdId, propertyId, guestId, checkIn, checkOut);
+
+        assertThatThrownBy(() -> bookingService.createBooking(dtoWithHold))
+                .isInstanceOf(HoldNotFoundException.class);
+
+        verifyNoInteractions(bookingWriter);
+    }
+
+    @Test
+    void placeHold_WhenCheckOutNotAfterCheckIn_ShouldThrowBookingServiceException() {
+        var invalidDto = new HoldCreationDto(propertyId, guestId, checkOut, checkIn);
+
+        assertThatThrownBy(() -> bookingService.placeHold(invalidDto))
+                .isInstanceOf(BookingServiceException.class);
+
+        verifyNoInteractions(holdManager);
+    }
+
+    @Test
+    void createBooking_WhenCheckOutNotAfterCheckIn_ShouldThrowBookingServiceException() {
+        var invalidDto = new BookingCreationDto(propertyId, guestId, checkOut, checkIn);
+
+        assertThatThrownBy(() -> bookingService.createBooking(invalidDto))
+                .isInstanceOf(BookingServiceException.class);
+
+        verifyNoInteractions(bookingWriter);
+    }
+
+    @Test
+    void cancelBooking_ShouldMarkCancelledAndFreeDates() {
+        var booking = createBooking(BookingStatus.CONFIRMED);
+        availabilityIndex.tryReserve(propertyId, checkIn, checkOut);
+
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        when(bookingMapper.toBookingDto(booking)).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        var result = bookingService.cancelBooking(bookingId);
+
+        assertThat(result.status()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(availabilityIndex.isAvailable(propertyId, checkIn, checkOut)).isTrue();
+        verify(outbox).record(BookingEventType.BOOKING_CANCELLED, booking);
+    }
+
+    @Test
+    void getBookingById_WhenNotExists_ShouldThrowBookingNotFoundException() {
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookingService.getBookingById(bookingId))
+                .isInstanceOf(BookingNotFoundException.class)
+                .hasMessageContaining(bookingId.toString());
+    }
+
+    @Test
+    void checkAvailability_ShouldAnswerFromIndex() {
+        availabilityIndex.tryReserve(propertyId, checkIn, checkOut);
+
+        assertThat(bookingService.checkAvailability(propertyId, checkIn, checkOut).available()).isFalse();
+        assertThat(bookingService.checkAvailability(propertyId, checkOut, checkOut.plusDays(2)).available()).isTrue();
+        verifyNoInteractions(bookingRepository);
+    }
+
+    private Booking createBooking(BookingStatus status) {
+        var booking = new Booking(propertyId, guestId, checkIn, checkOut, status);
+        booking.setId(bookingId);
+        booking.setCreatedAt(LocalDateTime.now());
+        return booking;
+    }
+
+    private BookingDto toDto(Booking booking) {
+        return new BookingDto(booking.getId(), booking.getPropertyId(), booking.getGuestId(), booking.getCheckIn(),
+                booking.getCheckOut(), booking.getStatus(), booking.getCreatedAt());
+    }
+}
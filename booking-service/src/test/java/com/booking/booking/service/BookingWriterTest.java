@@ -0,0 +1,68 @@
+package com.booking.booking.service;
+
+import com.booking.booking.entity.Booking;
+import com.booking.booking.entity.BookingStatus;
+import com.booking.booking.exception.BookingConflictException;
+import com.booking.booking.outbox.BookingEventType;
+import com.booking.booking.outbox.BookingOutbox;
+import com.booking.booking.repository.BookingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingWriterTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingOutbox outbox;
+
+    @InjectMocks
+    private BookingWriter bookingWriter;
+
+    private final Booking booking = new Booking(UUID.randomUUID(), UUID.randomUUID(),
+            LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 5), BookingStatus.CONFIRMED);
+
+    @Test
+    void insert_Success() {
+        when(bookingRepository.saveAndFlush(booking)).thenReturn(booking);
+
+        assertThat(bookingWriter.insert(booking)).isSameAs(booking);
+        verify(outbox).record(BookingEventType.BOOKING_CONFIRMED, booking);
+    }
+
+    @Test
+    void insert_WhenExclusionConstraintViolated_ShouldThrowBookingConflictException() {
+        var cause = new SQLException("conflicting key value violates exclusion constraint", BookingWriter.EXCLUSION_VIOLATION);
+        when(bookingRepository.saveAndFlush(booking)).thenThrow(new DataIntegrityViolationException("overlap", cause));
+
+        assertThatThrownBy(() -> bookingWriter.insert(booking))
+                .isInstanceOf(BookingConflictException.class)
+                .hasMessageContaining(booking.getPropertyId().toString());
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    void insert_WhenOtherIntegrityViolation_ShouldRethrow() {
+        var cause = new SQLException("new row violates check constraint", "23514");
+        when(bookingRepository.saveAndFlush(booking)).thenThrow(new DataIntegrityViolationException("check", cause));
+
+        assertThatThrownBy(() -> bookingWriter.insert(booking))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.booking.common.event;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Bounded pool of output buffers. Buffers that grew past {@code maxRetainedBytes} while writing an unusually
+ * large event are dropped instead of returned, so the pool never pins more than
+ * {@code capacity * maxRetainedBytes} of memory.
+ */
+final class BufferPool {
+
+    private final ArrayBlockingQueue<ByteArrayBuilder> buffers;
+    private final int initialBytes;
+    private final int maxRetainedBytes;
+
+    BufferPool(int capacity, int initialBytes, int maxRetainedBytes) {
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+        this.initialBytes = initialBytes;
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    ByteArrayBuilder acquire() {
+        var buffer = buffers.poll();
+        return buffer != null ? buffer : new ByteArrayBuilder(initialBytes);
+    }
+
+    void release(ByteArrayBuilder buffer) {
+        // the current segment is the largest one a builder keeps across resets
+        if (buffer.getCurrentSegment().length > maxRetainedBytes) {
+            return;
+        }
+        buffer.reset();
+        buffers.offer(buffer);
+    }
+
+    int available() {
+        return buffers.size();
+    }
+}
@@ -0,0 +1,18 @@
+package com.booking.common.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Wire format shared by all services' Kafka events.
+ * <p>
+ * {@code version} is the aggregate version the event was produced from, or 0 for aggregates that are not
+ * versioned; consumers that need ordering keep the highest version seen per {@code aggregateId}.
+ * {@code id} is unique per event and can be used to discard redelivered duplicates.
+ */
+public record EventEnvelope<T>(UUID id, String type, UUID aggregateId, long version, Instant timestamp, T payload) {
+
+    public static <T> EventEnvelope<T> of(String type, UUID aggregateId, long version, T payload) {
+        return new EventEnvelope<>(UUID.randomUUID(), type, aggregateId, version, Instant.now(), payload);
+    }
+}
@@ -0,0 +1,8 @@
+package com.booking.common.event;
+
+public class EventSerializationException extends RuntimeException {
+
+    public EventSerializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
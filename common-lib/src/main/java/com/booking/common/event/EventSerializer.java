@@ -0,0 +1,71 @@
+package com.booking.common.event;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Converts {@link EventEnvelope}s to and from JSON bytes. Thread-safe and meant to be shared: the writer and
+ * one reader per payload type are built once and reused, and output is written into pooled buffers so the
+ * only allocation per event is the resulting array.
+ */
+public final class EventSerializer {
+
+    private static final int DEFAULT_POOL_CAPACITY = 64;
+    private static final int INITIAL_BUFFER_BYTES = 2 * 1024;
+    private static final int MAX_RETAINED_BUFFER_BYTES = 64 * 1024;
+
+    private final ObjectMapper mapper;
+    private final ObjectWriter writer;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final BufferPool buffers;
+
+    public EventSerializer() {
+        this(DEFAULT_POOL_CAPACITY);
+    }
+
+    public EventSerializer(int poolCapacity) {
+        this.mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.writer = mapper.writerFor(EventEnvelope.class);
+        this.buffers = new BufferPool(poolCapacity, INITIAL_BUFFER_BYTES, MAX_RETAINED_BUFFER_BYTES);
+    }
+
+    public byte[] serialize(EventEnvelope<?> envelope) {
+        var buffer = buffers.acquire();
+        try {
+            writer.writeValue(buffer, envelope);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new EventSerializationException("Failed to serialize " + envelope.type() + " event " + envelope.id(), e);
+        } finally {
+            buffers.release(buffer);
+        }
+    }
+
+    public <T> EventEnvelope<T> deserialize(byte[] data, Class<T> payloadType) {
+        try {
+            return readerFor(payloadType).readValue(data);
+        } catch (IOException e) {
+            throw new EventSerializationException("Failed to deserialize event with " + payloadType.getSimpleName() + " payload", e);
+        }
+    }
+
+    int pooledBuffers() {
+        return buffers.available();
+    }
+
+    private ObjectReader readerFor(Class<?> payloadType) {
+        return readers.computeIfAbsent(payloadType, type ->
+                mapper.readerFor(mapper.getTypeFactory().constructParametricType(EventEnvelope.class, type)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.booking.common.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Publishes the named timers as histograms with a bucket at every SLO boundary, so the share of requests within
+ * each SLO can be read straight from Prometheus. The expected range caps the number of generated buckets.
+ */
+public class LatencyHistogramFilter implements MeterFilter {
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+
+    private final Set<String> timerNames;
+    private final double[] sloNanos;
+    private final Duration maxExpected;
+
+    public LatencyHistogramFilter(Set<String> timerNames, Duration[] slo, Duration maxExpected) {
+        this.timerNames = Set.copyOf(timerNames);
+        this.sloNanos = Arrays.stream(slo).mapToDouble(Duration::toNanos).toArray();
+        this.maxExpected = maxExpected;
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (!timerNames.contains(id.getName())) {
+            return config;
+        }
+        return DistributionStatisticConfig.builder()
+                .percentilesHistogram(true)
+                .serviceLevelObjectives(sloNanos)
+                .minimumExpectedValue((double) MIN_EXPECTED.toNanos())
+                .maximumExpectedValue((double) maxExpected.toNanos())
+                .build()
+                .merge(config);
+    }
+}
@@ -0,0 +1,20 @@
+package com.booking.common.outbox;
+
+import java.util.UUID;
+
+/**
+ * A row of a service's outbox table as seen by {@link OutboxRelay}. The payload is a serialized
+ * {@link com.booking.common.event.EventEnvelope} and is sent as-is.
+ */
+public interface OutboxMessage {
+
+    Long getId();
+
+    UUID getAggregateId();
+
+    long getAggregateVersion();
+
+    Enum<?> getEventType();
+
+    byte[] getPayload();
+}
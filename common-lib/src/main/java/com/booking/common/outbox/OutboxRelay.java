@@ -0,0 +1,100 @@
+package com.booking.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes outbox rows to Kafka in batches, keyed by aggregate id so that all versions of an aggregate land on one
+ * partition in order, and deletes them once the broker has acknowledged them.
+ * <p>
+ * A batch is claimed for {@code claimLease} and that claim is committed before anything is sent, so no transaction
+ * stays open while waiting for acks. All records are handed to the producer before waiting, so they share
+ * linger-based batches and compression. Rows are deleted up to the first failed send and the claims on the rest are
+ * released, so they are re-sent on the next run; consumers discard the duplicates by version. If the relay dies
+ * mid-batch, its claims expire and another instance picks the rows up.
+ */
+@Slf4j
+public class OutboxRelay<E extends OutboxMessage> {
+
+    public static final String EVENT_TYPE_HEADER = "event-type";
+    public static final String VERSION_HEADER = "version";
+
+    private final OutboxStore<E> store;
+    private final Producer<String, byte[]> producer;
+    private final String topic;
+    private final int batchSize;
+    private final Duration ackTimeout;
+    private final Duration claimLease;
+
+    public OutboxRelay(OutboxStore<E> store, Producer<String, byte[]> producer, String topic,
+                       int batchSize, Duration ackTimeout, Duration claimLease) {
+        if (claimLease.compareTo(ackTimeout) <= 0) {
+            throw new IllegalArgumentException("Outbox claim lease " + claimLease + " must be longer than the ack timeout " + ackTimeout);
+        }
+        this.store = store;
+        this.producer = producer;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.ackTimeout = ackTimeout;
+        this.claimLease = claimLease;
+    }
+
+    public void relay() {
+        var events = store.claimNextBatch(batchSize, claimLease.toSeconds());
+        if (events.isEmpty()) {
+            return;
+        }
+
+        var sends = new ArrayList<Future<RecordMetadata>>(events.size());
+        for (var event : events) {
+            sends.add(producer.send(toRecord(event)));
+        }
+        producer.flush();
+
+        var acked = awaitAcknowledged(events, sends);
+        if (!acked.isEmpty()) {
+            store.deleteAllByIdInBatch(acked);
+        }
+        if (acked.size() < events.size()) {
+            store.releaseClaims(events.subList(acked.size(), events.size()).stream().map(OutboxMessage::getId).toList());
+        }
+        log.debug("Relayed {} of {} outbox events to {}", acked.size(), events.size(), topic);
+    }
+
+    private List<Long> awaitAcknowledged(List<E> events, List<Future<RecordMetadata>> sends) {
+        var acked = new ArrayList<Long>(events.size());
+        long deadline = System.nanoTime() + ackTimeout.toNanos();
+
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acked.add(events.get(i).getId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Failed to publish outbox event {}, will retry: {}", events.get(i).getId(), e.getMessage());
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return acked;
+    }
+
+    private ProducerRecord<String, byte[]> toRecord(E event) {
+        var record = new ProducerRecord<>(topic, event.getAggregateId().toString(), event.getPayload());
+        record.headers().add(EVENT_TYPE_HEADER, event.getEventType().name().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(VERSION_HEADER, Long.toString(event.getAggregateVersion()).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,24 @@
+package com.booking.common.outbox;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox table operations used by {@link OutboxRelay}. Each method runs and commits in its own short transaction,
+ * so no row lock is held while the relay waits for the broker.
+ */
+public interface OutboxStore<E extends OutboxMessage> {
+
+    /**
+     * Claims up to {@code limit} of the oldest rows that are unclaimed or whose claim has expired, for
+     * {@code leaseSeconds}, and returns them ordered by id. Rows locked by a concurrent claim are skipped.
+     */
+    List<E> claimNextBatch(int limit, long leaseSeconds);
+
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+
+    /**
+     * Drops the claims on rows that were not published, so the next run picks them up without waiting for the lease.
+     */
+    void releaseClaims(Collection<Long> ids);
+}
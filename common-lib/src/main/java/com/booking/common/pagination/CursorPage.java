@@ -0,0 +1,20 @@
+package com.booking.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A slice of a keyset-paginated list. {@code nextCursor} is null on the last page.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    /**
+     * Builds a page from {@code limit + 1} fetched rows: the extra row only signals that more data exists.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit, Function<E, Cursor> cursorOf, Function<E, T> mapper) {
+        var hasNext = rows.size() > limit;
+        var pageRows = hasNext ? rows.subList(0, limit) : rows;
+        var nextCursor = hasNext ? cursorOf.apply(pageRows.get(limit - 1)).encode() : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,7 @@
+package com.booking.common.pagination;
+
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String token) {
+        super("Invalid pagination cursor: " + token);
+    }
+}
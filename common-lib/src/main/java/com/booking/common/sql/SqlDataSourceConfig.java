@@ -0,0 +1,36 @@
+package com.booking.common.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Routes every JDBC call through datasource-proxy so {@link SqlStatementListener} can count and time it.
+ * Needs nothing else from the context, so JPA test slices can import it to assert statement counts.
+ */
+@Configuration
+public class SqlDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatementDataSourceProxy(
+            @Value("${sql.instrumentation.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold) {
+        var listener = new SqlStatementListener(slowQueryThreshold);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
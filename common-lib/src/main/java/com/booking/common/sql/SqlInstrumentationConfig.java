@@ -0,0 +1,27 @@
+package com.booking.common.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Per-request SQL counting for a web service: the DataSource proxy, the filter publishing the counts
+ * as metrics and, with {@code sql.instrumentation.debug-headers=true}, the response headers.
+ */
+@Configuration
+@Import(SqlDataSourceConfig.class)
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public SqlStatementMetricsFilter sqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+        return new SqlStatementMetricsFilter(meterRegistry);
+    }
+
+    @Bean
+    public SqlStatementHeaderAdvice sqlStatementHeaderAdvice(
+            @Value("${sql.instrumentation.debug-headers:false}") boolean debugHeaders) {
+        return new SqlStatementHeaderAdvice(debugHeaders);
+    }
+}
@@ -0,0 +1,43 @@
+package com.booking.common.sql;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * In debug mode, reports the SQL run so far as {@value #STATEMENT_COUNT_HEADER} and {@value #STATEMENT_TIME_HEADER}.
+ * Added just before the body is written, after the service call and its transaction have completed.
+ */
+@RestControllerAdvice
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String STATEMENT_TIME_HEADER = "X-Sql-Statement-Time-Ms";
+
+    private final boolean debugHeaders;
+
+    public SqlStatementHeaderAdvice(boolean debugHeaders) {
+        this.debugHeaders = debugHeaders;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return debugHeaders;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        var stats = SqlStatementStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, Integer.toString(stats.statements()));
+            response.getHeaders().set(STATEMENT_TIME_HEADER, Long.toString(stats.time().toMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,77 @@
+package com.booking.common.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Counts every JDBC execution into the current {@link SqlStatementStats} and logs executions slower than
+ * the threshold. Slow queries are logged with the types of their bind parameters only, never the values.
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = "sqlStatementStartNanos";
+
+    private final long slowQueryThresholdNanos;
+
+    public SqlStatementListener(Duration slowQueryThreshold) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var elapsed = System.nanoTime() - execInfo.getCustomValue(START_NANOS, Long.class);
+        var stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.record(elapsed);
+        }
+        if (elapsed >= slowQueryThresholdNanos) {
+            for (var query : queryInfoList) {
+                log.warn("Slow SQL ({} ms{}{}): {} params={}",
+                        Duration.ofNanos(elapsed).toMillis(),
+                        execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "",
+                        execInfo.isSuccess() ? "" : ", failed",
+                        query.getQuery(),
+                        parameterShape(query));
+            }
+        }
+    }
+
+    /**
+     * Types of the first parameter set in bind order, e.g. {@code [UUID, String, null]}.
+     */
+    static String parameterShape(QueryInfo query) {
+        if (query.getParametersList().isEmpty()) {
+            return "[]";
+        }
+        return query.getParametersList().get(0).stream()
+                .sorted(Comparator.comparingInt(SqlStatementListener::parameterIndex))
+                .map(SqlStatementListener::parameterType)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static int parameterIndex(ParameterSetOperation operation) {
+        return operation.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE;
+    }
+
+    private static String parameterType(ParameterSetOperation operation) {
+        var args = operation.getArgs();
+        if (ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        return args[1].getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,51 @@
+package com.booking.common.sql;
+
+import java.time.Duration;
+
+/**
+ * SQL executed on the current thread between {@link #start()} and {@link #stop()}, one JDBC execution per
+ * statement; a JDBC batch counts once. Bound to the request thread by {@link SqlStatementMetricsFilter};
+ * tests can use it the same way to assert how many statements a call runs.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private SqlStatementStats() {
+    }
+
+    public static SqlStatementStats start() {
+        var stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * @return stats of the current thread, or null when nothing is being counted
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static SqlStatementStats stop() {
+        var stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void record(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration time() {
+        return Duration.ofNanos(nanos);
+    }
+}
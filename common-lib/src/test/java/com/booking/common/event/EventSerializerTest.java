@@ -0,0 +1,69 @@
+package com.booking.common.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EventSerializerTest {
+
+    private final EventSerializer serializer = new EventSerializer(2);
+
+    @Test
+    void serialize_ShouldRoundTripEnvelopeWithTypedPayload() {
+        var payload = new Sample(UUID.randomUUID(), "Villa", new BigDecimal("120.50"), LocalDateTime.of(2025, 7, 1, 10, 15, 30, 123456000));
+        var envelope = EventEnvelope.of("PROPERTY_CREATED", payload.id(), 3, payload);
+
+        var decoded = serializer.deserialize(serializer.serialize(envelope), Sample.class);
+
+        assertThat(decoded).isEqualTo(envelope);
+    }
+
+    @Test
+    void serialize_ShouldWriteDatesAsIsoStrings() {
+        var envelope = EventEnvelope.of("PROPERTY_CREATED", UUID.randomUUID(), 0,
+                new Sample(UUID.randomUUID(), "Villa", BigDecimal.ONE, LocalDateTime.of(2025, 7, 1, 10, 0)));
+
+        var json = new String(serializer.serialize(envelope));
+
+        assertThat(json).contains("\"createdAt\":\"2025-07-01T10:00:00\"", "\"timestamp\":\"" + envelope.timestamp() + "\"");
+    }
+
+    @Test
+    void deserialize_ShouldIgnoreUnknownPayloadFields() {
+        var json = """
+                {"id":"%s","type":"T","aggregateId":"%s","version":1,"timestamp":"2025-07-01T10:00:00Z",
+                 "payload":{"id":"%s","name":"Villa","extra":true}}""".formatted(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        var decoded = serializer.deserialize(json.getBytes(), Sample.class);
+
+        assertThat(decoded.payload().name()).isEqualTo("Villa");
+    }
+
+    @Test
+    void deserialize_WhenMalformed_ShouldThrowEventSerializationException() {
+        assertThatThrownBy(() -> serializer.deserialize("not-json".getBytes(), Sample.class))
+                .isInstanceOf(EventSerializationException.class)
+                .hasMessageContaining("Sample");
+    }
+
+    @Test
+    void serialize_ShouldReturnBuffersToPoolButDropOversizedOnes() {
+        var small = EventEnvelope.of("T", UUID.randomUUID(), 0, "x");
+        serializer.serialize(small);
+        assertThat(serializer.pooledBuffers()).isEqualTo(1);
+
+        var large = EventEnvelope.of("T", UUID.randomUUID(), 0, "x".repeat(200_000));
+        var bytes = serializer.serialize(large);
+
+        assertThat(serializer.deserialize(bytes, String.class).payload()).hasSize(200_000);
+        assertThat(serializer.pooledBuffers()).isZero();
+    }
+
+    record Sample(UUID id, String name, BigDecimal price, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.booking.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    LatencyHistogramFilterTest() {
+        registry.config().meterFilter(new LatencyHistogramFilter(Set.of("spring.data.repository.invocations"),
+                new Duration[]{Duration.ofMillis(10), Duration.ofMillis(50)}, Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void configure_ShouldPublishSloBucketsForNamedTimers() {
+        var timer = Timer.builder("spring.data.repository.invocations").register(registry);
+
+        timer.record(30, TimeUnit.MILLISECONDS);
+
+        var buckets = timer.takeSnapshot().histogramCounts();
+        assertThat(bucketCount(buckets, Duration.ofMillis(10))).isZero();
+        assertThat(bucketCount(buckets, Duration.ofMillis(50))).isEqualTo(1);
+    }
+
+    @Test
+    void configure_ShouldLeaveOtherTimersAlone() {
+        var timer = Timer.builder("jvm.gc.pause").register(registry);
+
+        timer.record(30, TimeUnit.MILLISECONDS);
+
+        assertThat(timer.takeSnapshot().histogramCounts()).isEmpty();
+    }
+
+    private static double bucketCount(CountAtBucket[] buckets, Duration bound) {
+        return Arrays.stream(buckets)
+                .filter(bucket -> bucket.bucket() == bound.toNanos())
+                .findFirst()
+                .orElseThrow()
+                .count();
+    }
+}
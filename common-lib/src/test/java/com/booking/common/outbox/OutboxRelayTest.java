@@ -0,0 +1,159 @@
+package com.booking.common.outbox;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final String TOPIC = "test-events";
+
+    private final FakeStore store = new FakeStore();
+
+    @Test
+    void shouldNotSendWhenOutboxEmpty() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+
+        relay(producer).relay();
+
+        assertThat(producer.history()).isEmpty();
+        assertThat(store.deleted).isEmpty();
+        assertThat(store.released).isEmpty();
+    }
+
+    @Test
+    void shouldPublishBatchWithTypeAndVersionHeadersAndDeleteAckedRows() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var created = message(1L, 0, TestEventType.CREATED);
+        var updated = message(2L, 1, TestEventType.UPDATED);
+        store.pending.addAll(List.of(created, updated));
+
+        relay(producer).relay();
+
+        assertThat(store.leaseSeconds).isEqualTo(120);
+        assertThat(producer.history()).hasSize(2);
+        var record = producer.history().get(1);
+        assertThat(record.topic()).isEqualTo(TOPIC);
+        assertThat(record.key()).isEqualTo(updated.aggregateId().toString());
+        assertThat(record.value()).isEqualTo(updated.payload());
+        assertThat(header(record, OutboxRelay.EVENT_TYPE_HEADER)).isEqualTo("UPDATED");
+        assertThat(header(record, OutboxRelay.VERSION_HEADER)).isEqualTo("1");
+        assertThat(store.deleted).containsExactly(1L, 2L);
+        assertThat(store.released).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeleteRowsBeforeFirstFailureAndReleaseTheRest() {
+        Producer<String, byte[]> producer = mock(Producer.class);
+        store.pending.addAll(List.of(message(1L, 0, TestEventType.CREATED), message(2L, 1, TestEventType.UPDATED),
+                message(3L, 2, TestEventType.UPDATED)));
+        when(producer.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(metadata()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(metadata()));
+
+        relay(producer).relay();
+
+        verify(producer, times(3)).send(any(ProducerRecord.class));
+        assertThat(store.deleted).containsExactly(1L);
+        assertThat(store.released).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void shouldRejectLeaseNotLongerThanAckTimeout() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+
+        assertThatThrownBy(() -> new OutboxRelay<>(store, producer, TOPIC, 100, Duration.ofSeconds(30), Duration.ofSeconds(30)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OutboxRelay<TestMessage> relay(Producer<String, byte[]> producer) {
+        return new OutboxRelay<>(store, producer, TOPIC, 100, Duration.ofSeconds(5), Duration.ofMinutes(2));
+    }
+
+    private static TestMessage message(Long id, long version, TestEventType type) {
+        return new TestMessage(id, UUID.randomUUID(), version, type, "{\"name\":\"test\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+    private static RecordMetadata metadata() {
+        return new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, 0, 0, 0);
+    }
+
+    private enum TestEventType { CREATED, UPDATED }
+
+    private record TestMessage(Long id, UUID aggregateId, long aggregateVersion, TestEventType eventType, byte[] payload)
+            implements OutboxMessage {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public UUID getAggregateId() {
+            return aggregateId;
+        }
+
+        @Override
+        public long getAggregateVersion() {
+            return aggregateVersion;
+        }
+
+        @Override
+        public TestEventType getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public byte[] getPayload() {
+            return payload;
+        }
+    }
+
+    private static class FakeStore implements OutboxStore<TestMessage> {
+
+        private final List<TestMessage> pending = new ArrayList<>();
+        private final List<Long> deleted = new ArrayList<>();
+        private final List<Long> released = new ArrayList<>();
+        private long leaseSeconds;
+
+        @Override
+        public List<TestMessage> claimNextBatch(int limit, long leaseSeconds) {
+            this.leaseSeconds = leaseSeconds;
+            return List.copyOf(pending.subList(0, Math.min(limit, pending.size())));
+        }
+
+        @Override
+        public void deleteAllByIdInBatch(Iterable<Long> ids) {
+            ids.forEach(deleted::add);
+        }
+
+        @Override
+        public void releaseClaims(Collection<Long> ids) {
+            released.addAll(ids);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.booking.common.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CursorTest {
+
+    @Test
+    void encode_ShouldRoundTrip() {
+        var cursor = new Cursor(LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123456000), UUID.randomUUID());
+
+        var decoded = Cursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_WhenTokenMalformed_ShouldThrowInvalidCursorException() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("not-a-cursor");
+    }
+
+    @Test
+    void of_WhenMoreRowsThanLimit_ShouldTrimAndReturnNextCursor() {
+        var rows = List.of(row(1), row(2), row(3));
+
+        var page = CursorPage.of(rows, 2, r -> r, Cursor::id);
+
+        assertThat(page.content()).containsExactly(rows.get(0).id(), rows.get(1).id());
+        assertThat(Cursor.decode(page.nextCursor())).isEqualTo(rows.get(1));
+    }
+
+    @Test
+    void of_WhenLastPage_ShouldReturnNullCursor() {
+        var rows = List.of(row(1), row(2));
+
+        var page = CursorPage.of(rows, 2, r -> r, Cursor::id);
+
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    private Cursor row(int minute) {
+        return new Cursor(LocalDateTime.of(2024, 1, 1, 0, minute), UUID.randomUUID());
+    }
+}
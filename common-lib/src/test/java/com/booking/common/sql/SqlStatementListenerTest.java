@@ -0,0 +1,78 @@
+package com.booking.common.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlStatementListenerTest {
+
+    private final SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(1));
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementStats.stop();
+    }
+
+    @Test
+    void afterQuery_WhenCounting_ShouldRecordEachExecution() {
+        SqlStatementStats.start();
+
+        execute(new QueryInfo("select * from users where id = ?"));
+        execute(new QueryInfo("update users set first_name = ? where id = ?"));
+
+        var stats = SqlStatementStats.current();
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(stats.time()).isPositive();
+    }
+
+    @Test
+    void afterQuery_WhenNotCounting_ShouldOnlyTimeTheQuery() {
+        execute(new QueryInfo("select 1"));
+
+        assertThat(SqlStatementStats.current()).isNull();
+    }
+
+    @Test
+    void parameterShape_ShouldListTypesInBindOrderWithoutValues() throws NoSuchMethodException {
+        var query = new QueryInfo("update users set first_name = ?, last_name = ?, version = ? where id = ?");
+        query.setParametersList(List.of(List.of(
+                set("setObject", 11, UUID.randomUUID()),
+                set("setNull", 2, Types.VARCHAR),
+                set("setString", 1, "John"),
+                set("setLong", 3, 4L))));
+
+        assertThat(SqlStatementListener.parameterShape(query)).isEqualTo("[String, null, Long, UUID]");
+    }
+
+    @Test
+    void parameterShape_WhenNoParameters_ShouldBeEmpty() {
+        assertThat(SqlStatementListener.parameterShape(new QueryInfo("select 1"))).isEqualTo("[]");
+    }
+
+    private void execute(QueryInfo query) {
+        var execInfo = new ExecutionInfo();
+        execInfo.setSuccess(true);
+        listener.beforeQuery(execInfo, List.of(query));
+        listener.afterQuery(execInfo, List.of(query));
+    }
+
+    private static ParameterSetOperation set(String method, int index, Object value) throws NoSuchMethodException {
+        var setter = switch (method) {
+            case "setObject" -> PreparedStatement.class.getMethod(method, int.class, Object.class);
+            case "setNull" -> PreparedStatement.class.getMethod(method, int.class, int.class);
+            case "setString" -> PreparedStatement.class.getMethod(method, int.class, String.class);
+            default -> PreparedStatement.class.getMethod(method, int.class, long.class);
+        };
+        return new ParameterSetOperation(setter, new Object[]{index, value});
+    }
+}
@@ -0,0 +1,83 @@
+package com.booking.common.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlStatementMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(meterRegistry);
+
+    @Test
+    void doFilter_ShouldRecordStatementsPerEndpoint() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/{userId}");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chainRunning(3, null));
+
+        var statements = meterRegistry.get("http.server.requests.sql.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/users/{userId}")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("http.server.requests.sql.time").timer().count()).isEqualTo(1);
+        assertThat(SqlStatementStats.current()).isNull();
+    }
+
+    @Test
+    void doFilter_WhenDebugHeadersEnabled_ShouldReportCountInResponse() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/v1/users/batch");
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chainRunning(2, new SqlStatementHeaderAdvice(true)));
+
+        assertThat(response.getHeader(SqlStatementHeaderAdvice.STATEMENT_COUNT_HEADER)).isEqualTo("2");
+    }
+
+    @Test
+    void doFilter_WhenDebugHeadersDisabled_ShouldNotAddHeader() throws Exception {
+        var response = new MockHttpServletResponse();
+        var advice = new SqlStatementHeaderAdvice(false);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users"), response, chainRunning(1, advice));
+
+        assertThat(advice.supports(null, null)).isFalse();
+        assertThat(response.getHeader(SqlStatementHeaderAdvice.STATEMENT_COUNT_HEADER)).isNull();
+    }
+
+    /**
+     * A chain whose handler runs {@code statements} queries and then writes the body through the advice, as MVC does.
+     */
+    private static MockFilterChain chainRunning(int statements, SqlStatementHeaderAdvice advice) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                for (var i = 0; i < statements; i++) {
+                    SqlStatementStats.current().record(1_000_000);
+                }
+                if (advice != null && advice.supports(null, null)) {
+                    var serverResponse = new ServletServerHttpResponse(response);
+                    advice.beforeBodyWrite("body", (MethodParameter) null, MediaType.APPLICATION_JSON, null,
+                            new ServletServerHttpRequest(request), serverResponse);
+                    serverResponse.flush();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.booking.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fills the services' databases directly with set-based inserts: going through the APIs would take
+ * hours for millions of rows and would also flood the outboxes. Runs after the services have applied
+ * their migrations, and finishes with ANALYZE so the planner sees the real table sizes.
+ */
+@Slf4j
+public class DataSeeder {
+
+    private static final int CHUNK_SIZE = 500_000;
+    private static final int SAMPLE_SIZE = 100_000;
+
+    private final LoadTestConfig config;
+
+    public DataSeeder(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public SeededData seed(String userDbUrl, String propertyDbUrl, String username, String password) throws SQLException {
+        try (var users = DriverManager.getConnection(userDbUrl, username, password);
+             var properties = DriverManager.getConnection(propertyDbUrl, username, password)) {
+            seedUsers(users);
+            var ownerIds = selectIds(users, "SELECT id FROM users ORDER BY random() LIMIT " + config.owners());
+            seedProperties(properties, ownerIds);
+
+            execute(users, "ANALYZE users");
+            execute(properties, "ANALYZE properties");
+            execute(properties, "ANALYZE owners");
+
+            var userIds = sample(users, "users");
+            var propertyIds = sample(properties, "properties");
+            log.info("Seeding finished: {} users, {} properties, {} owners", config.users(), config.properties(), ownerIds.size());
+            return new SeededData(userIds, propertyIds, ownerIds);
+        }
+    }
+
+    private void seedUsers(Connection connection) throws SQLException {
+        for (long from = 1; from <= config.users(); from += CHUNK_SIZE) {
+            var to = Math.min(from + CHUNK_SIZE - 1, config.users());
+            execute(connection, """
+                    INSERT INTO users (id, first_name, last_name, email, created_at, is_deleted, version)
+                    SELECT gen_random_uuid(), 'First' || g, 'Last' || g, 'user' || g || '@load.test',
+                           now() - make_interval(secs => g), false, 0
+                    FROM generate_series(%d, %d) g
+                    """.formatted(from, to));
+            log.info("Seeded users {}/{}", to, config.users());
+        }
+    }
+
+    private void seedProperties(Connection connection, List<UUID> ownerIds) throws SQLException {
+        execute(connection, "CREATE TEMPORARY TABLE load_owner_ids (n INT PRIMARY KEY, id UUID NOT NULL)");
+        try (var statement = connection.prepareStatement(
+                "INSERT INTO load_owner_ids (n, id) SELECT o.n - 1, o.id FROM unnest(?::uuid[]) WITH ORDINALITY AS o(id, n)")) {
+            statement.setArray(1, connection.createArrayOf("uuid", ownerIds.toArray()));
+            statement.executeUpdate();
+        }
+        if (config.seedOwnerReplica()) {
+            execute(connection, "INSERT INTO owners (id, is_deleted, version) SELECT id, false, 0 FROM load_owner_ids");
+        }
+
+        for (long from = 1; from <= config.properties(); from += CHUNK_SIZE) {
+            var to = Math.min(from + CHUNK_SIZE - 1, config.properties());
+            execute(connection, """
+                    INSERT INTO properties (id, name, description, address, city, country, property_type,
+                                            price_per_night, max_guests, owner_id, is_active, created_at)
+                    SELECT gen_random_uuid(), 'Property ' || g, 'Seeded property ' || g, g || ' Main Street',
+                           'City ' || (g %% 500), 'Country ' || (g %% 40),
+                           (ARRAY['HOTEL', 'APARTMENT', 'HOUSE', 'ROOM', 'BUNGALOW', 'VILLA'])[1 + g %% 6],
+                           10 + (g %% 98000) / 100.0, 1 + g %% 8, o.id, g %% 10 <> 0,
+                           now() - make_interval(secs => g)
+                    FROM generate_series(%d, %d) g
+                    JOIN load_owner_ids o ON o.n = g %% %d
+                    """.formatted(from, to, ownerIds.size()));
+            log.info("Seeded properties {}/{}", to, config.properties());
+        }
+        execute(connection, "DROP TABLE load_owner_ids");
+    }
+
+    private static List<UUID> sample(Connection connection, String table) throws SQLException {
+        return selectIds(connection, "SELECT id FROM %s TABLESAMPLE SYSTEM (10) LIMIT %d".formatted(table, SAMPLE_SIZE));
+    }
+
+    private static List<UUID> selectIds(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement(); var rows = statement.executeQuery(sql)) {
+            var ids = new ArrayList<UUID>();
+            while (rows.next()) {
+                ids.add(rows.getObject(1, UUID.class));
+            }
+            return ids;
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
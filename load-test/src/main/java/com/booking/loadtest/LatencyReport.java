@@ -0,0 +1,84 @@
+package com.booking.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-operation throughput and latency percentiles of the measured window.
+ * Failed requests count towards latency too: a slow 5xx costs the caller the same time.
+ */
+public record LatencyReport(Map<Operation, Histogram> histograms, Map<Operation, Long> errors,
+                            Duration elapsed, int concurrency) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String ROW = "%-16s %10s %8s %10s %9s %9s %9s %9s%n";
+
+    public void print(PrintStream out) {
+        out.printf("%nConcurrency %d, measured for %s%n", concurrency, elapsed);
+        out.printf(Locale.ROOT, ROW, "operation", "count", "errors", "ops/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (var row : rows()) {
+            out.printf(Locale.ROOT, ROW, row.toArray());
+        }
+    }
+
+    /**
+     * Writes {@code latency.csv} with one row per operation, plus the full percentile distribution
+     * of every operation as {@code <operation>.hgrm} for plotting.
+     */
+    public void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        var csv = new ArrayList<String>();
+        csv.add("operation,count,errors,ops_per_sec,p50_ms,p99_ms,p999_ms,max_ms");
+        for (var row : rows()) {
+            csv.add(String.join(",", row));
+        }
+        Files.write(dir.resolve("latency.csv"), csv);
+
+        for (var entry : histograms.entrySet()) {
+            try (var out = new PrintStream(Files.newOutputStream(dir.resolve(entry.getKey().label() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private List<List<String>> rows() {
+        var rows = new ArrayList<List<String>>();
+        var seconds = elapsed.toNanos() / 1e9;
+        long totalErrors = 0;
+        var total = new Histogram(3);
+        for (var operation : Operation.values()) {
+            var histogram = histograms.get(operation);
+            var errorCount = errors.getOrDefault(operation, 0L);
+            rows.add(row(operation.label(), histogram, errorCount, seconds));
+            totalErrors += errorCount;
+            total.add(histogram);
+        }
+        rows.add(row("total", total, totalErrors, seconds));
+        return rows;
+    }
+
+    private static List<String> row(String label, Histogram histogram, long errorCount, double seconds) {
+        return List.of(
+                label,
+                Long.toString(histogram.getTotalCount()),
+                Long.toString(errorCount),
+                format(histogram.getTotalCount() / seconds),
+                format(histogram.getValueAtPercentile(50) / NANOS_PER_MILLI),
+                format(histogram.getValueAtPercentile(99) / NANOS_PER_MILLI),
+                format(histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI),
+                format(histogram.getMaxValue() / NANOS_PER_MILLI));
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,109 @@
+package com.booking.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop driver: each virtual user sends its next request as soon as the previous one completes,
+ * so throughput is what the services sustain at the given concurrency. Latencies are recorded only
+ * after the warmup, per operation, in nanoseconds.
+ */
+@Slf4j
+public class LoadDriver {
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    public LoadDriver(HttpClient client, Workload workload) {
+        this.client = client;
+        this.workload = workload;
+        for (var operation : Operation.values()) {
+            latencies.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public LatencyReport run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        var finished = new CountDownLatch(concurrency);
+        for (var i = 0; i < concurrency; i++) {
+            var session = new Workload.Session(i);
+            var thread = new Thread(() -> {
+                try {
+                    loop(session);
+                } finally {
+                    finished.countDown();
+                }
+            }, "virtual-user-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        log.info("Warming up for {} with {} virtual users", warmup, concurrency);
+        TimeUnit.NANOSECONDS.sleep(warmup.toNanos());
+        latencies.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        recording = true;
+
+        log.info("Measuring for {}", duration);
+        var start = System.nanoTime();
+        TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        var histograms = new EnumMap<Operation, Histogram>(Operation.class);
+        latencies.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        recording = false;
+        running = false;
+
+        var errorCounts = new EnumMap<Operation, Long>(Operation.class);
+        errors.forEach((operation, count) -> errorCounts.put(operation, count.sum()));
+        if (!finished.await(30, TimeUnit.SECONDS)) {
+            log.warn("Some virtual users were still waiting on responses at shutdown");
+        }
+        return new LatencyReport(histograms, errorCounts, elapsed, concurrency);
+    }
+
+    private void loop(Workload.Session session) {
+        while (running) {
+            var operation = workload.pick(session.random());
+            var request = workload.request(operation, session);
+            var start = System.nanoTime();
+            try {
+                var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                var latency = System.nanoTime() - start;
+                if (response.statusCode() == operation.expectedStatus()) {
+                    workload.onSuccess(operation, session, response.body());
+                } else {
+                    error(operation);
+                }
+                if (recording) {
+                    latencies.get(operation).recordValue(latency);
+                }
+            } catch (IOException e) {
+                error(operation);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void error(Operation operation) {
+        if (recording) {
+            errors.get(operation).increment();
+        }
+    }
+}
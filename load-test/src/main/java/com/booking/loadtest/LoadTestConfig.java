@@ -0,0 +1,72 @@
+package com.booking.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options of a load-test run, parsed from {@code --name=value} arguments.
+ */
+public record LoadTestConfig(
+        Path userServiceJar,
+        Path propertyServiceJar,
+        Path reportDir,
+        long users,
+        long properties,
+        int owners,
+        int concurrency,
+        int batchSize,
+        Duration warmup,
+        Duration duration,
+        boolean seedOwnerReplica,
+        String postgresImage,
+        String kafkaImage
+) {
+
+    public static LoadTestConfig parse(String[] args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        var config = new LoadTestConfig(
+                Path.of(required(options, "user-service-jar")),
+                Path.of(required(options, "property-service-jar")),
+                Path.of(option(options, "report-dir", "build/reports/load-test")),
+                Long.parseLong(option(options, "users", "1000000")),
+                Long.parseLong(option(options, "properties", "2000000")),
+                Integer.parseInt(option(options, "owners", "100000")),
+                Integer.parseInt(option(options, "concurrency", "64")),
+                Integer.parseInt(option(options, "batch-size", "50")),
+                Duration.parse(option(options, "warmup", "PT30S")),
+                Duration.parse(option(options, "duration", "PT2M")),
+                Boolean.parseBoolean(option(options, "seed-owner-replica", "false")),
+                option(options, "postgres-image", "postgres:15-alpine"),
+                option(options, "kafka-image", "apache/kafka:3.8.0"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        if (config.owners() <= 0 || config.owners() > config.users()) {
+            throw new IllegalArgumentException("owners must be between 1 and users");
+        }
+        return config;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        var value = options.remove(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + name);
+        }
+        return value;
+    }
+
+    private static String option(Map<String, String> options, String name, String defaultValue) {
+        var value = options.remove(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,75 @@
+package com.booking.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.kafka.KafkaContainer;
+
+import java.net.http.HttpClient;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Starts Postgres and Kafka in containers, boots user-service and property-service from their jars
+ * against them, seeds both databases and runs the mixed workload. Both services share one Postgres
+ * instance with a database each.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String USER_DB = "users";
+    private static final String PROPERTY_DB = "properties";
+
+    public static void main(String[] args) throws Exception {
+        var config = LoadTestConfig.parse(args);
+
+        try (var postgres = new PostgreSQLContainer<>(config.postgresImage())
+                     .withDatabaseName(USER_DB)
+                     .withCommand("postgres", "-c", "max_connections=300", "-c", "shared_buffers=512MB");
+             var kafka = new KafkaContainer(config.kafkaImage())) {
+            postgres.start();
+            kafka.start();
+            try (var connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+                 var statement = connection.createStatement()) {
+                statement.execute("CREATE DATABASE " + PROPERTY_DB);
+            }
+            var userDbUrl = postgres.getJdbcUrl();
+            var propertyDbUrl = userDbUrl.replace("/" + USER_DB, "/" + PROPERTY_DB);
+
+            var client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newFixedThreadPool(Math.max(4, config.concurrency() / 4)))
+                    .build();
+            var logDir = config.reportDir().resolve("logs");
+
+            try (var userService = ServiceProcess.start("user-service", config.userServiceJar(), logDir,
+                    serviceProperties(postgres, userDbUrl, kafka.getBootstrapServers()))) {
+                userService.awaitReady(client, "/api/v1/users/scroll?size=1");
+
+                var propertyProperties = new ArrayList<>(serviceProperties(postgres, propertyDbUrl, kafka.getBootstrapServers()));
+                propertyProperties.add("--services.user-service.url=" + userService.baseUri());
+                try (var propertyService = ServiceProcess.start("property-service", config.propertyServiceJar(), logDir, propertyProperties)) {
+                    propertyService.awaitReady(client, "/api/v1/properties/scroll?size=1");
+
+                    var data = new DataSeeder(config).seed(userDbUrl, propertyDbUrl, postgres.getUsername(), postgres.getPassword());
+                    var workload = new Workload(userService.baseUri(), propertyService.baseUri(), data, config.batchSize());
+                    var report = new LoadDriver(client, workload).run(config.concurrency(), config.warmup(), config.duration());
+
+                    report.print(System.out);
+                    report.write(config.reportDir());
+                    log.info("Report written to {}", config.reportDir());
+                }
+            }
+        }
+    }
+
+    private static List<String> serviceProperties(PostgreSQLContainer<?> postgres, String jdbcUrl, String kafkaBootstrapServers) {
+        return List.of(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--kafka.bootstrap-servers=" + kafkaBootstrapServers);
+    }
+}
@@ -0,0 +1,40 @@
+package com.booking.loadtest;
+
+/**
+ * Requests in the mixed workload. Weights are relative and roughly follow a read-heavy booking site:
+ * single lookups dominate, listings and batches follow, and one request in ten creates a property,
+ * which validates its owner against user-service through the Feign client.
+ */
+public enum Operation {
+    USER_GET("user.get", 25, 200),
+    USER_BATCH("user.batch", 10, 200),
+    USER_SCROLL("user.scroll", 10, 200),
+    USER_PAGE("user.page", 5, 200),
+    PROPERTY_GET("property.get", 20, 200),
+    PROPERTY_BATCH("property.batch", 10, 200),
+    PROPERTY_OWNER("property.owner", 10, 200),
+    PROPERTY_SCROLL("property.scroll", 5, 200),
+    PROPERTY_CREATE("property.create", 10, 201);
+
+    private final String label;
+    private final int weight;
+    private final int expectedStatus;
+
+    Operation(String label, int weight, int expectedStatus) {
+        this.label = label;
+        this.weight = weight;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    public int expectedStatus() {
+        return expectedStatus;
+    }
+}
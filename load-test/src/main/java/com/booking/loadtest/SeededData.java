@@ -0,0 +1,10 @@
+package com.booking.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ids sampled from the seeded tables, used to build requests that hit existing rows.
+ */
+public record SeededData(List<UUID> userIds, List<UUID> propertyIds, List<UUID> ownerIds) {
+}
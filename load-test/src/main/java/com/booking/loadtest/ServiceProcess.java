@@ -0,0 +1,98 @@
+package com.booking.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A service started from its boot jar in a child JVM, so it runs exactly as packaged.
+ * Output goes to {@code <name>.log} in the report directory.
+ */
+@Slf4j
+public class ServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final Process process;
+    private final URI baseUri;
+
+    private ServiceProcess(String name, Process process, URI baseUri) {
+        this.name = name;
+        this.process = process;
+        this.baseUri = baseUri;
+    }
+
+    public static ServiceProcess start(String name, Path jar, Path logDir, List<String> properties) throws IOException {
+        var port = freePort();
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(properties);
+
+        Files.createDirectories(logDir);
+        var logFile = logDir.resolve(name + ".log");
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        log.info("Started {} on port {}, logging to {}", name, port, logFile);
+        return new ServiceProcess(name, process, URI.create("http://localhost:" + port));
+    }
+
+    /**
+     * Polls {@code readinessPath} until it answers 200, failing fast if the process exits.
+     */
+    public void awaitReady(HttpClient client, String readinessPath) throws InterruptedException {
+        var deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        var request = HttpRequest.newBuilder(baseUri.resolve(readinessPath)).GET().build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("%s exited with code %d during startup".formatted(name, process.exitValue()));
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("{} is ready at {}", name, baseUri);
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException("%s did not become ready within %s".formatted(name, STARTUP_TIMEOUT));
+    }
+
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            log.warn("{} did not stop within {}, killing it", name, SHUTDOWN_TIMEOUT);
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.booking.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Builds the requests of the mixed workload against the seeded data.
+ */
+public class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_OFFSET_PAGE = 100;
+    private static final int MAX_SCROLL_DEPTH = 50;
+    private static final String[] PROPERTY_TYPES = {"HOTEL", "APARTMENT", "HOUSE", "ROOM", "BUNGALOW", "VILLA"};
+
+    private final URI userService;
+    private final URI propertyService;
+    private final SeededData data;
+    private final int batchSize;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Operation[] weighted;
+
+    public Workload(URI userService, URI propertyService, SeededData data, int batchSize) {
+        this.userService = userService;
+        this.propertyService = propertyService;
+        this.data = data;
+        this.batchSize = batchSize;
+        this.weighted = weightedOperations();
+    }
+
+    public Operation pick(Random random) {
+        return weighted[random.nextInt(weighted.length)];
+    }
+
+    public HttpRequest request(Operation operation, Session session) {
+        var random = session.random();
+        return switch (operation) {
+            case USER_GET -> get(userService, "/api/v1/users/" + any(data.userIds(), random));
+            case USER_BATCH -> post(userService, "/api/v1/users/batch", anyOf(data.userIds(), random));
+            case USER_SCROLL -> get(userService, scrollPath("/api/v1/users/scroll", session.userCursor));
+            case USER_PAGE -> get(userService, "/api/v1/users?page=%d&size=%d".formatted(random.nextInt(MAX_OFFSET_PAGE), PAGE_SIZE));
+            case PROPERTY_GET -> get(propertyService, "/api/v1/properties/" + any(data.propertyIds(), random));
+            case PROPERTY_BATCH -> post(propertyService, "/api/v1/properties/batch", anyOf(data.propertyIds(), random));
+            case PROPERTY_OWNER -> get(propertyService, "/api/v1/properties/owner/" + any(data.ownerIds(), random));
+            case PROPERTY_SCROLL -> get(propertyService, scrollPath("/api/v1/properties/scroll", session.propertyCursor));
+            case PROPERTY_CREATE -> post(propertyService, "/api/v1/properties", newProperty(random));
+        };
+    }
+
+    /**
+     * Advances the session's scroll position so consecutive scroll requests walk deeper into the list,
+     * starting over after {@value #MAX_SCROLL_DEPTH} pages or at the end.
+     */
+    public void onSuccess(Operation operation, Session session, String body) {
+        if (operation == Operation.USER_SCROLL) {
+            session.userCursor = nextCursor(body, session.userPages++);
+            if (session.userCursor == null) {
+                session.userPages = 0;
+            }
+        } else if (operation == Operation.PROPERTY_SCROLL) {
+            session.propertyCursor = nextCursor(body, session.propertyPages++);
+            if (session.propertyCursor == null) {
+                session.propertyPages = 0;
+            }
+        }
+    }
+
+    private String nextCursor(String body, int depth) {
+        if (depth >= MAX_SCROLL_DEPTH) {
+            return null;
+        }
+        try {
+            JsonNode cursor = objectMapper.readTree(body).path("nextCursor");
+            return cursor.isTextual() ? cursor.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Map<String, Object> newProperty(Random random) {
+        var suffix = Integer.toUnsignedString(random.nextInt());
+        var property = new LinkedHashMap<String, Object>();
+        property.put("name", "Load test property " + suffix);
+        property.put("description", "Created by the load test");
+        property.put("address", suffix + " Load Street");
+        property.put("city", "City " + random.nextInt(500));
+        property.put("country", "Country " + random.nextInt(40));
+        property.put("propertyType", PROPERTY_TYPES[random.nextInt(PROPERTY_TYPES.length)]);
+        property.put("pricePerNight", BigDecimal.valueOf(1_000 + random.nextInt(90_000), 2));
+        property.put("maxGuests", 1 + random.nextInt(8));
+        // any seeded user, so most creations miss the owner cache and go to user-service
+        property.put("ownerId", any(data.userIds(), random));
+        return property;
+    }
+
+    private HttpRequest get(URI service, String path) {
+        return HttpRequest.newBuilder(service.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(URI service, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(service.resolve(path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String scrollPath(String path, String cursor) {
+        var query = "?size=" + PAGE_SIZE;
+        return cursor == null ? path + query : path + query + "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+    }
+
+    private HashSet<UUID> anyOf(List<UUID> ids, Random random) {
+        var picked = new HashSet<UUID>(batchSize * 2);
+        while (picked.size() < Math.min(batchSize, ids.size())) {
+            picked.add(any(ids, random));
+        }
+        return picked;
+    }
+
+    private static UUID any(List<UUID> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static Operation[] weightedOperations() {
+        var total = 0;
+        for (var operation : Operation.values()) {
+            total += operation.weight();
+        }
+        var weighted = new Operation[total];
+        var i = 0;
+        for (var operation : Operation.values()) {
+            for (var w = 0; w < operation.weight(); w++) {
+                weighted[i++] = operation;
+            }
+        }
+        return weighted;
+    }
+
+    /**
+     * Per virtual user state: its random source and where it is in each scroll.
+     */
+    public static class Session {
+
+        private final Random random;
+        private String userCursor;
+        private String propertyCursor;
+        private int userPages;
+        private int propertyPages;
+
+        public Session(long seed) {
+            this.random = new Random(seed);
+        }
+
+        public Random random() {
+            return random;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.booking.notification.channel;
+
+public enum ChannelType {
+    EMAIL,
+    SMS
+}
@@ -0,0 +1,40 @@
+package com.booking.notification.channel;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Stub email channel that writes messages to {@code email.log} in the notification output directory.
+ */
+@Component
+@Slf4j
+public class EmailChannel implements NotificationChannel {
+
+    private final FileChannelWriter writer;
+
+    public EmailChannel(@Value("${notification.output-dir:${java.io.tmpdir}/notifications}") Path outputDir) {
+        this.writer = new FileChannelWriter(outputDir.resolve("email.log"));
+    }
+
+    @Override
+    public ChannelType type() {
+        return ChannelType.EMAIL;
+    }
+
+    @Override
+    public void send(String recipient, List<String> messages) {
+        writer.write(recipient, messages);
+        log.debug("Sent {} email messages to {}", messages.size(), recipient);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,52 @@
+package com.booking.notification.channel;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appends delivered messages to a local file. Shared by the stub channels; one batch is written at a time
+ * so lines of concurrent batches never interleave.
+ */
+class FileChannelWriter implements AutoCloseable {
+
+    private final BufferedWriter writer;
+
+    FileChannelWriter(Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + file, e);
+        }
+    }
+
+    synchronized void write(String recipient, List<String> messages) {
+        try {
+            var timestamp = Instant.now().toString();
+            for (var message : messages) {
+                writer.write(timestamp);
+                writer.write('\t');
+                writer.write(recipient);
+                writer.write('\t');
+                writer.write(message.replace('\n', ' '));
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write notifications for " + recipient, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,14 @@
+package com.booking.notification.channel;
+
+import java.util.List;
+
+/**
+ * Delivery mechanism for rendered notifications. Implementations receive every message for one recipient
+ * at once so they can deliver them in a single call; they are invoked concurrently for different recipients.
+ */
+public interface NotificationChannel {
+
+    ChannelType type();
+
+    void send(String recipient, List<String> messages);
+}
@@ -0,0 +1,51 @@
+package com.booking.notification.config;
+
+import com.booking.common.event.EventSerializer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "notification.consumer.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaConsumerConfig {
+
+    @Value("${kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${notification.consumer.group-id:notification-service}")
+    private String groupId;
+
+    @Value("${notification.consumer.max-poll-records:2000}")
+    private int maxPollRecords;
+
+    @Value("${notification.consumer.fetch-min-bytes:65536}")
+    private int fetchMinBytes;
+
+    /**
+     * Owned and closed by {@link com.booking.notification.consumer.NotificationEventConsumer}'s polling thread.
+     */
+    @Bean(destroyMethod = "")
+    public Consumer<String, byte[]> notificationKafkaConsumer() {
+        return new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, groupId,
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords,
+                ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes
+        ), new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    @Bean
+    public EventSerializer eventSerializer() {
+        return new EventSerializer();
+    }
+}
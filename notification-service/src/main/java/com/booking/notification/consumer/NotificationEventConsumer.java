@@ -0,0 +1,249 @@
+package com.booking.notification.consumer;
+
+import com.booking.common.event.EventEnvelope;
+import com.booking.common.event.EventSerializer;
+import com.booking.notification.contact.ContactState;
+import com.booking.notification.contact.UserContactReplica;
+import com.booking.notification.digest.DigestBuffer;
+import com.booking.notification.dispatch.FailedNotificationStore;
+import com.booking.notification.dispatch.NotificationDispatcher;
+import com.booking.notification.routing.Notification;
+import com.booking.notification.routing.NotificationRouter;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.errors.WakeupException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads booking, user and property events and turns each poll into one dispatch round: user events update the
+ * contact replica, every record is routed, digestible notifications are handed to the {@link DigestBuffer}, the
+ * rest are delivered per recipient in parallel and the ones that still fail are dead-lettered, and offsets are
+ * committed once the round has finished. A failed poll or round does not end the loop: the consumer rewinds to the
+ * committed offsets and retries with exponential backoff, so a round may be delivered more than once. On shutdown
+ * the digests still held in memory are spilled to the database, since their offsets have already been committed.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.consumer.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class NotificationEventConsumer implements SmartLifecycle {
+
+    private final Consumer<String, byte[]> consumer;
+    private final NotificationRouter router;
+    private final NotificationDispatcher dispatcher;
+    private final DigestBuffer digestBuffer;
+    private final UserContactReplica contactReplica;
+    private final FailedNotificationStore failedStore;
+    private final EventSerializer eventSerializer;
+    private final List<String> topics;
+    private final Duration pollTimeout;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    private volatile boolean running;
+    private volatile CountDownLatch stopped;
+    private Thread worker;
+
+    public NotificationEventConsumer(Consumer<String, byte[]> consumer,
+                                     NotificationRouter router,
+                                     NotificationDispatcher dispatcher,
+                                     DigestBuffer digestBuffer,
+                                     UserContactReplica contactReplica,
+                                     FailedNotificationStore failedStore,
+                                     EventSerializer eventSerializer,
+                                     @Value("${notification.consumer.topics:booking-events,user-events,property-events}") List<String> topics,
+                                     @Value("${notification.consumer.poll-timeout:PT1S}") Duration pollTimeout,
+                                     @Value("${notification.consumer.retry-backoff:PT1S}") Duration retryBackoff,
+                                     @Value("${notification.consumer.max-retry-backoff:PT30S}") Duration maxRetryBackoff) {
+        this.consumer = consumer;
+        this.router = router;
+        this.dispatcher = dispatcher;
+        this.digestBuffer = digestBuffer;
+        this.contactReplica = contactReplica;
+        this.failedStore = failedStore;
+        this.eventSerializer = eventSerializer;
+        this.topics = topics;
+        this.pollTimeout = pollTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        stopped = new CountDownLatch(1);
+        worker = new Thread(this::run, "notification-event-consumer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopped.countDown();
+        consumer.wakeup();
+        try {
+            worker.join(pollTimeout.toMillis() * 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        var backoff = retryBackoff;
+        boolean rewind = false;
+        try {
+            consumer.subscribe(topics);
+            while (running) {
+                try {
+                    if (rewind) {
+                        rewindToCommitted();
+                        rewind = false;
+                    }
+                    var records = consumer.poll(pollTimeout);
+                    if (!records.isEmpty()) {
+                        handle(records);
+                        consumer.commitSync();
+                    }
+                    backoff = retryBackoff;
+                } catch (WakeupException e) {
+                    // woken by stop(); the loop condition ends the run
+                } catch (RuntimeException e) {
+                    log.error("Failed to handle notification events, retrying in {}", backoff, e);
+                    rewind = true;
+                    pause(backoff);
+                    var doubled = backoff.multipliedBy(2);
+                    backoff = doubled.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : doubled;
+                }
+            }
+        } finally {
+            spillBuffered();
+            consumer.close();
+        }
+    }
+
+    /**
+     * Moves every assigned partition back to its committed offset, so the records of a failed round are polled again.
+     */
+    private void rewindToCommitted() {
+        var assignment = consumer.assignment();
+        var committed = consumer.committed(assignment);
+        for (var partition : assignment) {
+            var offset = committed.get(partition);
+            if (offset != null) {
+                consumer.seek(partition, offset);
+            } else {
+                consumer.seekToBeginning(List.of(partition));
+            }
+        }
+    }
+
+    private void pause(Duration backoff) {
+        try {
+            stopped.await(backoff.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void spillBuffered() {
+        try {
+            int spilled = digestBuffer.spillAll();
+            if (spilled > 0) {
+                log.info("Spilled {} buffered digest notifications to the database on shutdown", spilled);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to spill buffered digest notifications on shutdown", e);
+        }
+    }
+
+    void handle(ConsumerRecords<String, byte[]> records) {
+        var events = new ArrayList<EventEnvelope<JsonNode>>(records.count());
+        for (var record : records) {
+            deserialize(record).ifPresent(events::add);
+        }
+        updateContacts(events);
+
+        var contactIds = new HashSet<UUID>();
+        for (var event : events) {
+            router.contactId(event.type(), event.payload()).ifPresent(contactIds::add);
+        }
+        var emails = contactIds.isEmpty() ? Map.<UUID, String>of() : contactReplica.emailsOf(contactIds);
+
+        var notifications = new ArrayList<Notification>(events.size());
+        for (var event : events) {
+            notifications.addAll(router.route(event.type(), event.payload(), emails));
+        }
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        var immediate = new ArrayList<Notification>(notifications.size());
+        var digestible = new ArrayList<Notification>();
+        for (var notification : notifications) {
+            (digestBuffer.isDigestible(notification) ? digestible : immediate).add(notification);
+        }
+
+        if (!digestible.isEmpty()) {
+            digestBuffer.add(digestible);
+        }
+        if (!immediate.isEmpty()) {
+            var failures = dispatcher.dispatch(immediate);
+            if (!failures.isEmpty()) {
+                failedStore.store(failures);
+            }
+            log.debug("Dispatched {} notifications from {} events, {} failed", immediate.size(), records.count(), failures.size());
+        }
+    }
+
+    /**
+     * Applies user events to the contact replica before routing, so notifications in the same poll that are
+     * addressed to a newly created user resolve.
+     */
+    private void updateContacts(List<EventEnvelope<JsonNode>> events) {
+        var latest = new HashMap<UUID, ContactState>();
+        for (var event : events) {
+            if (event.type() != null && event.type().startsWith("USER_") && event.aggregateId() != null) {
+                var payload = event.payload();
+                var state = new ContactState(event.aggregateId(), payload.path("email").asText(),
+                        payload.path("firstName").asText(null), payload.path("isDeleted").asBoolean(), event.version());
+                latest.merge(state.userId(), state, (current, candidate) -> candidate.version() > current.version() ? candidate : current);
+            }
+        }
+        if (!latest.isEmpty()) {
+            contactReplica.applyAll(latest.values());
+        }
+    }
+
+    private Optional<EventEnvelope<JsonNode>> deserialize(ConsumerRecord<String, byte[]> record) {
+        try {
+            var event = eventSerializer.deserialize(record.value(), JsonNode.class);
+            return Optional.of(event);
+        } catch (RuntimeException e) {
+            log.warn("Skipping malformed event at {}-{}@{}: {}", record.topic(), record.partition(), record.offset(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.booking.notification.contact;
+
+import java.util.UUID;
+
+/**
+ * A user's contact details as of {@code version}, taken from a user lifecycle event.
+ */
+public record ContactState(UUID userId, String email, String firstName, boolean deleted, long version) {
+}
@@ -0,0 +1,51 @@
+package com.booking.notification.contact;
+
+import com.booking.notification.entity.UserContact;
+import com.booking.notification.repository.UserContactRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the local copy of user contact details that property and booking notifications are addressed with.
+ * Upserts only move a row forward: a state is applied when its version is higher than the stored one, so replayed
+ * or reordered events are no-ops.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserContactReplica {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO user_contacts (user_id, email, first_name, is_deleted, version, updated_at)
+            VALUES (?, ?, ?, ?, ?, NOW())
+            ON CONFLICT (user_id) DO UPDATE
+                SET email = EXCLUDED.email, first_name = EXCLUDED.first_name, is_deleted = EXCLUDED.is_deleted,
+                    version = EXCLUDED.version, updated_at = EXCLUDED.updated_at
+                WHERE user_contacts.version < EXCLUDED.version""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserContactRepository repository;
+
+    @Transactional
+    public void applyAll(Collection<ContactState> states) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, states.stream()
+                .map(state -> new Object[]{state.userId(), state.email(), state.firstName(), state.deleted(), state.version()})
+                .toList());
+    }
+
+    /**
+     * Returns the email of every given user that is known and not deleted.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, String> emailsOf(Collection<UUID> userIds) {
+        return repository.findAllById(userIds).stream()
+                .filter(contact -> !contact.isDeleted())
+                .collect(Collectors.toMap(UserContact::getUserId, UserContact::getEmail));
+    }
+}
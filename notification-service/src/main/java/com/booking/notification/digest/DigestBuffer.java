@@ -0,0 +1,211 @@
+package com.booking.notification.digest;
+
+import com.booking.notification.entity.PendingNotification;
+import com.booking.notification.repository.PendingNotificationRepository;
+import com.booking.notification.routing.Notification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Holds digestible notifications per recipient in fixed time buckets of {@code window} length until
+ * {@link DigestFlusher} drains the buckets that have closed. Once {@code max-in-memory} notifications are
+ * buffered, further ones are spilled to the {@code pending_notifications} table under the same bucket.
+ * <p>
+ * Buffered notifications are spilled as well when the consumer shuts down, so only a crash loses in-memory digests,
+ * at most one window of them.
+ */
+@Component
+@Slf4j
+public class DigestBuffer {
+
+    private final PendingNotificationRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Set<String> digestTemplates;
+    private final long windowMillis;
+    private final int maxInMemory;
+    private final Clock clock;
+
+    private final ConcurrentSkipListMap<Long, ConcurrentMap<RecipientKey, List<Notification>>> buckets = new ConcurrentSkipListMap<>();
+    private final ReadWriteLock drainLock = new ReentrantReadWriteLock();
+    private final AtomicInteger inMemory = new AtomicInteger();
+
+    @Autowired
+    public DigestBuffer(PendingNotificationRepository repository,
+                        ObjectMapper objectMapper,
+                        @Value("${notification.digest.templates:property-created,property-status-changed,booking-confirmed,booking-cancelled}") Set<String> digestTemplates,
+                        @Value("${notification.digest.window:PT5M}") Duration window,
+                        @Value("${notification.digest.max-in-memory:50000}") int maxInMemory) {
+        this(repository, objectMapper, digestTemplates, window, maxInMemory, Clock.systemUTC());
+    }
+
+    DigestBuffer(PendingNotificationRepository repository, ObjectMapper objectMapper, Set<String> digestTemplates,
+                 Duration window, int maxInMemory, Clock clock) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.digestTemplates = digestTemplates;
+        this.windowMillis = window.toMillis();
+        this.maxInMemory = maxInMemory;
+        this.clock = clock;
+    }
+
+    public boolean isDigestible(Notification notification) {
+        return digestTemplates.contains(notification.templateId());
+    }
+
+    public void add(List<Notification> notifications) {
+        long bucket = currentBucketStart();
+        var spilled = new ArrayList<PendingNotification>();
+
+        drainLock.readLock().lock();
+        try {
+            var groups = buckets.computeIfAbsent(bucket, b -> new ConcurrentHashMap<>());
+            for (var notification : notifications) {
+                if (inMemory.get() >= maxInMemory) {
+                    spilled.add(toPending(bucket, notification));
+                    continue;
+                }
+                groups.compute(new RecipientKey(notification.channel(), notification.recipient()), (key, group) -> {
+                    var list = group == null ? new ArrayList<Notification>() : group;
+                    list.add(notification);
+                    return list;
+                });
+                inMemory.incrementAndGet();
+            }
+        } finally {
+            drainLock.readLock().unlock();
+        }
+
+        if (!spilled.isEmpty()) {
+            repository.saveAll(spilled);
+            log.debug("Spilled {} notifications of bucket {} to the database", spilled.size(), bucket);
+        }
+    }
+
+    /**
+     * Moves every in-memory notification to the database under its own bucket.
+     * @return number of notifications spilled
+     */
+    public int spillAll() {
+        var spilled = new ArrayList<PendingNotification>();
+
+        drainLock.writeLock().lock();
+        try {
+            for (var bucket : buckets.entrySet()) {
+                for (var group : bucket.getValue().values()) {
+                    for (var notification : group) {
+                        spilled.add(toPending(bucket.getKey(), notification));
+                    }
+                }
+            }
+            buckets.clear();
+        } finally {
+            drainLock.writeLock().unlock();
+        }
+
+        inMemory.addAndGet(-spilled.size());
+        if (!spilled.isEmpty()) {
+            repository.saveAll(spilled);
+        }
+        return spilled.size();
+    }
+
+    /**
+     * Stores notifications whose digest could not be delivered under the last closed bucket, so the next flush
+     * picks them up from the database. The rows count the failed flush as their first attempt.
+     */
+    public void requeue(List<Notification> notifications) {
+        long bucket = currentBucketStart() - windowMillis;
+        repository.saveAll(notifications.stream().map(notification -> {
+            var row = toPending(bucket, notification);
+            row.setAttempts(1);
+            return row;
+        }).toList());
+    }
+
+    /**
+     * Puts drained groups back under the last closed bucket, for a flush that failed before it could deliver or
+     * requeue them. They stay in memory, so this works while the database is the reason the flush failed.
+     */
+    public void restore(Map<RecipientKey, List<Notification>> groups) {
+        long bucket = currentBucketStart() - windowMillis;
+        int count = 0;
+
+        drainLock.readLock().lock();
+        try {
+            var target = buckets.computeIfAbsent(bucket, b -> new ConcurrentHashMap<>());
+            for (var entry : groups.entrySet()) {
+                target.compute(entry.getKey(), (key, group) -> {
+                    var list = group == null ? new ArrayList<Notification>() : group;
+                    list.addAll(entry.getValue());
+                    return list;
+                });
+                count += entry.getValue().size();
+            }
+        } finally {
+            drainLock.readLock().unlock();
+        }
+
+        inMemory.addAndGet(count);
+    }
+
+    /**
+     * Removes all in-memory buckets starting before {@code cutoff} and merges them per recipient.
+     */
+    public Map<RecipientKey, List<Notification>> drainBefore(long cutoff) {
+        var drained = new LinkedHashMap<RecipientKey, List<Notification>>();
+        int count = 0;
+
+        drainLock.writeLock().lock();
+        try {
+            var closed = buckets.headMap(cutoff);
+            for (var groups : closed.values()) {
+                for (var entry : groups.entrySet()) {
+                    drained.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).addAll(entry.getValue());
+                    count += entry.getValue().size();
+                }
+            }
+            closed.clear();
+        } finally {
+            drainLock.writeLock().unlock();
+        }
+
+        inMemory.addAndGet(-count);
+        return drained;
+    }
+
+    public long currentBucketStart() {
+        long now = clock.millis();
+        return now - Math.floorMod(now, windowMillis);
+    }
+
+    public int inMemoryCount() {
+        return inMemory.get();
+    }
+
+    private PendingNotification toPending(long bucket, Notification notification) {
+        try {
+            return new PendingNotification(bucket, notification.channel(), notification.recipient(), notification.templateId(),
+                    notification.locale().toLanguageTag(), objectMapper.writeValueAsString(notification.model()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification model for " + notification.recipient(), e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.booking.notification.digest;
+
+import com.booking.notification.dispatch.FailedNotificationStore;
+import com.booking.notification.dispatch.NotificationDispatcher;
+import com.booking.notification.entity.PendingNotification;
+import com.booking.notification.repository.PendingNotificationRepository;
+import com.booking.notification.routing.Notification;
+import com.booking.notification.template.TemplateRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically turns closed digest buckets into one notification per recipient. Spilled rows are read in pages of
+ * {@code flush-page-size}; the in-memory groups are merged into the first page. Rows are deleted only after their
+ * digest has been delivered, so a crash re-sends rather than loses them. When a digest fails, its rows stay in the
+ * table and its in-memory notifications are spilled, so the next flush retries it; once a row has failed
+ * {@code max-attempts} flushes it is dead-lettered to {@code failed_notifications}, as are rows whose model no longer
+ * parses. If the first page throws, the drained in-memory groups are put back into the buffer.
+ * <p>
+ * A recipient whose spilled rows span several pages receives one digest per page.
+ */
+@Component
+@Slf4j
+public class DigestFlusher {
+
+    static final String DIGEST_TEMPLATE = "digest";
+
+    private static final TypeReference<Map<String, String>> MODEL_TYPE = new TypeReference<>() {
+    };
+
+    private final DigestBuffer digestBuffer;
+    private final PendingNotificationRepository repository;
+    private final NotificationDispatcher dispatcher;
+    private final TemplateRegistry templateRegistry;
+    private final ObjectMapper objectMapper;
+    private final FailedNotificationStore failedStore;
+    private final int pageSize;
+    private final int maxAttempts;
+
+    public DigestFlusher(DigestBuffer digestBuffer,
+                         PendingNotificationRepository repository,
+                         NotificationDispatcher dispatcher,
+                         TemplateRegistry templateRegistry,
+                         ObjectMapper objectMapper,
+                         FailedNotificationStore failedStore,
+                         @Value("${notification.digest.flush-page-size:1000}") int pageSize,
+                         @Value("${notification.digest.max-attempts:5}") int maxAttempts) {
+        this.digestBuffer = digestBuffer;
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.templateRegistry = templateRegistry;
+        this.objectMapper = objectMapper;
+        this.failedStore = failedStore;
+        this.pageSize = pageSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.digest.flush-interval:PT5S}")
+    public void flush() {
+        long cutoff = digestBuffer.currentBucketStart();
+        var buffered = digestBuffer.drainBefore(cutoff);
+
+        long afterId = 0;
+        List<PendingNotification> page;
+        do {
+            page = repository.findByBucketStartLessThanAndIdGreaterThanOrderById(cutoff, afterId, Limit.of(pageSize));
+            try {
+                flushPage(buffered, page);
+            } catch (RuntimeException e) {
+                if (!buffered.isEmpty()) {
+                    digestBuffer.restore(buffered);
+                }
+                throw e;
+            }
+            buffered = Map.of();
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == pageSize);
+    }
+
+    private void flushPage(Map<RecipientKey, List<Notification>> buffered, List<PendingNotification> spilled) {
+        var groups = new LinkedHashMap<RecipientKey, List<Notification>>();
+        buffered.forEach((key, group) -> groups.put(key, new ArrayList<>(group)));
+        var readable = new ArrayList<PendingNotification>(spilled.size());
+        var deadLettered = new ArrayList<PendingNotification>();
+        for (var row : spilled) {
+            var notification = toNotification(row);
+            if (notification.isPresent()) {
+                groups.computeIfAbsent(keyOf(row), key -> new ArrayList<>()).add(notification.get());
+                readable.add(row);
+            } else {
+                deadLettered.add(row);
+            }
+        }
+
+        var failed = Set.<RecipientKey>of();
+        var digests = new ArrayList<Notification>(groups.size());
+        int merged = 0;
+        if (!groups.isEmpty()) {
+            for (var entry : groups.entrySet()) {
+                digests.add(toDigest(entry.getKey(), entry.getValue()));
+                merged += entry.getValue().size();
+            }
+            failed = dispatcher.dispatch(digests).stream()
+                    .map(digest -> new RecipientKey(digest.channel(), digest.recipient()))
+                    .collect(Collectors.toSet());
+        }
+
+        var deleted = new ArrayList<Long>(readable.size());
+        var retried = new ArrayList<Long>();
+        for (var row : readable) {
+            if (!failed.contains(keyOf(row))) {
+                deleted.add(row.getId());
+            } else if (row.getAttempts() + 1 >= maxAttempts) {
+                deadLettered.add(row);
+            } else {
+                retried.add(row.getId());
+            }
+        }
+        if (!deadLettered.isEmpty()) {
+            failedStore.storePending(deadLettered);
+            deadLettered.forEach(row -> deleted.add(row.getId()));
+        }
+        if (!deleted.isEmpty()) {
+            repository.deleteAllByIdInBatch(deleted);
+        }
+        if (!retried.isEmpty()) {
+            repository.incrementAttempts(retried);
+        }
+        requeue(buffered, failed);
+        if (!digests.isEmpty() || !deadLettered.isEmpty()) {
+            log.info("Flushed {} notifications as {} digests ({} from the database), {} digests failed, {} rows dead-lettered",
+                    merged, digests.size(), spilled.size(), failed.size(), deadLettered.size());
+        }
+    }
+
+    private void requeue(Map<RecipientKey, List<Notification>> buffered, Set<RecipientKey> failed) {
+        var requeued = buffered.entrySet().stream()
+                .filter(entry -> failed.contains(entry.getKey()))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
+        if (requeued.isEmpty()) {
+            return;
+        }
+        if (maxAttempts > 1) {
+            digestBuffer.requeue(requeued);
+        } else {
+            failedStore.store(requeued);
+        }
+    }
+
+    private static RecipientKey keyOf(PendingNotification row) {
+        return new RecipientKey(row.getChannel(), row.getRecipient());
+    }
+
+    private Notification toDigest(RecipientKey key, List<Notification> group) {
+        if (group.size() == 1) {
+            return group.get(0);
+        }
+
+        var locale = group.get(0).locale();
+        var items = new StringBuilder();
+        for (var notification : group) {
+            if (!items.isEmpty()) {
+                items.append('\n');
+            }
+            items.append("- ").append(templateRegistry.render(notification.templateId(), notification.locale(), notification.model()));
+        }
+        return new Notification(key.channel(), key.recipient(), DIGEST_TEMPLATE, locale,
+                Map.of("count", Integer.toString(group.size()), "items", items.toString()));
+    }
+
+    private Optional<Notification> toNotification(PendingNotification row) {
+        try {
+            return Optional.of(new Notification(row.getChannel(), row.getRecipient(), row.getTemplateId(),
+                    Locale.forLanguageTag(row.getLocale()), objectMapper.readValue(row.getModel(), MODEL_TYPE)));
+        } catch (JsonProcessingException e) {
+            log.warn("Dead-lettering corrupted pending notification {}: {}", row.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
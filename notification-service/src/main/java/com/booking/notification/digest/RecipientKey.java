@@ -0,0 +1,6 @@
+package com.booking.notification.digest;
+
+import com.booking.notification.channel.ChannelType;
+
+public record RecipientKey(ChannelType channel, String recipient) {
+}
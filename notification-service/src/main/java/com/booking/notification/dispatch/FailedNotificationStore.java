@@ -0,0 +1,46 @@
+package com.booking.notification.dispatch;
+
+import com.booking.notification.entity.FailedNotification;
+import com.booking.notification.entity.PendingNotification;
+import com.booking.notification.repository.FailedNotificationRepository;
+import com.booking.notification.routing.Notification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Dead-letters immediate notifications that {@link NotificationDispatcher} gave up on, so they are not lost when
+ * the consumer commits past the events they came from, and spilled digest rows that can no longer be delivered.
+ */
+@Component
+@RequiredArgsConstructor
+public class FailedNotificationStore {
+
+    private final FailedNotificationRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public void store(List<Notification> failures) {
+        repository.saveAll(failures.stream().map(this::toFailed).toList());
+    }
+
+    /**
+     * Copies spilled digest rows as they are stored, so a row whose model no longer parses is kept too.
+     */
+    public void storePending(List<PendingNotification> rows) {
+        repository.saveAll(rows.stream()
+                .map(row -> new FailedNotification(row.getChannel(), row.getRecipient(), row.getTemplateId(), row.getLocale(), row.getModel()))
+                .toList());
+    }
+
+    private FailedNotification toFailed(Notification notification) {
+        try {
+            return new FailedNotification(notification.channel(), notification.recipient(), notification.templateId(),
+                    notification.locale().toLanguageTag(), objectMapper.writeValueAsString(notification.model()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification model for " + notification.recipient(), e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.booking.notification.dispatch;
+
+import com.booking.notification.channel.ChannelType;
+import com.booking.notification.channel.NotificationChannel;
+import com.booking.notification.routing.Notification;
+import com.booking.notification.template.TemplateRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Groups notifications per channel and recipient and delivers the groups in parallel on a bounded pool.
+ * When the pool and its queue are full the submitting thread delivers the group itself, which slows the
+ * consumer down instead of buffering without limit or dropping notifications. A group that fails is retried up to
+ * {@code max-attempts} times with exponential backoff before it is reported back to the caller as undelivered.
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private final Map<ChannelType, NotificationChannel> channels = new EnumMap<>(ChannelType.class);
+    private final TemplateRegistry templateRegistry;
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public NotificationDispatcher(List<NotificationChannel> channels,
+                                  TemplateRegistry templateRegistry,
+                                  @Value("${notification.dispatch.threads:64}") int threads,
+                                  @Value("${notification.dispatch.queue-capacity:1024}") int queueCapacity,
+                                  @Value("${notification.dispatch.max-attempts:3}") int maxAttempts,
+                                  @Value("${notification.dispatch.retry-backoff:PT0.2S}") Duration retryBackoff) {
+        channels.forEach(channel -> this.channels.put(channel.type(), channel));
+        this.templateRegistry = templateRegistry;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+
+        var threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    var thread = new Thread(task, "notification-dispatch-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Delivers all notifications and returns once every recipient group has been attempted.
+     * @return the notifications that could not be delivered, so callers can keep them for another attempt
+     */
+    public List<Notification> dispatch(List<Notification> notifications) {
+        var groups = new LinkedHashMap<RecipientKey, List<Notification>>();
+        for (var notification : notifications) {
+            groups.computeIfAbsent(new RecipientKey(notification.channel(), notification.recipient()), key -> new ArrayList<>())
+                    .add(notification);
+        }
+
+        var failures = new ConcurrentLinkedQueue<Notification>();
+        var deliveries = new ArrayList<CompletableFuture<Void>>(groups.size());
+        groups.forEach((key, group) -> deliveries.add(CompletableFuture.runAsync(() -> {
+            if (!deliverWithRetry(key, group)) {
+                failures.addAll(group);
+            }
+        }, executor)));
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+
+        return List.copyOf(failures);
+    }
+
+    public long deliveredCount() {
+        return delivered.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private boolean deliverWithRetry(RecipientKey key, List<Notification> group) {
+        var backoff = retryBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                deliver(key, group);
+                delivered.add(group.size());
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Failed to deliver {} {} notifications to {} after {} attempts",
+                            group.size(), key.channel(), key.recipient(), attempt, e);
+                    failed.add(group.size());
+                    return false;
+                }
+                log.warn("Failed to deliver {} notifications to {} on attempt {}, retrying in {}: {}",
+                        key.channel(), key.recipient(), attempt, backoff, e.getMessage());
+            }
+            if (!pause(backoff)) {
+                failed.add(group.size());
+                return false;
+            }
+            backoff = backoff.multipliedBy(2);
+        }
+    }
+
+    private void deliver(RecipientKey key, List<Notification> group) {
+        var channel = channels.get(key.channel());
+        if (channel == null) {
+            throw new IllegalStateException("No channel registered for " + key.channel());
+        }
+        var messages = new ArrayList<String>(group.size());
+        for (var notification : group) {
+            messages.add(templateRegistry.render(notification.templateId(), notification.locale(), notification.model()));
+        }
+        channel.send(key.recipient(), messages);
+    }
+
+    private static boolean pause(Duration backoff) {
+        try {
+            Thread.sleep(backoff.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record RecipientKey(ChannelType channel, String recipient) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.booking.notification.entity;
+
+import com.booking.notification.channel.ChannelType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "failed_notifications")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FailedNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "failed_notifications_seq")
+    @SequenceGenerator(name = "failed_notifications_seq", sequenceName = "failed_notifications_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false)
+    private ChannelType channel;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "template_id", nullable = false)
+    private String templateId;
+
+    @Column(name = "locale", nullable = false)
+    private String locale;
+
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public FailedNotification(ChannelType channel, String recipient, String templateId, String locale, String model) {
+        this.channel = channel;
+        this.recipient = recipient;
+        this.templateId = templateId;
+        this.locale = locale;
+        this.model = model;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FailedNotification that = (FailedNotification) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
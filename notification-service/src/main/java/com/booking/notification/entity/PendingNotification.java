@@ -0,0 +1,74 @@
+package com.booking.notification.entity;
+
+import com.booking.notification.channel.ChannelType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "pending_notifications")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PendingNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pending_notifications_seq")
+    @SequenceGenerator(name = "pending_notifications_seq", sequenceName = "pending_notifications_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private long bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false)
+    private ChannelType channel;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "template_id", nullable = false)
+    private String templateId;
+
+    @Column(name = "locale", nullable = false)
+    private String locale;
+
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public PendingNotification(long bucketStart, ChannelType channel, String recipient, String templateId, String locale, String model) {
+        this.bucketStart = bucketStart;
+        this.channel = channel;
+        this.recipient = recipient;
+        this.templateId = templateId;
+        this.locale = locale;
+        this.model = model;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PendingNotification that = (PendingNotification) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
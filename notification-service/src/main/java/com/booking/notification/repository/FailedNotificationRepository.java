@@ -0,0 +1,9 @@
+package com.booking.notification.repository;
+
+import com.booking.notification.entity.FailedNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FailedNotificationRepository extends JpaRepository<FailedNotification, Long> {
+}
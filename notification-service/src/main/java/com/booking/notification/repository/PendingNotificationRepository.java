@@ -0,0 +1,27 @@
+package com.booking.notification.repository;
+
+import com.booking.notification.entity.PendingNotification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PendingNotificationRepository extends JpaRepository<PendingNotification, Long> {
+
+    /**
+     * Returns the next page of rows from buckets before {@code bucketStart}, continuing after {@code afterId}.
+     */
+    List<PendingNotification> findByBucketStartLessThanAndIdGreaterThanOrderById(long bucketStart, long afterId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PendingNotification p SET p.attempts = p.attempts + 1 WHERE p.id IN :ids")
+    void incrementAttempts(@Param("ids") Collection<Long> ids);
+}
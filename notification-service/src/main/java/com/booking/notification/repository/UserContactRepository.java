@@ -0,0 +1,11 @@
+package com.booking.notification.repository;
+
+import com.booking.notification.entity.UserContact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface UserContactRepository extends JpaRepository<UserContact, UUID> {
+}
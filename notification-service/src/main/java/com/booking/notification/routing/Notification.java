@@ -0,0 +1,9 @@
+package com.booking.notification.routing;
+
+import com.booking.notification.channel.ChannelType;
+
+import java.util.Locale;
+import java.util.Map;
+
+public record Notification(ChannelType channel, String recipient, String templateId, Locale locale, Map<String, String> model) {
+}
@@ -0,0 +1,106 @@
+package com.booking.notification.routing;
+
+import com.booking.notification.channel.ChannelType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decides who is notified about an event, over which channel and with which template.
+ * Events of unknown types produce no notifications. Users have no phone number on record, so booking
+ * notifications go to the guest by email.
+ */
+@Component
+@Slf4j
+public class NotificationRouter {
+
+    private final Locale defaultLocale;
+
+    public NotificationRouter(@Value("${notification.default-locale:en}") Locale defaultLocale) {
+        this.defaultLocale = defaultLocale;
+    }
+
+    /**
+     * Returns the user whose contact details are needed to address the notifications for this event, if any.
+     * User events carry the email themselves.
+     */
+    public Optional<UUID> contactId(String type, JsonNode payload) {
+        if (type == null) {
+            return Optional.empty();
+        }
+        var id = switch (type) {
+            case "PROPERTY_CREATED", "PROPERTY_STATUS_CHANGED" -> payload.path("ownerId");
+            case "BOOKING_CONFIRMED", "BOOKING_CANCELLED" -> payload.path("guestId");
+            default -> MissingNode.getInstance();
+        };
+        if (!id.isTextual()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(id.asText()));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Routes an event, addressing property and booking notifications with the emails resolved for
+     * {@link #contactId}. Events whose recipient is unknown or deleted produce no notifications.
+     */
+    public List<Notification> route(String type, JsonNode payload, Map<UUID, String> emails) {
+        if (type == null) {
+            return List.of();
+        }
+        return switch (type) {
+            case "USER_CREATED" -> List.of(email(payload.path("email").asText(), "user-welcome", payload, userModel(payload)));
+            case "USER_DELETE_STATE_CHANGED" -> payload.path("isDeleted").asBoolean()
+                    ? List.of(email(payload.path("email").asText(), "user-deactivated", payload, userModel(payload)))
+                    : List.of();
+            case "PROPERTY_CREATED" -> toContact(type, payload, emails, "property-created",
+                    Map.of("name", payload.path("name").asText(), "city", payload.path("city").asText()));
+            case "PROPERTY_STATUS_CHANGED" -> toContact(type, payload, emails, "property-status-changed",
+                    Map.of("name", payload.path("name").asText(),
+                            "state", payload.path("isActive").asBoolean() ? "active" : "inactive"));
+            case "BOOKING_CONFIRMED" -> toContact(type, payload, emails, "booking-confirmed", bookingModel(payload));
+            case "BOOKING_CANCELLED" -> toContact(type, payload, emails, "booking-cancelled", bookingModel(payload));
+            default -> List.of();
+        };
+    }
+
+    private List<Notification> toContact(String type, JsonNode payload, Map<UUID, String> emails,
+                                         String templateId, Map<String, String> model) {
+        var email = contactId(type, payload).map(emails::get);
+        if (email.isEmpty()) {
+            log.warn("Skipping {} notification, no contact for user {}", type, contactId(type, payload).orElse(null));
+            return List.of();
+        }
+        return List.of(email(email.get(), templateId, payload, model));
+    }
+
+    private Notification email(String recipient, String templateId, JsonNode payload, Map<String, String> model) {
+        return new Notification(ChannelType.EMAIL, recipient, templateId, locale(payload), model);
+    }
+
+    private Locale locale(JsonNode payload) {
+        var locale = payload.path("locale");
+        return locale.isTextual() ? Locale.forLanguageTag(locale.asText()) : defaultLocale;
+    }
+
+    private static Map<String, String> userModel(JsonNode payload) {
+        return Map.of("firstName", payload.path("firstName").asText(), "email", payload.path("email").asText());
+    }
+
+    private static Map<String, String> bookingModel(JsonNode payload) {
+        return Map.of("bookingId", payload.path("id").asText(),
+                "checkIn", payload.path("checkIn").asText(),
+                "checkOut", payload.path("checkOut").asText());
+    }
+}
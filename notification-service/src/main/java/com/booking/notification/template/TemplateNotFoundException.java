@@ -0,0 +1,13 @@
+package com.booking.notification.template;
+
+import java.util.Locale;
+
+public class TemplateNotFoundException extends RuntimeException {
+    private TemplateNotFoundException(String message) {
+        super(message);
+    }
+
+    public static TemplateNotFoundException forTemplate(String templateId, Locale locale) {
+        return new TemplateNotFoundException("Template '" + templateId + "' not found for locale " + locale);
+    }
+}
@@ -0,0 +1,53 @@
+package com.booking.notification.template;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads templates from {@code classpath:templates/} and keeps one compiled copy per template and locale.
+ * Lookup falls back from {@code id_lang.txt} to {@code id.txt}.
+ */
+@Component
+public class TemplateRegistry {
+
+    private static final String TEMPLATE_ROOT = "templates/";
+
+    private final Map<TemplateKey, CompiledTemplate> compiled = new ConcurrentHashMap<>();
+
+    public CompiledTemplate get(String templateId, Locale locale) {
+        return compiled.computeIfAbsent(new TemplateKey(templateId, locale), this::load);
+    }
+
+    public String render(String templateId, Locale locale, Map<String, String> model) {
+        return get(templateId, locale).render(model);
+    }
+
+    int size() {
+        return compiled.size();
+    }
+
+    private CompiledTemplate load(TemplateKey key) {
+        var localized = new ClassPathResource(TEMPLATE_ROOT + key.templateId() + "_" + key.locale().getLanguage() + ".txt");
+        var fallback = new ClassPathResource(TEMPLATE_ROOT + key.templateId() + ".txt");
+        var resource = localized.exists() ? localized : fallback;
+        if (!resource.exists()) {
+            throw TemplateNotFoundException.forTemplate(key.templateId(), key.locale());
+        }
+
+        try (var in = resource.getInputStream()) {
+            return CompiledTemplate.compile(new String(in.readAllBytes(), StandardCharsets.UTF_8).strip());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read template " + resource.getPath(), e);
+        }
+    }
+
+    private record TemplateKey(String templateId, Locale locale) {
+    }
+}
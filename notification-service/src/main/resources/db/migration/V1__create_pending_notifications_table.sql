@@ -0,0 +1,15 @@
+-- Digest entries that did not fit into the in-memory coalescing buffer
+CREATE SEQUENCE IF NOT EXISTS pending_notifications_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS pending_notifications(
+    id BIGINT NOT NULL PRIMARY KEY,
+    bucket_start BIGINT NOT NULL,
+    channel VARCHAR(16) NOT NULL,
+    recipient VARCHAR(320) NOT NULL,
+    template_id VARCHAR(128) NOT NULL,
+    locale VARCHAR(35) NOT NULL,
+    model TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_pending_notifications_bucket ON pending_notifications (bucket_start);
@@ -0,0 +1,10 @@
+-- Local replica of user-service contact details, fed by user lifecycle events.
+-- Property and booking events only carry user ids; recipients are resolved against this table.
+CREATE TABLE IF NOT EXISTS user_contacts(
+    user_id UUID NOT NULL PRIMARY KEY,
+    email VARCHAR(320) NOT NULL,
+    first_name VARCHAR(255),
+    is_deleted BOOLEAN NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,12 @@
+-- Immediate notifications that could not be delivered after all retries, kept for inspection and redelivery
+CREATE SEQUENCE IF NOT EXISTS failed_notifications_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS failed_notifications(
+    id BIGINT NOT NULL PRIMARY KEY,
+    channel VARCHAR(16) NOT NULL,
+    recipient VARCHAR(320) NOT NULL,
+    template_id VARCHAR(128) NOT NULL,
+    locale VARCHAR(35) NOT NULL,
+    model TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
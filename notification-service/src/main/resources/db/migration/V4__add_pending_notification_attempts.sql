@@ -0,0 +1,2 @@
+-- Number of flushes whose digest failed for the row; the flusher dead-letters the row once it reaches the cap
+ALTER TABLE pending_notifications ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
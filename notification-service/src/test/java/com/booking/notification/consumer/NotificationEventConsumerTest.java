@@ -0,0 +1,97 @@
+package com.booking.notification.consumer;
+
+import com.booking.common.event.EventEnvelope;
+import com.booking.common.event.EventSerializer;
+import com.booking.notification.contact.ContactState;
+import com.booking.notification.contact.UserContactReplica;
+import com.booking.notification.digest.DigestBuffer;
+import com.booking.notification.dispatch.FailedNotificationStore;
+import com.booking.notification.dispatch.NotificationDispatcher;
+import com.booking.notification.routing.NotificationRouter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationEventConsumerTest {
+
+    private static final String TOPIC = "user-events";
+
+    @Mock
+    private NotificationRouter router;
+
+    @Mock
+    private NotificationDispatcher dispatcher;
+
+    @Mock
+    private DigestBuffer digestBuffer;
+
+    @Mock
+    private UserContactReplica contactReplica;
+
+    @Mock
+    private FailedNotificationStore failedStore;
+
+    private final EventSerializer eventSerializer = new EventSerializer();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_WhenRoundFails_ShouldRewindAndRetryInsteadOfStopping() {
+        var mockConsumer = new MockConsumer<String, byte[]>(OffsetResetStrategy.EARLIEST);
+        var partition = new TopicPartition(TOPIC, 0);
+        var userId = UUID.randomUUID();
+        var event = eventSerializer.serialize(EventEnvelope.of("USER_CREATED", userId, 0,
+                Map.of("email", "anna@test.com", "firstName", "Anna", "isDeleted", false)));
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(partition));
+            mockConsumer.updateBeginningOffsets(Map.of(partition, 0L));
+            mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, null, event));
+        });
+        // polled records are dropped by the mock, so offset 0 is only seen again if the consumer rewound
+        mockConsumer.schedulePollTask(() -> mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, null, event)));
+        doThrow(new IllegalStateException("database unavailable")).doNothing().when(contactReplica).applyAll(any());
+
+        var consumer = new NotificationEventConsumer(mockConsumer, router, dispatcher, digestBuffer, contactReplica,
+                failedStore, eventSerializer, List.of(TOPIC), Duration.ofMillis(100), Duration.ofMillis(10), Duration.ofMillis(100));
+        consumer.start();
+        try {
+            ArgumentCaptor<Collection<ContactState>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(contactReplica, timeout(5000).times(2)).applyAll(captor.capture());
+            assertThat(captor.getAllValues()).allSatisfy(states ->
+                    assertThat(states).containsExactly(new ContactState(userId, "anna@test.com", "Anna", false, 0)));
+            awaitCommittedOffset(mockConsumer, partition, 1);
+            assertThat(consumer.isRunning()).isTrue();
+        } finally {
+            consumer.stop();
+        }
+        verify(digestBuffer).spillAll();
+    }
+
+    private static void awaitCommittedOffset(MockConsumer<String, byte[]> consumer, TopicPartition partition, long offset) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            var committed = consumer.committed(Set.of(partition)).get(partition);
+            if (committed != null && committed.offset() == offset) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Offset " + offset + " was not committed for " + partition);
+    }
+}
@@ -0,0 +1,114 @@
+package com.booking.notification.digest;
+
+import com.booking.notification.channel.ChannelType;
+import com.booking.notification.entity.PendingNotification;
+import com.booking.notification.repository.PendingNotificationRepository;
+import com.booking.notification.routing.Notification;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class DigestBufferTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+
+    @Mock
+    private PendingNotificationRepository repository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-07-01T10:00:00Z"));
+
+    @Test
+    void isDigestible_ShouldMatchConfiguredTemplates() {
+        var buffer = buffer(100);
+
+        assertThat(buffer.isDigestible(notification("host", "property-created"))).isTrue();
+        assertThat(buffer.isDigestible(notification("host", "user-welcome"))).isFalse();
+    }
+
+    @Test
+    void drainBefore_ShouldReturnOnlyClosedBucketsMergedPerRecipient() {
+        var buffer = buffer(100);
+        buffer.add(List.of(notification("host-1", "property-created"), notification("host-2", "property-created")));
+        clock.advance(WINDOW);
+        buffer.add(List.of(notification("host-1", "property-created")));
+
+        var drained = buffer.drainBefore(buffer.currentBucketStart());
+
+        assertThat(drained).containsOnlyKeys(new RecipientKey(ChannelType.EMAIL, "host-1"), new RecipientKey(ChannelType.EMAIL, "host-2"));
+        assertThat(buffer.inMemoryCount()).isEqualTo(1);
+
+        clock.advance(WINDOW);
+        var next = buffer.drainBefore(buffer.currentBucketStart());
+        assertThat(next.get(new RecipientKey(ChannelType.EMAIL, "host-1"))).hasSize(1);
+        assertThat(buffer.inMemoryCount()).isZero();
+    }
+
+    @Test
+    void add_WhenInMemoryLimitReached_ShouldSpillToDatabase() {
+        var buffer = buffer(2);
+
+        buffer.add(List.of(notification("host", "property-created"), notification("host", "property-created"),
+                notification("host", "property-status-changed")));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PendingNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(captor.capture());
+        var spilled = captor.getValue();
+        assertThat(spilled).hasSize(1);
+        assertThat(spilled.get(0).getTemplateId()).isEqualTo("property-status-changed");
+        assertThat(spilled.get(0).getBucketStart()).isEqualTo(buffer.currentBucketStart());
+        assertThat(spilled.get(0).getModel()).isEqualTo("{\"name\":\"Villa\"}");
+        assertThat(buffer.inMemoryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void add_WhenBelowLimit_ShouldNotTouchDatabase() {
+        buffer(100).add(List.of(notification("host", "property-created")));
+
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void spillAll_ShouldPersistEveryBucketAndEmptyTheBuffer() {
+        var buffer = buffer(100);
+        buffer.add(List.of(notification("host", "property-created")));
+        long firstBucket = buffer.currentBucketStart();
+        clock.advance(WINDOW);
+        buffer.add(List.of(notification("host", "property-status-changed")));
+
+        assertThat(buffer.spillAll()).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PendingNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(PendingNotification::getBucketStart)
+                .containsExactlyInAnyOrder(firstBucket, buffer.currentBucketStart());
+        assertThat(buffer.inMemoryCount()).isZero();
+        assertThat(buffer.drainBefore(Long.MAX_VALUE)).isEmpty();
+    }
+
+    private DigestBuffer buffer(int maxInMemory) {
+        return new DigestBuffer(repository, new ObjectMapper(), Set.of("property-created", "property-status-changed"),
+                WINDOW, maxInMemory, clock);
+    }
+
+    static Notification notification(String recipient, String templateId) {
+        return new Notification(ChannelType.EMAIL, recipient, templateId, Locale.ENGLISH, Map.of("name", "Villa"));
+    }
+}
@@ -0,0 +1,223 @@
+package com.booking.notification.digest;
+
+import com.booking.notification.channel.ChannelType;
+import com.booking.notification.dispatch.FailedNotificationStore;
+import com.booking.notification.dispatch.NotificationDispatcher;
+import com.booking.notification.entity.PendingNotification;
+import com.booking.notification.repository.PendingNotificationRepository;
+import com.booking.notification.routing.Notification;
+import com.booking.notification.template.TemplateRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static com.booking.notification.digest.DigestBufferTest.notification;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DigestFlusherTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+    private static final int PAGE_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private PendingNotificationRepository repository;
+
+    @Mock
+    private NotificationDispatcher dispatcher;
+
+    @Mock
+    private FailedNotificationStore failedStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-07-01T10:00:00Z"));
+
+    @Test
+    void flush_ShouldMergeClosedBucketIntoOneDigestPerRecipient() {
+        var buffer = buffer();
+        buffer.add(List.of(notification("host", "property-created"), notification("host", "property-status-changed"),
+                notification("single", "property-created")));
+        clock.advance(WINDOW);
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(buffer.currentBucketStart(), 0, Limit.of(PAGE_SIZE)))
+                .thenReturn(List.of());
+
+        flusher(buffer).flush();
+
+        var digests = captureDispatched();
+        assertThat(digests).hasSize(2);
+        var digest = byRecipient(digests, "host");
+        assertThat(digest.templateId()).isEqualTo(DigestFlusher.DIGEST_TEMPLATE);
+        assertThat(digest.model()).containsEntry("count", "2");
+        assertThat(digest.model().get("items")).contains("\"Villa\" in", "\"Villa\" is now");
+        assertThat(byRecipient(digests, "single").templateId()).isEqualTo("property-created");
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void flush_ShouldMergeSpilledRowsAndDeleteThemAfterDispatch() {
+        var buffer = buffer();
+        buffer.add(List.of(notification("host", "property-created")));
+        clock.advance(WINDOW);
+        var row = new PendingNotification(0, ChannelType.EMAIL, "host", "property-status-changed", "en", "{\"name\":\"Loft\",\"state\":\"inactive\"}");
+        row.setId(7L);
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(buffer.currentBucketStart(), 0, Limit.of(PAGE_SIZE)))
+                .thenReturn(List.of(row));
+
+        flusher(buffer).flush();
+
+        var digests = captureDispatched();
+        assertThat(digests).singleElement().satisfies(digest -> {
+            assertThat(digest.model()).containsEntry("count", "2");
+            assertThat(digest.model().get("items")).contains("\"Loft\" is now inactive");
+        });
+        var order = inOrder(dispatcher, repository);
+        order.verify(dispatcher).dispatch(anyList());
+        order.verify(repository).deleteAllByIdInBatch(List.of(7L));
+    }
+
+    @Test
+    void flush_WhenNothingClosed_ShouldNotDispatch() {
+        var buffer = buffer();
+        buffer.add(List.of(notification("host", "property-created")));
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(anyLong(), anyLong(), any())).thenReturn(List.of());
+
+        flusher(buffer).flush();
+
+        verifyNoInteractions(dispatcher);
+        assertThat(buffer.inMemoryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WhenDigestFails_ShouldKeepItsRowsAndSpillItsBufferedNotifications() {
+        var buffer = buffer();
+        buffer.add(List.of(notification("host", "property-created"), notification("other", "property-created")));
+        clock.advance(WINDOW);
+        var failedRow = row(7L, "host");
+        var deliveredRow = row(8L, "other");
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(buffer.currentBucketStart(), 0, Limit.of(PAGE_SIZE)))
+                .thenReturn(List.of(failedRow, deliveredRow));
+        when(dispatcher.dispatch(anyList())).thenAnswer(invocation -> ((List<Notification>) invocation.getArgument(0)).stream()
+                .filter(digest -> digest.recipient().equals("host"))
+                .toList());
+
+        flusher(buffer).flush();
+
+        verify(repository).deleteAllByIdInBatch(List.of(8L));
+        verify(repository).incrementAttempts(List.of(7L));
+        verifyNoInteractions(failedStore);
+        ArgumentCaptor<List<PendingNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(requeued -> {
+            assertThat(requeued.getRecipient()).isEqualTo("host");
+            assertThat(requeued.getBucketStart()).isLessThan(buffer.currentBucketStart());
+            assertThat(requeued.getAttempts()).isEqualTo(1);
+        });
+        assertThat(buffer.inMemoryCount()).isZero();
+    }
+
+    @Test
+    void flush_WhenDigestFailsForTheLastAttempt_ShouldDeadLetterItsRows() {
+        var buffer = buffer();
+        clock.advance(WINDOW);
+        var exhaustedRow = row(7L, "host");
+        exhaustedRow.setAttempts(MAX_ATTEMPTS - 1);
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(buffer.currentBucketStart(), 0, Limit.of(PAGE_SIZE)))
+                .thenReturn(List.of(exhaustedRow));
+        when(dispatcher.dispatch(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        flusher(buffer).flush();
+
+        verify(failedStore).storePending(List.of(exhaustedRow));
+        verify(repository).deleteAllByIdInBatch(List.of(7L));
+        verify(repository, never()).incrementAttempts(any());
+    }
+
+    @Test
+    void flush_WhenRowIsCorrupted_ShouldDeadLetterItAndFlushTheRest() {
+        var buffer = buffer();
+        clock.advance(WINDOW);
+        var corruptedRow = new PendingNotification(0, ChannelType.EMAIL, "host", "property-created", "en", "{not json");
+        corruptedRow.setId(7L);
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(buffer.currentBucketStart(), 0, Limit.of(PAGE_SIZE)))
+                .thenReturn(List.of(corruptedRow, row(8L, "other")));
+        when(dispatcher.dispatch(anyList())).thenReturn(List.of());
+
+        flusher(buffer).flush();
+
+        assertThat(captureDispatched()).singleElement().extracting(Notification::recipient).isEqualTo("other");
+        verify(failedStore).storePending(List.of(corruptedRow));
+        verify(repository).deleteAllByIdInBatch(List.of(8L, 7L));
+    }
+
+    @Test
+    void flush_WhenFirstPageThrows_ShouldPutDrainedGroupsBackIntoTheBuffer() {
+        var buffer = buffer();
+        buffer.add(List.of(notification("host", "property-created"), notification("other", "property-created")));
+        clock.advance(WINDOW);
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(buffer.currentBucketStart(), 0, Limit.of(PAGE_SIZE)))
+                .thenReturn(List.of());
+        when(dispatcher.dispatch(anyList())).thenThrow(new IllegalStateException("channel pool shut down"));
+
+        assertThatThrownBy(() -> flusher(buffer).flush()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(buffer.inMemoryCount()).isEqualTo(2);
+        assertThat(buffer.drainBefore(buffer.currentBucketStart())).containsOnlyKeys(
+                new RecipientKey(ChannelType.EMAIL, "host"), new RecipientKey(ChannelType.EMAIL, "other"));
+    }
+
+    @Test
+    void flush_ShouldPageThroughSpilledRows() {
+        var buffer = buffer();
+        clock.advance(WINDOW);
+        long cutoff = buffer.currentBucketStart();
+        var firstPage = List.of(row(1L, "a"), row(2L, "b"));
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(cutoff, 0, Limit.of(PAGE_SIZE))).thenReturn(firstPage);
+        when(repository.findByBucketStartLessThanAndIdGreaterThanOrderById(cutoff, 2, Limit.of(PAGE_SIZE))).thenReturn(List.of(row(3L, "c")));
+        when(dispatcher.dispatch(anyList())).thenReturn(List.of());
+
+        flusher(buffer).flush();
+
+        verify(dispatcher, times(2)).dispatch(anyList());
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(repository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    private DigestBuffer buffer() {
+        return new DigestBuffer(repository, objectMapper, Set.of("property-created", "property-status-changed"), WINDOW, 100, clock);
+    }
+
+    private DigestFlusher flusher(DigestBuffer buffer) {
+        return new DigestFlusher(buffer, repository, dispatcher, new TemplateRegistry(), objectMapper, failedStore, PAGE_SIZE, MAX_ATTEMPTS);
+    }
+
+    private static PendingNotification row(Long id, String recipient) {
+        var row = new PendingNotification(0, ChannelType.EMAIL, recipient, "property-created", "en", "{\"name\":\"Loft\"}");
+        row.setId(id);
+        return row;
+    }
+
+    private static Notification byRecipient(List<Notification> notifications, String recipient) {
+        return notifications.stream().filter(n -> n.recipient().equals(recipient)).findFirst().orElseThrow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Notification> captureDispatched() {
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dispatcher).dispatch(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.booking.notification.dispatch;
+
+import com.booking.notification.channel.ChannelType;
+import com.booking.notification.channel.NotificationChannel;
+import com.booking.notification.routing.Notification;
+import com.booking.notification.template.TemplateRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationDispatcherTest {
+
+    private final RecordingChannel email = new RecordingChannel(ChannelType.EMAIL);
+    private final RecordingChannel sms = new RecordingChannel(ChannelType.SMS);
+
+    private final NotificationDispatcher dispatcher =
+            new NotificationDispatcher(List.of(email, sms), new TemplateRegistry(), 4, 2, 3, Duration.ZERO);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_ShouldGroupPerChannelAndRecipient() {
+        var failures = dispatcher.dispatch(List.of(
+                welcome("anna@test.com", "Anna"),
+                welcome("bob@test.com", "Bob"),
+                welcome("anna@test.com", "Anna"),
+                confirmed("guest-1")));
+
+        assertThat(failures).isEmpty();
+        assertThat(email.sent).containsOnlyKeys("anna@test.com", "bob@test.com");
+        assertThat(email.sent.get("anna@test.com")).hasSize(2).allMatch(message -> message.contains("Anna"));
+        assertThat(sms.sent.get("guest-1")).singleElement().asString().contains("2025-07-01");
+        assertThat(dispatcher.deliveredCount()).isEqualTo(4);
+    }
+
+    @Test
+    void dispatch_WhenOneRecipientFailsEveryAttempt_ShouldReturnItAndStillDeliverOthers() {
+        email.failFor = "broken@test.com";
+
+        var failures = dispatcher.dispatch(List.of(welcome("broken@test.com", "X"), welcome("anna@test.com", "Anna")));
+
+        assertThat(failures).singleElement().extracting(Notification::recipient).isEqualTo("broken@test.com");
+        assertThat(email.sent).containsOnlyKeys("anna@test.com");
+        assertThat(email.attempts.get("broken@test.com")).hasValue(3);
+        assertThat(dispatcher.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_WhenDeliveryFailsTransiently_ShouldRetry() {
+        email.failFor = "flaky@test.com";
+        email.failuresLeft.set(2);
+
+        var failures = dispatcher.dispatch(List.of(welcome("flaky@test.com", "F")));
+
+        assertThat(failures).isEmpty();
+        assertThat(email.sent).containsOnlyKeys("flaky@test.com");
+        assertThat(dispatcher.failedCount()).isZero();
+    }
+
+    @Test
+    void dispatch_WhenManyRecipientsExceedPool_ShouldDeliverAll() {
+        var notifications = new ArrayList<Notification>();
+        for (int i = 0; i < 200; i++) {
+            notifications.add(welcome("user" + i + "@test.com", "User" + i));
+        }
+
+        assertThat(dispatcher.dispatch(notifications)).isEmpty();
+        assertThat(email.sent).hasSize(200);
+    }
+
+    private static Notification welcome(String email, String firstName) {
+        return new Notification(ChannelType.EMAIL, email, "user-welcome", Locale.ENGLISH,
+                Map.of("firstName", firstName, "email", email));
+    }
+
+    private static Notification confirmed(String guest) {
+        return new Notification(ChannelType.SMS, guest, "booking-confirmed", Locale.ENGLISH,
+                Map.of("bookingId", "b1", "checkIn", "2025-07-01", "checkOut", "2025-07-05"));
+    }
+
+    private static class RecordingChannel implements NotificationChannel {
+        private final ChannelType type;
+        private final Map<String, List<String>> sent = new ConcurrentHashMap<>();
+        private volatile String failFor;
+        private final AtomicInteger failuresLeft = new AtomicInteger(Integer.MAX_VALUE);
+        private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+        RecordingChannel(ChannelType type) {
+            this.type = type;
+        }
+
+        @Override
+        public ChannelType type() {
+            return type;
+        }
+
+        @Override
+        public void send(String recipient, List<String> messages) {
+            attempts.computeIfAbsent(recipient, key -> new AtomicInteger()).incrementAndGet();
+            if (recipient.equals(failFor) && failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("delivery failed");
+            }
+            sent.put(recipient, messages);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.booking.notification.routing;
+
+import com.booking.notification.channel.ChannelType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationRouterTest {
+
+    private final NotificationRouter router = new NotificationRouter(Locale.ENGLISH);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void route_UserCreated_ShouldSendWelcomeEmail() throws Exception {
+        var payload = objectMapper.readTree("""
+                {"id":"1","firstName":"Anna","email":"anna@test.com","isDeleted":false}""");
+
+        var notifications = router.route("USER_CREATED", payload, Map.of());
+
+        assertThat(notifications).containsExactly(new Notification(ChannelType.EMAIL, "anna@test.com", "user-welcome",
+                Locale.ENGLISH, Map.of("firstName", "Anna", "email", "anna@test.com")));
+    }
+
+    @Test
+    void route_UserRestored_ShouldSendNothing() throws Exception {
+        var payload = objectMapper.readTree("""
+                {"firstName":"Anna","email":"anna@test.com","isDeleted":false}""");
+
+        assertThat(router.route("USER_DELETE_STATE_CHANGED", payload, Map.of())).isEmpty();
+    }
+
+    @Test
+    void route_BookingConfirmed_ShouldEmailGuestInPayloadLocale() throws Exception {
+        var guestId = UUID.randomUUID();
+        var payload = objectMapper.readTree("""
+                {"id":"b1","guestId":"%s","checkIn":"2025-07-01","checkOut":"2025-07-05","locale":"ru"}""".formatted(guestId));
+
+        assertThat(router.contactId("BOOKING_CONFIRMED", payload)).contains(guestId);
+        var notifications = router.route("BOOKING_CONFIRMED", payload, Map.of(guestId, "guest@test.com"));
+
+        assertThat(notifications).hasSize(1);
+        var notification = notifications.get(0);
+        assertThat(notification.channel()).isEqualTo(ChannelType.EMAIL);
+        assertThat(notification.recipient()).isEqualTo("guest@test.com");
+        assertThat(notification.locale()).isEqualTo(Locale.forLanguageTag("ru"));
+        assertThat(notification.model()).containsEntry("checkIn", "2025-07-01");
+    }
+
+    @Test
+    void route_PropertyCreated_ShouldEmailResolvedOwner() throws Exception {
+        var ownerId = UUID.randomUUID();
+        var payload = objectMapper.readTree("""
+                {"ownerId":"%s","name":"Loft","city":"Riga"}""".formatted(ownerId));
+
+        var notifications = router.route("PROPERTY_CREATED", payload, Map.of(ownerId, "owner@test.com"));
+
+        assertThat(notifications).containsExactly(new Notification(ChannelType.EMAIL, "owner@test.com", "property-created",
+                Locale.ENGLISH, Map.of("name", "Loft", "city", "Riga")));
+    }
+
+    @Test
+    void route_WhenContactUnresolved_ShouldSendNothing() throws Exception {
+        var payload = objectMapper.readTree("""
+                {"ownerId":"%s","name":"Loft","isActive":true}""".formatted(UUID.randomUUID()));
+
+        assertThat(router.route("PROPERTY_STATUS_CHANGED", payload, Map.of())).isEmpty();
+        assertThat(router.contactId("PROPERTY_STATUS_CHANGED", objectMapper.readTree("{\"ownerId\":\"not-a-uuid\"}"))).isEmpty();
+        assertThat(router.contactId("USER_CREATED", payload)).isEmpty();
+    }
+
+    @Test
+    void route_UnknownOrMissingType_ShouldSendNothing() throws Exception {
+        var payload = objectMapper.readTree("{}");
+
+        assertThat(router.route("PROPERTY_UPDATED", payload, Map.of())).isEmpty();
+        assertThat(router.route(null, payload, Map.of())).isEmpty();
+    }
+}
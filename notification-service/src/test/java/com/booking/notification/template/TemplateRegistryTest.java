@@ -0,0 +1,54 @@
+package com.booking.notification.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TemplateRegistryTest {
+
+    private final TemplateRegistry templateRegistry = new TemplateRegistry();
+
+    @Test
+    void compile_ShouldRenderPlaceholdersAndLiterals() {
+        var template = CompiledTemplate.compile("Hello {{ name }}, see you in {{city}}!");
+
+        assertThat(template.placeholders()).containsExactly("name", "city");
+        assertThat(template.render(Map.of("name", "Anna", "city", "Rome"))).isEqualTo("Hello Anna, see you in Rome!");
+    }
+
+    @Test
+    void compile_WhenValueMissingOrBracesUnclosed_ShouldRenderEmptyAndKeepText() {
+        assertThat(CompiledTemplate.compile("Hi {{name}}.").render(Map.of())).isEqualTo("Hi .");
+        assertThat(CompiledTemplate.compile("Price {{ unclosed").render(Map.of())).isEqualTo("Price {{ unclosed");
+        assertThat(CompiledTemplate.compile("{{a}}{{b}}").render(Map.of("a", "1", "b", "2"))).isEqualTo("12");
+    }
+
+    @Test
+    void get_ShouldCompileOncePerTemplateAndLocale() {
+        var first = templateRegistry.get("user-welcome", Locale.ENGLISH);
+        var second = templateRegistry.get("user-welcome", Locale.ENGLISH);
+        templateRegistry.get("user-welcome", Locale.forLanguageTag("ru"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(templateRegistry.size()).isEqualTo(2);
+    }
+
+    @Test
+    void render_ShouldPreferLocalizedTemplateAndFallBackToDefault() {
+        var model = Map.of("firstName", "Anna", "email", "anna@test.com");
+
+        assertThat(templateRegistry.render("user-welcome", Locale.forLanguageTag("ru"), model)).startsWith("Добро пожаловать, Anna!");
+        assertThat(templateRegistry.render("user-welcome", Locale.GERMAN, model)).startsWith("Welcome to Booking, Anna!");
+    }
+
+    @Test
+    void get_WhenTemplateMissing_ShouldThrowTemplateNotFoundException() {
+        assertThatThrownBy(() -> templateRegistry.get("missing", Locale.ENGLISH))
+                .isInstanceOf(TemplateNotFoundException.class)
+                .hasMessageContaining("missing");
+    }
+}
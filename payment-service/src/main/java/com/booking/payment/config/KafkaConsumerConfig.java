@@ -0,0 +1,41 @@
+package com.booking.payment.config;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "payment.settlement.consumer.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaConsumerConfig {
+
+    @Value("${kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${payment.settlement.consumer.group-id:payment-service-settlement}")
+    private String groupId;
+
+    @Value("${payment.settlement.consumer.max-poll-records:200}")
+    private int maxPollRecords;
+
+    /**
+     * Owned and closed by {@link com.booking.payment.settlement.SettlementConsumer}'s polling thread.
+     */
+    @Bean(destroyMethod = "")
+    public Consumer<String, byte[]> settlementKafkaConsumer() {
+        return new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, groupId,
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords
+        ), new StringDeserializer(), new ByteArrayDeserializer());
+    }
+}
@@ -0,0 +1,52 @@
+package com.booking.payment.controller;
+
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.dto.PaymentRequestDto;
+import com.booking.payment.service.PaymentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/payments")
+@AllArgsConstructor
+@Validated
+@Slf4j
+@Tag(name = "Payments", description = "API for payment service")
+public class PaymentController {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final PaymentService paymentService;
+
+    @Operation(summary = "Submit payment", description = "Accepts a payment once per idempotency key and settles it asynchronously; retries with the same key return the original payment")
+    @PostMapping
+    public ResponseEntity<PaymentDto> submitPayment(
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) @NotBlank @Size(max = 255) String idempotencyKey,
+            @RequestBody @Valid PaymentRequestDto requestDto) {
+        log.info("Submitting payment for booking {}", requestDto.bookingId());
+        var submitted = paymentService.submitPayment(idempotencyKey, requestDto);
+        if (submitted.created()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(submitted.payment());
+        }
+        return ResponseEntity.ok().header(REPLAYED_HEADER, "true").body(submitted.payment());
+    }
+
+    @Operation(summary = "Get payment by ID", description = "Returns a payment by unique ID")
+    @GetMapping("/{paymentId}")
+    public ResponseEntity<PaymentDto> getPayment(@PathVariable("paymentId") UUID paymentId) {
+        log.debug("Getting payment {}", paymentId);
+        return ResponseEntity.ok(paymentService.getPaymentById(paymentId));
+    }
+}
@@ -0,0 +1,40 @@
+package com.booking.payment.dto;
+
+import com.booking.payment.entity.PaymentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Payment details")
+public record PaymentDto(
+
+        @Schema(description = "Unique identifier")
+        UUID id,
+
+        @Schema(description = "Client-supplied idempotency key")
+        String idempotencyKey,
+
+        @Schema(description = "Booking ID")
+        UUID bookingId,
+
+        @Schema(description = "Payer ID")
+        UUID payerId,
+
+        @Schema(description = "Charged amount")
+        BigDecimal amount,
+
+        @Schema(description = "ISO 4217 currency code")
+        String currency,
+
+        @Schema(description = "Payment status")
+        PaymentStatus status,
+
+        @Schema(description = "Provider reason for a failed payment")
+        String failureReason,
+
+        @Schema(description = "Creation timestamp")
+        LocalDateTime createdAt
+) {
+}
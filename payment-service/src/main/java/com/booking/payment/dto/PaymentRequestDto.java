@@ -0,0 +1,33 @@
+package com.booking.payment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Schema(description = "Data for submitting a payment")
+public record PaymentRequestDto(
+        @Schema(description = "Booking being paid for", example = "123e4567-e89b-12d3-a456-426614174000")
+        @NotNull(message = "Booking ID is required")
+        UUID bookingId,
+
+        @Schema(description = "Paying user", example = "123e4567-e89b-12d3-a456-426614174001")
+        @NotNull(message = "Payer ID is required")
+        UUID payerId,
+
+        @Schema(description = "Amount to charge", example = "250.00")
+        @NotNull(message = "Amount is required")
+        @Positive(message = "Amount must be positive")
+        @Digits(integer = 10, fraction = 2, message = "Amount must have at most 2 decimal places")
+        BigDecimal amount,
+
+        @Schema(description = "ISO 4217 currency code", example = "EUR")
+        @NotNull(message = "Currency is required")
+        @Pattern(regexp = "[A-Z]{3}", message = "Currency must be a 3-letter ISO code")
+        String currency
+) {
+}
@@ -0,0 +1,72 @@
+package com.booking.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "payments")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class Payment {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "idempotency_key", nullable = false, updatable = false)
+    private String idempotencyKey;
+
+    @Column(name = "booking_id", nullable = false)
+    private UUID bookingId;
+
+    @Column(name = "payer_id", nullable = false)
+    private UUID payerId;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "currency", nullable = false)
+    private String currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PaymentStatus status;
+
+    @Column(name = "authorization_id")
+    private String authorizationId;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "sweep_attempts", nullable = false)
+    private int sweepAttempts;
+
+    public Payment(UUID id, String idempotencyKey, UUID bookingId, UUID payerId, BigDecimal amount, String currency,
+                   PaymentStatus status, LocalDateTime createdAt) {
+        this(id, idempotencyKey, bookingId, payerId, amount, currency, status, null, null, createdAt, createdAt, 0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Payment payment = (Payment) o;
+        return id != null && id.equals(payment.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,8 @@
+package com.booking.payment.entity;
+
+public enum PaymentStatus {
+    PENDING,
+    AUTHORIZED,
+    CAPTURED,
+    FAILED
+}
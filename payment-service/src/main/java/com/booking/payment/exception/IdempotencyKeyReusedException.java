@@ -0,0 +1,11 @@
+package com.booking.payment.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    private IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+
+    public static IdempotencyKeyReusedException forKey(String idempotencyKey) {
+        return new IdempotencyKeyReusedException("Idempotency key " + idempotencyKey + " was already used with a different request");
+    }
+}
@@ -0,0 +1,13 @@
+package com.booking.payment.exception;
+
+import java.util.UUID;
+
+public class PaymentNotFoundException extends RuntimeException {
+    private PaymentNotFoundException(String message) {
+        super(message);
+    }
+
+    public static PaymentNotFoundException forPayment(UUID id) {
+        return new PaymentNotFoundException("Payment with id " + id + " not found");
+    }
+}
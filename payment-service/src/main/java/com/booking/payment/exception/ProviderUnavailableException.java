@@ -0,0 +1,11 @@
+package com.booking.payment.exception;
+
+public class ProviderUnavailableException extends RuntimeException {
+    private ProviderUnavailableException(String message) {
+        super(message);
+    }
+
+    public static ProviderUnavailableException forOperation(String operation) {
+        return new ProviderUnavailableException("Payment provider unavailable during " + operation);
+    }
+}
@@ -0,0 +1,91 @@
+package com.booking.payment.exception.exceptionhandler;
+
+import com.booking.payment.exception.IdempotencyKeyReusedException;
+import com.booking.payment.exception.PaymentNotFoundException;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.*;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@ControllerAdvice
+@Slf4j
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler(PaymentNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handlePaymentNotFound(PaymentNotFoundException ex, WebRequest request) {
+        log.warn("Payment not found {}", ex.getMessage());
+
+        return createProblemDetail(ex.getMessage(), HttpStatus.NOT_FOUND, request);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ProblemDetail handleIdempotencyKeyReused(IdempotencyKeyReusedException ex, WebRequest request) {
+        log.warn("Idempotency key reused {}", ex.getMessage());
+
+        return createProblemDetail(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY, request);
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
+                                                                  HttpHeaders headers,
+                                                                  HttpStatusCode status,
+                                                                  WebRequest request) {
+        log.warn("Validation error: {}", ex.getMessage());
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getFieldErrors().forEach(error ->
+                errors.put(error.getField(), error.getDefaultMessage())
+        );
+
+        ProblemDetail pd = createProblemDetail(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+        pd.setTitle("Validation Error");
+        pd.setDetail("Invalid request parameters");
+        pd.setProperty("invalid_params", errors);
+
+        return ResponseEntity.badRequest().body(pd);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleConstraintViolation(ConstraintViolationException ex, WebRequest request) {
+        log.warn("Validation error: {}", ex.getMessage());
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation -> {
+            var fieldName = extractFieldName(violation.getPropertyPath().toString());
+            errors.put(fieldName, violation.getMessage());
+        });
+
+        ProblemDetail pd = createProblemDetail(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+        pd.setTitle("Validation Error");
+        pd.setDetail("Invalid request parameters");
+        pd.setProperty("invalid_params", errors);
+
+        return pd;
+    }
+
+    private static ProblemDetail createProblemDetail(String message, HttpStatus status, WebRequest request) {
+        var pd = ProblemDetail.forStatusAndDetail(status, message);
+        pd.setProperty("timestamp", Instant.now());
+        pd.setInstance(URI.create(((ServletWebRequest) request).getRequest().getRequestURI()));
+        return pd;
+    }
+
+    private String extractFieldName(String propertyPath) {
+        String[] parts = propertyPath.split("\\.");
+        return parts[parts.length - 1];
+    }
+}
@@ -0,0 +1,41 @@
+package com.booking.payment.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of idempotency keys this instance has recently written or seen, with the response that was given
+ * for them. A hit answers a retry without touching the database; a miss is not authoritative and falls through
+ * to the insert, where the unique index on {@code payments.idempotency_key} decides.
+ */
+@Component
+@Slf4j
+public class IdempotencyKeyCache {
+
+    private final Cache<String, IdempotentRequest> entries;
+
+    public IdempotencyKeyCache(@Value("${payment.idempotency.cache-size:100000}") long maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // evict on the writing thread so the size never lags behind the bound
+                .executor(Runnable::run)
+                .build();
+        log.info("Idempotency key cache initialized with maxSize={}", maxSize);
+    }
+
+    public IdempotentRequest get(String idempotencyKey) {
+        return entries.getIfPresent(idempotencyKey);
+    }
+
+    public void put(String idempotencyKey, IdempotentRequest request) {
+        entries.put(idempotencyKey, request);
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+}
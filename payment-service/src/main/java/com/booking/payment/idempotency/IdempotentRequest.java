@@ -0,0 +1,27 @@
+package com.booking.payment.idempotency;
+
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.dto.PaymentRequestDto;
+import com.booking.payment.entity.Payment;
+
+import java.util.Objects;
+
+/**
+ * The response given for an idempotency key together with the request that produced it, so a retry carrying
+ * a different body can be told apart from a genuine duplicate, and a genuine duplicate is answered with the
+ * original response.
+ */
+public record IdempotentRequest(PaymentDto response, PaymentRequestDto request) {
+
+    public static IdempotentRequest of(Payment payment, PaymentDto response) {
+        return new IdempotentRequest(response,
+                new PaymentRequestDto(payment.getBookingId(), payment.getPayerId(), payment.getAmount(), payment.getCurrency()));
+    }
+
+    public boolean matches(PaymentRequestDto other) {
+        return Objects.equals(request.bookingId(), other.bookingId())
+                && Objects.equals(request.payerId(), other.payerId())
+                && request.amount().compareTo(other.amount()) == 0
+                && Objects.equals(request.currency(), other.currency());
+    }
+}
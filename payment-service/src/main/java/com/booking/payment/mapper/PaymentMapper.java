@@ -0,0 +1,11 @@
+package com.booking.payment.mapper;
+
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.entity.Payment;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface PaymentMapper {
+
+    PaymentDto toPaymentDto(Payment payment);
+}
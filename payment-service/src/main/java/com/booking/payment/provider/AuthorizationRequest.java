@@ -0,0 +1,7 @@
+package com.booking.payment.provider;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record AuthorizationRequest(UUID paymentId, UUID payerId, BigDecimal amount, String currency) {
+}
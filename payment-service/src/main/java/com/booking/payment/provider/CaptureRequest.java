@@ -0,0 +1,7 @@
+package com.booking.payment.provider;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record CaptureRequest(UUID paymentId, String authorizationId, BigDecimal amount, String currency) {
+}
@@ -0,0 +1,23 @@
+package com.booking.payment.provider;
+
+/**
+ * Gateway to an external payment provider. Calls are slow and may block for seconds, so they are only made
+ * from settlement workers, never from request threads.
+ * <p>
+ * Implementations must treat {@code paymentId} as the provider-side idempotency key: settlement commands are
+ * delivered at least once, so the same authorization or capture can be requested more than once.
+ */
+public interface PaymentProvider {
+
+    /**
+     * @throws com.booking.payment.exception.ProviderUnavailableException if the provider could not be reached;
+     *         the call is safe to repeat later
+     */
+    ProviderResponse authorize(AuthorizationRequest request);
+
+    /**
+     * @throws com.booking.payment.exception.ProviderUnavailableException if the provider could not be reached;
+     *         the call is safe to repeat later
+     */
+    ProviderResponse capture(CaptureRequest request);
+}
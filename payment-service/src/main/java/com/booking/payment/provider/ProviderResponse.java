@@ -0,0 +1,16 @@
+package com.booking.payment.provider;
+
+/**
+ * Provider verdict. {@code reference} is the provider's id for an approved operation, {@code declineReason}
+ * is set when it was declined.
+ */
+public record ProviderResponse(boolean approved, String reference, String declineReason) {
+
+    public static ProviderResponse approved(String reference) {
+        return new ProviderResponse(true, reference, null);
+    }
+
+    public static ProviderResponse declined(String reason) {
+        return new ProviderResponse(false, null, reason);
+    }
+}
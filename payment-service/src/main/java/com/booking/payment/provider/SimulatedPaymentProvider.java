@@ -0,0 +1,81 @@
+package com.booking.payment.provider;
+
+import com.booking.payment.exception.ProviderUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for a payment provider, used for development and offline load tests of checkout. Each call
+ * sleeps for a uniformly random latency, then fails with {@code error-rate} probability and declines an
+ * authorization with {@code decline-rate} probability. References are derived from the payment id, so
+ * repeated calls for the same payment return the same reference as an idempotent provider would.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.provider.type", havingValue = "simulator", matchIfMissing = true)
+@Slf4j
+public class SimulatedPaymentProvider implements PaymentProvider {
+
+    static final String DECLINE_REASON = "card_declined";
+
+    private final long minLatencyNanos;
+    private final long maxLatencyNanos;
+    private final double declineRate;
+    private final double errorRate;
+
+    public SimulatedPaymentProvider(@Value("${payment.provider.simulator.min-latency:PT0.05S}") Duration minLatency,
+                                    @Value("${payment.provider.simulator.max-latency:PT0.3S}") Duration maxLatency,
+                                    @Value("${payment.provider.simulator.decline-rate:0.05}") double declineRate,
+                                    @Value("${payment.provider.simulator.error-rate:0.02}") double errorRate) {
+        if (maxLatency.compareTo(minLatency) < 0) {
+            throw new IllegalArgumentException("max-latency must not be lower than min-latency");
+        }
+        this.minLatencyNanos = minLatency.toNanos();
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.declineRate = declineRate;
+        this.errorRate = errorRate;
+        log.info("Payment provider simulator initialized with latency={}..{}, declineRate={}, errorRate={}",
+                minLatency, maxLatency, declineRate, errorRate);
+    }
+
+    @Override
+    public ProviderResponse authorize(AuthorizationRequest request) {
+        simulateCall("authorize");
+        if (ThreadLocalRandom.current().nextDouble() < declineRate) {
+            return ProviderResponse.declined(DECLINE_REASON);
+        }
+        return ProviderResponse.approved(reference("auth_", request.paymentId()));
+    }
+
+    @Override
+    public ProviderResponse capture(CaptureRequest request) {
+        simulateCall("capture");
+        return ProviderResponse.approved(reference("cap_", request.paymentId()));
+    }
+
+    private void simulateCall(String operation) {
+        var random = ThreadLocalRandom.current();
+        long latency = maxLatencyNanos > minLatencyNanos ? random.nextLong(minLatencyNanos, maxLatencyNanos + 1) : minLatencyNanos;
+        if (latency > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ProviderUnavailableException.forOperation(operation);
+            }
+        }
+        if (random.nextDouble() < errorRate) {
+            throw ProviderUnavailableException.forOperation(operation);
+        }
+    }
+
+    private static String reference(String prefix, UUID paymentId) {
+        return prefix + paymentId.toString().replace("-", "");
+    }
+}
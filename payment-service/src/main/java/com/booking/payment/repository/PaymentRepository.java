@@ -0,0 +1,78 @@
+package com.booking.payment.repository;
+
+import com.booking.payment.entity.Payment;
+import com.booking.payment.entity.PaymentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+
+    Optional<Payment> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Moves a payment from {@code from} to {@code to} and resets its sweep attempts for the next step. Returns 0
+     * when the payment is no longer in {@code from}, which makes redelivered settlement commands no-ops.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update Payment p
+            set p.status = :to, p.authorizationId = coalesce(:authorizationId, p.authorizationId),
+                p.failureReason = :failureReason, p.updatedAt = CURRENT_TIMESTAMP, p.sweepAttempts = 0
+            where p.id = :id and p.status = :from""")
+    int transition(@Param("id") UUID id,
+                   @Param("from") PaymentStatus from,
+                   @Param("to") PaymentStatus to,
+                   @Param("authorizationId") String authorizationId,
+                   @Param("failureReason") String failureReason);
+
+    /**
+     * Claims up to {@code limit} payments in {@code status} that have been swept fewer than {@code maxAttempts}
+     * times and have not changed for {@code staleSeconds}, doubled for every earlier sweep. Claiming counts the
+     * attempt and restarts the payment's clock, so each retry waits twice as long as the one before. All times
+     * come from the database clock.
+     */
+    @Transactional
+    @Query(value = """
+            WITH swept AS (
+                UPDATE payments SET sweep_attempts = sweep_attempts + 1, updated_at = now()
+                WHERE id IN (
+                    SELECT id FROM payments
+                    WHERE status = :status
+                      AND sweep_attempts < :maxAttempts
+                      AND updated_at < now() - :staleSeconds * INTERVAL '1 second'
+                      AND updated_at < now() - :staleSeconds * power(2, sweep_attempts) * INTERVAL '1 second'
+                    ORDER BY updated_at
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, updated_at)
+            SELECT id FROM swept ORDER BY updated_at""", nativeQuery = true)
+    List<UUID> sweepStalled(@Param("status") String status,
+                            @Param("staleSeconds") long staleSeconds,
+                            @Param("maxAttempts") int maxAttempts,
+                            @Param("limit") int limit);
+
+    /**
+     * Payments still in flight whose last allowed sweep has also gone unanswered for its backoff.
+     */
+    @Query(value = """
+            SELECT id FROM payments
+            WHERE status IN ('PENDING', 'AUTHORIZED')
+              AND sweep_attempts >= :maxAttempts
+              AND updated_at < now() - :staleSeconds * INTERVAL '1 second'
+              AND updated_at < now() - :staleSeconds * power(2, sweep_attempts) * INTERVAL '1 second'
+            ORDER BY updated_at
+            LIMIT :limit""", nativeQuery = true)
+    List<UUID> findIdsSweptOut(@Param("staleSeconds") long staleSeconds,
+                               @Param("maxAttempts") int maxAttempts,
+                               @Param("limit") int limit);
+}
@@ -0,0 +1,41 @@
+package com.booking.payment.service;
+
+import com.booking.payment.entity.Payment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Appends payments to the ledger. The insert is a no-op when the idempotency key is already taken, so a
+ * duplicate never produces a second row or a constraint error, and new keys cost a single round-trip.
+ * {@code updated_at} is taken from the database clock, like every later write of it, since the sweeper compares
+ * it against {@code now()}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentLedger {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO payments (id, idempotency_key, booking_id, payer_id, amount, currency, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())
+            ON CONFLICT (idempotency_key) DO NOTHING""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return {@code true} if the row was written, {@code false} if a payment with the same key already exists
+     */
+    @Transactional
+    public boolean insertIfAbsent(Payment payment) {
+        return jdbcTemplate.update(INSERT_SQL,
+                payment.getId(),
+                payment.getIdempotencyKey(),
+                payment.getBookingId(),
+                payment.getPayerId(),
+                payment.getAmount(),
+                payment.getCurrency(),
+                payment.getStatus().name(),
+                payment.getCreatedAt()) == 1;
+    }
+}
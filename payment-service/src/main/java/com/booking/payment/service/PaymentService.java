@@ -0,0 +1,12 @@
+package com.booking.payment.service;
+
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.dto.PaymentRequestDto;
+
+import java.util.UUID;
+
+public interface PaymentService {
+    SubmittedPayment submitPayment(String idempotencyKey, PaymentRequestDto dto);
+
+    PaymentDto getPaymentById(UUID id);
+}
@@ -0,0 +1,81 @@
+package com.booking.payment.service;
+
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.dto.PaymentRequestDto;
+import com.booking.payment.entity.Payment;
+import com.booking.payment.entity.PaymentStatus;
+import com.booking.payment.exception.IdempotencyKeyReusedException;
+import com.booking.payment.exception.PaymentNotFoundException;
+import com.booking.payment.idempotency.IdempotencyKeyCache;
+import com.booking.payment.idempotency.IdempotentRequest;
+import com.booking.payment.mapper.PaymentMapper;
+import com.booking.payment.repository.PaymentRepository;
+import com.booking.payment.settlement.SettlementPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentServiceImpl implements PaymentService {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentMapper paymentMapper;
+    private final PaymentLedger paymentLedger;
+    private final IdempotencyKeyCache keyCache;
+    private final SettlementPublisher settlementPublisher;
+
+    @Override
+    public SubmittedPayment submitPayment(String idempotencyKey, PaymentRequestDto dto) {
+        var recent = keyCache.get(idempotencyKey);
+        if (recent != null) {
+            log.debug("Idempotency key {} answered from cache", idempotencyKey);
+            return replay(idempotencyKey, recent, dto);
+        }
+
+        var payment = new Payment(UUID.randomUUID(), idempotencyKey, dto.bookingId(), dto.payerId(),
+                dto.amount(), dto.currency(), PaymentStatus.PENDING, LocalDateTime.now());
+        if (paymentLedger.insertIfAbsent(payment)) {
+            var response = paymentMapper.toPaymentDto(payment);
+            keyCache.put(idempotencyKey, new IdempotentRequest(response, dto));
+            settlementPublisher.requestAuthorization(payment.getId());
+            log.info("Payment {} accepted for booking {}", payment.getId(), payment.getBookingId());
+            return new SubmittedPayment(response, true);
+        }
+
+        // the key was written earlier, by another instance or before this one started
+        var existing = paymentRepository.findByIdempotencyKey(idempotencyKey)
+                .orElseThrow(() -> new IllegalStateException("Payment for idempotency key " + idempotencyKey + " vanished"));
+        var stored = IdempotentRequest.of(existing, paymentMapper.toPaymentDto(existing));
+        keyCache.put(idempotencyKey, stored);
+        checkSameRequest(idempotencyKey, stored, dto);
+        return new SubmittedPayment(stored.response(), false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaymentDto getPaymentById(UUID id) {
+        return paymentRepository.findById(id)
+                .map(paymentMapper::toPaymentDto)
+                .orElseThrow(() -> PaymentNotFoundException.forPayment(id));
+    }
+
+    /**
+     * Answers a duplicate with the response cached for its key, as the original request was answered.
+     */
+    private SubmittedPayment replay(String idempotencyKey, IdempotentRequest stored, PaymentRequestDto dto) {
+        checkSameRequest(idempotencyKey, stored, dto);
+        return new SubmittedPayment(stored.response(), false);
+    }
+
+    private static void checkSameRequest(String idempotencyKey, IdempotentRequest stored, PaymentRequestDto dto) {
+        if (!stored.matches(dto)) {
+            throw IdempotencyKeyReusedException.forKey(idempotencyKey);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.booking.payment.service;
+
+import com.booking.payment.dto.PaymentDto;
+
+/**
+ * Outcome of a payment submission; {@code created} is {@code false} when the idempotency key was replayed.
+ */
+public record SubmittedPayment(PaymentDto payment, boolean created) {
+}
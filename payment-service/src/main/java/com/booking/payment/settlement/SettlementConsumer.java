@@ -0,0 +1,136 @@
+package com.booking.payment.settlement;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.errors.WakeupException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feeds authorize and capture commands to a pool of settlement workers. A single thread polls both command
+ * topics and fans each batch out to the pool, so slow provider calls overlap instead of running one after
+ * another. Offsets are committed once every command of the batch has been attempted; a command whose step
+ * did not complete is picked up again by {@link StalledPaymentSweeper}.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.settlement.consumer.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SettlementConsumer implements SmartLifecycle {
+
+    private final Consumer<String, byte[]> consumer;
+    private final SettlementWorker worker;
+    private final String authorizeTopic;
+    private final String captureTopic;
+    private final Duration pollTimeout;
+    private final ThreadPoolExecutor executor;
+
+    private volatile boolean running;
+    private Thread poller;
+
+    public SettlementConsumer(Consumer<String, byte[]> consumer,
+                              SettlementWorker worker,
+                              SettlementPublisher publisher,
+                              @Value("${payment.settlement.workers:32}") int workers,
+                              @Value("${payment.settlement.consumer.poll-timeout:PT1S}") Duration pollTimeout) {
+        this.consumer = consumer;
+        this.worker = worker;
+        this.authorizeTopic = publisher.authorizeTopic();
+        this.captureTopic = publisher.captureTopic();
+        this.pollTimeout = pollTimeout;
+
+        var threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers * 4),
+                task -> {
+                    var thread = new Thread(task, "settlement-worker-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        poller = new Thread(this::run, "settlement-consumer");
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        consumer.wakeup();
+        try {
+            poller.join(pollTimeout.toMillis() * 5);
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        try {
+            consumer.subscribe(List.of(authorizeTopic, captureTopic));
+            while (running) {
+                var records = consumer.poll(pollTimeout);
+                if (!records.isEmpty()) {
+                    process(records);
+                    consumer.commitSync();
+                }
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            log.error("Settlement consumer stopped", e);
+        } finally {
+            consumer.close();
+        }
+    }
+
+    void process(ConsumerRecords<String, byte[]> records) {
+        var steps = new ArrayList<CompletableFuture<Void>>(records.count());
+        for (var record : records) {
+            steps.add(CompletableFuture.runAsync(() -> execute(record), executor));
+        }
+        CompletableFuture.allOf(steps.toArray(CompletableFuture[]::new)).join();
+        log.debug("Processed {} settlement commands", records.count());
+    }
+
+    private void execute(ConsumerRecord<String, byte[]> record) {
+        try {
+            var paymentId = UUID.fromString(new String(record.value(), StandardCharsets.UTF_8));
+            if (authorizeTopic.equals(record.topic())) {
+                worker.authorize(paymentId);
+            } else if (captureTopic.equals(record.topic())) {
+                worker.capture(paymentId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Settlement command at {}-{}@{} failed", record.topic(), record.partition(), record.offset(), e);
+        }
+    }
+}
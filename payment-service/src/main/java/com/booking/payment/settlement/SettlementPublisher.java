@@ -0,0 +1,85 @@
+package com.booking.payment.settlement;
+
+import com.booking.common.event.EventEnvelope;
+import com.booking.common.event.EventSerializer;
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.entity.PaymentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Enqueues settlement commands and publishes final payment results as {@link EventEnvelope}s. Commands carry
+ * only the payment id. Sends never wait for the broker, so
+ * request threads only pay for handing the record to the producer. A command lost in transit leaves the
+ * payment in flight, where {@link StalledPaymentSweeper} picks it up again.
+ */
+@Component
+@Slf4j
+public class SettlementPublisher {
+
+    static final String EVENT_TYPE_HEADER = "event-type";
+    static final String PAYMENT_CAPTURED = "PAYMENT_CAPTURED";
+    static final String PAYMENT_FAILED = "PAYMENT_FAILED";
+
+    private final Producer<String, byte[]> producer;
+    private final EventSerializer eventSerializer;
+    private final String authorizeTopic;
+    private final String captureTopic;
+    private final String resultTopic;
+
+    public SettlementPublisher(Producer<String, byte[]> producer,
+                               EventSerializer eventSerializer,
+                               @Value("${payment.settlement.authorize-topic:payment-authorizations}") String authorizeTopic,
+                               @Value("${payment.settlement.capture-topic:payment-captures}") String captureTopic,
+                               @Value("${payment.settlement.result-topic:payment-results}") String resultTopic) {
+        this.producer = producer;
+        this.eventSerializer = eventSerializer;
+        this.authorizeTopic = authorizeTopic;
+        this.captureTopic = captureTopic;
+        this.resultTopic = resultTopic;
+    }
+
+    public void requestAuthorization(UUID paymentId) {
+        sendCommand(authorizeTopic, paymentId);
+    }
+
+    public void requestCapture(UUID paymentId) {
+        sendCommand(captureTopic, paymentId);
+    }
+
+    public void publishResult(PaymentDto payment) {
+        var eventType = payment.status() == PaymentStatus.CAPTURED ? PAYMENT_CAPTURED : PAYMENT_FAILED;
+        var payload = eventSerializer.serialize(EventEnvelope.of(eventType, payment.id(), 0, payment));
+        // keyed by booking so consumers see all results of one booking in order
+        var record = new ProducerRecord<>(resultTopic, payment.bookingId().toString(), payload);
+        record.headers().add(EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+        send(record, payment.id());
+    }
+
+    String authorizeTopic() {
+        return authorizeTopic;
+    }
+
+    String captureTopic() {
+        return captureTopic;
+    }
+
+    private void sendCommand(String topic, UUID paymentId) {
+        var id = paymentId.toString();
+        send(new ProducerRecord<>(topic, id, id.getBytes(StandardCharsets.UTF_8)), paymentId);
+    }
+
+    private void send(ProducerRecord<String, byte[]> record, UUID paymentId) {
+        producer.send(record, (metadata, e) -> {
+            if (e != null) {
+                log.warn("Failed to publish to {} for payment {}: {}", record.topic(), paymentId, e.getMessage());
+            }
+        });
+    }
+}
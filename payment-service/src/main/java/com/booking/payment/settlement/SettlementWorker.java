@@ -0,0 +1,101 @@
+package com.booking.payment.settlement;
+
+import com.booking.payment.entity.Payment;
+import com.booking.payment.entity.PaymentStatus;
+import com.booking.payment.exception.ProviderUnavailableException;
+import com.booking.payment.mapper.PaymentMapper;
+import com.booking.payment.provider.AuthorizationRequest;
+import com.booking.payment.provider.CaptureRequest;
+import com.booking.payment.provider.PaymentProvider;
+import com.booking.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Runs one settlement step for a payment. Each step only acts on a payment in the expected status and moves
+ * it with a conditional update, so redelivered or swept commands are no-ops once the step has completed.
+ * Provider outages leave the payment where it is for {@link StalledPaymentSweeper} to retry, until it gives up.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementWorker {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentProvider paymentProvider;
+    private final SettlementPublisher publisher;
+    private final PaymentMapper paymentMapper;
+
+    public void authorize(UUID paymentId) {
+        var payment = load(paymentId, PaymentStatus.PENDING);
+        if (payment == null) {
+            return;
+        }
+
+        try {
+            var response = paymentProvider.authorize(new AuthorizationRequest(
+                    payment.getId(), payment.getPayerId(), payment.getAmount(), payment.getCurrency()));
+            if (!response.approved()) {
+                fail(payment, response.declineReason());
+            } else if (paymentRepository.transition(paymentId, PaymentStatus.PENDING, PaymentStatus.AUTHORIZED, response.reference(), null) == 1) {
+                publisher.requestCapture(paymentId);
+            }
+        } catch (ProviderUnavailableException e) {
+            log.warn("Authorization of payment {} deferred: {}", paymentId, e.getMessage());
+        }
+    }
+
+    public void capture(UUID paymentId) {
+        var payment = load(paymentId, PaymentStatus.AUTHORIZED);
+        if (payment == null) {
+            return;
+        }
+
+        try {
+            var response = paymentProvider.capture(new CaptureRequest(
+                    payment.getId(), payment.getAuthorizationId(), payment.getAmount(), payment.getCurrency()));
+            if (!response.approved()) {
+                fail(payment, response.declineReason());
+            } else if (paymentRepository.transition(paymentId, PaymentStatus.AUTHORIZED, PaymentStatus.CAPTURED, null, null) == 1) {
+                payment.setStatus(PaymentStatus.CAPTURED);
+                publisher.publishResult(paymentMapper.toPaymentDto(payment));
+                log.info("Payment {} captured", paymentId);
+            }
+        } catch (ProviderUnavailableException e) {
+            log.warn("Capture of payment {} deferred: {}", paymentId, e.getMessage());
+        }
+    }
+
+    /**
+     * Fails a payment that is still in flight after {@link StalledPaymentSweeper} has run out of attempts.
+     */
+    public void giveUp(UUID paymentId, String reason) {
+        var payment = paymentRepository.findById(paymentId).orElse(null);
+        if (payment == null || (payment.getStatus() != PaymentStatus.PENDING && payment.getStatus() != PaymentStatus.AUTHORIZED)) {
+            log.debug("Not giving up on payment {}: no longer in flight", paymentId);
+            return;
+        }
+        fail(payment, reason);
+    }
+
+    private Payment load(UUID paymentId, PaymentStatus expected) {
+        var payment = paymentRepository.findById(paymentId).orElse(null);
+        if (payment == null || payment.getStatus() != expected) {
+            log.debug("Skipping settlement step for payment {}: expected {}", paymentId, expected);
+            return null;
+        }
+        return payment;
+    }
+
+    private void fail(Payment payment, String reason) {
+        if (paymentRepository.transition(payment.getId(), payment.getStatus(), PaymentStatus.FAILED, null, reason) == 1) {
+            payment.setStatus(PaymentStatus.FAILED);
+            payment.setFailureReason(reason);
+            publisher.publishResult(paymentMapper.toPaymentDto(payment));
+            log.info("Payment {} failed: {}", payment.getId(), reason);
+        }
+    }
+}
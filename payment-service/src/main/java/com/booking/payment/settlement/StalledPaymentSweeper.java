@@ -0,0 +1,62 @@
+package com.booking.payment.settlement;
+
+import com.booking.payment.entity.PaymentStatus;
+import com.booking.payment.repository.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Re-enqueues payments that have not moved for {@code stale-after}: commands lost before reaching Kafka,
+ * and steps deferred because the provider was unavailable. {@code stale-after} must exceed the normal
+ * settlement latency, otherwise healthy payments get duplicate (harmless but wasted) commands.
+ * <p>
+ * The wait doubles after every re-enqueue of the same step. Once a step has been re-enqueued
+ * {@code max-sweep-attempts} times and the last one has also gone unanswered, the payment is marked FAILED.
+ * Staleness is judged by the database clock only.
+ */
+@Component
+@Slf4j
+public class StalledPaymentSweeper {
+
+    private final PaymentRepository paymentRepository;
+    private final SettlementPublisher publisher;
+    private final SettlementWorker worker;
+    private final long staleSeconds;
+    private final int maxAttempts;
+    private final int batchSize;
+
+    public StalledPaymentSweeper(PaymentRepository paymentRepository,
+                                 SettlementPublisher publisher,
+                                 SettlementWorker worker,
+                                 @Value("${payment.settlement.stale-after:PT2M}") Duration staleAfter,
+                                 @Value("${payment.settlement.max-sweep-attempts:5}") int maxAttempts,
+                                 @Value("${payment.settlement.sweep-batch-size:500}") int batchSize) {
+        this.paymentRepository = paymentRepository;
+        this.publisher = publisher;
+        this.worker = worker;
+        this.staleSeconds = staleAfter.toSeconds();
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.settlement.sweep-interval:PT30S}")
+    public void sweep() {
+        var pending = paymentRepository.sweepStalled(PaymentStatus.PENDING.name(), staleSeconds, maxAttempts, batchSize);
+        pending.forEach(publisher::requestAuthorization);
+
+        var authorized = paymentRepository.sweepStalled(PaymentStatus.AUTHORIZED.name(), staleSeconds, maxAttempts, batchSize);
+        authorized.forEach(publisher::requestCapture);
+
+        var exhausted = paymentRepository.findIdsSweptOut(staleSeconds, maxAttempts, batchSize);
+        exhausted.forEach(id -> worker.giveUp(id, "Settlement did not complete after " + maxAttempts + " retries"));
+
+        if (!pending.isEmpty() || !authorized.isEmpty() || !exhausted.isEmpty()) {
+            log.info("Re-enqueued {} pending and {} authorized payments, gave up on {}",
+                    pending.size(), authorized.size(), exhausted.size());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS payments(
+    id UUID NOT NULL PRIMARY KEY,
+    idempotency_key VARCHAR(255) NOT NULL,
+    booking_id UUID NOT NULL,
+    payer_id UUID NOT NULL,
+    amount NUMERIC(12, 2) NOT NULL,
+    currency CHAR(3) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_payments_amount CHECK (amount > 0)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_payments_idempotency_key ON payments (idempotency_key);
+CREATE INDEX IF NOT EXISTS idx_payments_booking_id ON payments (booking_id);
@@ -0,0 +1,6 @@
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS authorization_id VARCHAR(64);
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS failure_reason VARCHAR(255);
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT NOW();
+
+-- the sweeper only looks at payments still in flight
+CREATE INDEX IF NOT EXISTS idx_payments_in_flight ON payments (updated_at) WHERE status IN ('PENDING', 'AUTHORIZED');
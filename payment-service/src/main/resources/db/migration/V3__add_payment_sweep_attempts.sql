@@ -0,0 +1,2 @@
+-- times the sweeper has re-enqueued the current settlement step; reset whenever the payment changes status
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS sweep_attempts INT NOT NULL DEFAULT 0;
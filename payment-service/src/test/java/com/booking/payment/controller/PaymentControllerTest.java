@@ -0,0 +1,106 @@
+package com.booking.payment.controller;
+
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.dto.PaymentRequestDto;
+import com.booking.payment.entity.PaymentStatus;
+import com.booking.payment.exception.IdempotencyKeyReusedException;
+import com.booking.payment.exception.PaymentNotFoundException;
+import com.booking.payment.exception.exceptionhandler.GlobalExceptionHandler;
+import com.booking.payment.service.PaymentService;
+import com.booking.payment.service.SubmittedPayment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PaymentController.class)
+@Import(GlobalExceptionHandler.class)
+public class PaymentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PaymentService paymentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String KEY = "checkout-42";
+    private final UUID PAYMENT_ID = UUID.randomUUID();
+    private final PaymentRequestDto request = new PaymentRequestDto(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("250.00"), "EUR");
+
+    @Test
+    void submitPayment_WhenNew_ShouldReturnAccepted() throws Exception {
+        when(paymentService.submitPayment(KEY, request)).thenReturn(new SubmittedPayment(paymentDto(), true));
+
+        mockMvc.perform(post("/api/v1/payments")
+                        .header("Idempotency-Key", KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.id").value(PAYMENT_ID.toString()));
+    }
+
+    @Test
+    void submitPayment_WhenReplayed_ShouldReturnOkWithReplayHeader() throws Exception {
+        when(paymentService.submitPayment(KEY, request)).thenReturn(new SubmittedPayment(paymentDto(), false));
+
+        mockMvc.perform(post("/api/v1/payments")
+                        .header("Idempotency-Key", KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(PAYMENT_ID.toString()));
+    }
+
+    @Test
+    void submitPayment_WhenKeyMissing_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(paymentService, never()).submitPayment(any(), any());
+    }
+
+    @Test
+    void submitPayment_WhenKeyReused_ShouldReturnUnprocessableEntity() throws Exception {
+        when(paymentService.submitPayment(KEY, request)).thenThrow(IdempotencyKeyReusedException.forKey(KEY));
+
+        mockMvc.perform(post("/api/v1/payments")
+                        .header("Idempotency-Key", KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void getPayment_WhenNotFound_ShouldReturnNotFound() throws Exception {
+        when(paymentService.getPaymentById(PAYMENT_ID)).thenThrow(PaymentNotFoundException.forPayment(PAYMENT_ID));
+
+        mockMvc.perform(get("/api/v1/payments/{paymentId}", PAYMENT_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    private PaymentDto paymentDto() {
+        return new PaymentDto(PAYMENT_ID, KEY, request.bookingId(), request.payerId(), request.amount(),
+                request.currency(), PaymentStatus.PENDING, null, LocalDateTime.of(2025, 7, 1, 10, 0));
+    }
+}
@@ -0,0 +1,45 @@
+package com.booking.payment.idempotency;
+
+import com.booking.payment.dto.PaymentRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdempotencyKeyCacheTest {
+
+    private final PaymentRequestDto request = new PaymentRequestDto(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("250.00"), "EUR");
+
+    @Test
+    void put_WhenFull_ShouldStayWithinMaxSize() {
+        var cache = new IdempotencyKeyCache(2);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("key-" + i, new IdempotentRequest(null, request));
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void get_ShouldReturnCachedResponse() {
+        var cache = new IdempotencyKeyCache(10);
+        var stored = new IdempotentRequest(null, request);
+
+        cache.put("a", stored);
+
+        assertThat(cache.get("a")).isSameAs(stored);
+        assertThat(cache.get("b")).isNull();
+    }
+
+    @Test
+    void matches_ShouldIgnoreAmountScaleButNotOtherFields() {
+        var stored = new IdempotentRequest(null, request);
+
+        assertThat(stored.matches(new PaymentRequestDto(request.bookingId(), request.payerId(), new BigDecimal("250"), "EUR"))).isTrue();
+        assertThat(stored.matches(new PaymentRequestDto(request.bookingId(), request.payerId(), new BigDecimal("251"), "EUR"))).isFalse();
+        assertThat(stored.matches(new PaymentRequestDto(request.bookingId(), request.payerId(), request.amount(), "USD"))).isFalse();
+    }
+}
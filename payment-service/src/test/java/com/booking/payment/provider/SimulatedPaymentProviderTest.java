@@ -0,0 +1,57 @@
+package com.booking.payment.provider;
+
+import com.booking.payment.exception.ProviderUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SimulatedPaymentProviderTest {
+
+    private final UUID paymentId = UUID.randomUUID();
+    private final AuthorizationRequest authorization = new AuthorizationRequest(paymentId, UUID.randomUUID(), new BigDecimal("250.00"), "EUR");
+
+    @Test
+    void authorize_WhenNoFailuresConfigured_ShouldApproveWithStableReference() {
+        var provider = provider(Duration.ZERO, 0, 0);
+
+        var first = provider.authorize(authorization);
+        var second = provider.authorize(authorization);
+
+        assertThat(first.approved()).isTrue();
+        assertThat(first.reference()).startsWith("auth_").isEqualTo(second.reference());
+        assertThat(provider.capture(new CaptureRequest(paymentId, first.reference(), authorization.amount(), "EUR")).approved()).isTrue();
+    }
+
+    @Test
+    void authorize_WhenDeclineRateIsOne_ShouldDecline() {
+        var response = provider(Duration.ZERO, 1, 0).authorize(authorization);
+
+        assertThat(response.approved()).isFalse();
+        assertThat(response.declineReason()).isEqualTo(SimulatedPaymentProvider.DECLINE_REASON);
+    }
+
+    @Test
+    void authorize_WhenErrorRateIsOne_ShouldThrowUnavailable() {
+        assertThatThrownBy(() -> provider(Duration.ZERO, 0, 1).authorize(authorization))
+                .isInstanceOf(ProviderUnavailableException.class);
+    }
+
+    @Test
+    void authorize_ShouldTakeAtLeastMinLatency() {
+        var provider = provider(Duration.ofMillis(30), 0, 0);
+
+        long start = System.nanoTime();
+        provider.authorize(authorization);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+    }
+
+    private static SimulatedPaymentProvider provider(Duration latency, double declineRate, double errorRate) {
+        return new SimulatedPaymentProvider(latency, latency, declineRate, errorRate);
+    }
+}
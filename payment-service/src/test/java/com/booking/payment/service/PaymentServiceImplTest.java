@@ -0,0 +1,131 @@
+package com.booking.payment.service;
+
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.dto.PaymentRequestDto;
+import com.booking.payment.entity.Payment;
+import com.booking.payment.entity.PaymentStatus;
+import com.booking.payment.exception.IdempotencyKeyReusedException;
+import com.booking.payment.exception.PaymentNotFoundException;
+import com.booking.payment.idempotency.IdempotencyKeyCache;
+import com.booking.payment.mapper.PaymentMapper;
+import com.booking.payment.repository.PaymentRepository;
+import com.booking.payment.settlement.SettlementPublisher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentServiceImplTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentMapper paymentMapper;
+
+    @Mock
+    private PaymentLedger paymentLedger;
+
+    @Mock
+    private SettlementPublisher settlementPublisher;
+
+    @Spy
+    private IdempotencyKeyCache keyCache = new IdempotencyKeyCache(100);
+
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+
+    private static final String KEY = "checkout-42";
+    private final PaymentRequestDto request = new PaymentRequestDto(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("250.00"), "EUR");
+
+    @Test
+    void submitPayment_WhenKeyIsNew_ShouldInsertOnceCacheKeyAndEnqueueAuthorization() {
+        when(paymentLedger.insertIfAbsent(any(Payment.class))).thenReturn(true);
+        when(paymentMapper.toPaymentDto(any(Payment.class))).thenAnswer(inv -> toDto(inv.getArgument(0)));
+
+        var result = paymentService.submitPayment(KEY, request);
+
+        assertThat(result.created()).isTrue();
+        assertThat(result.payment().idempotencyKey()).isEqualTo(KEY);
+        assertThat(result.payment().status()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(keyCache.get(KEY).response().id()).isEqualTo(result.payment().id());
+        verify(settlementPublisher).requestAuthorization(result.payment().id());
+        verify(paymentRepository, never()).findByIdempotencyKey(any());
+    }
+
+    @Test
+    void submitPayment_WhenKeyIsCached_ShouldReplayResponseWithoutTouchingDatabase() {
+        when(paymentLedger.insertIfAbsent(any(Payment.class))).thenReturn(true);
+        when(paymentMapper.toPaymentDto(any(Payment.class))).thenAnswer(inv -> toDto(inv.getArgument(0)));
+        var first = paymentService.submitPayment(KEY, request);
+
+        var retry = paymentService.submitPayment(KEY, request);
+
+        assertThat(retry.created()).isFalse();
+        assertThat(retry.payment()).isEqualTo(first.payment());
+        verify(paymentLedger, times(1)).insertIfAbsent(any());
+        verify(settlementPublisher, times(1)).requestAuthorization(any());
+        verifyNoInteractions(paymentRepository);
+    }
+
+    @Test
+    void submitPayment_WhenKeyExistsOnlyInDatabase_ShouldReturnExistingRow() {
+        var existing = payment(UUID.randomUUID());
+        when(paymentLedger.insertIfAbsent(any(Payment.class))).thenReturn(false);
+        when(paymentRepository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(existing));
+        when(paymentMapper.toPaymentDto(existing)).thenReturn(toDto(existing));
+
+        var result = paymentService.submitPayment(KEY, request);
+
+        assertThat(result.created()).isFalse();
+        assertThat(result.payment().id()).isEqualTo(existing.getId());
+        assertThat(keyCache.get(KEY).response().id()).isEqualTo(existing.getId());
+        verifyNoInteractions(settlementPublisher);
+    }
+
+    @Test
+    void submitPayment_WhenKeyReusedWithDifferentRequest_ShouldThrow() {
+        var existing = payment(UUID.randomUUID());
+        when(paymentLedger.insertIfAbsent(any(Payment.class))).thenReturn(false);
+        when(paymentRepository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(existing));
+        var different = new PaymentRequestDto(request.bookingId(), request.payerId(), new BigDecimal("999.00"), "EUR");
+
+        assertThatThrownBy(() -> paymentService.submitPayment(KEY, different))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThatThrownBy(() -> paymentService.submitPayment(KEY, different))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        verify(paymentLedger, times(1)).insertIfAbsent(any());
+    }
+
+    @Test
+    void getPaymentById_WhenNotFound_ShouldThrow() {
+        var id = UUID.randomUUID();
+        when(paymentRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> paymentService.getPaymentById(id))
+                .isInstanceOf(PaymentNotFoundException.class);
+    }
+
+    private Payment payment(UUID id) {
+        return new Payment(id, KEY, request.bookingId(), request.payerId(), request.amount(), request.currency(),
+                PaymentStatus.PENDING, LocalDateTime.now());
+    }
+
+    private static PaymentDto toDto(Payment payment) {
+        return new PaymentDto(payment.getId(), payment.getIdempotencyKey(), payment.getBookingId(), payment.getPayerId(),
+                payment.getAmount(), payment.getCurrency(), payment.getStatus(), payment.getFailureReason(), payment.getCreatedAt());
+    }
+}
@@ -0,0 +1,89 @@
+package com.booking.payment.settlement;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SettlementConsumerTest {
+
+    private static final String AUTHORIZE_TOPIC = "payment-authorizations";
+    private static final String CAPTURE_TOPIC = "payment-captures";
+
+    @Mock
+    private Consumer<String, byte[]> kafkaConsumer;
+
+    @Mock
+    private SettlementWorker worker;
+
+    @Mock
+    private SettlementPublisher publisher;
+
+    @Test
+    void process_ShouldRouteCommandsByTopic() {
+        var authorizeId = UUID.randomUUID();
+        var captureId = UUID.randomUUID();
+
+        consumer(4).process(records(
+                new ConsumerRecord<>(AUTHORIZE_TOPIC, 0, 0, authorizeId.toString(), authorizeId.toString().getBytes()),
+                new ConsumerRecord<>(CAPTURE_TOPIC, 0, 0, captureId.toString(), captureId.toString().getBytes()),
+                new ConsumerRecord<>(AUTHORIZE_TOPIC, 0, 1, "bad", "not-a-uuid".getBytes())));
+
+        verify(worker).authorize(authorizeId);
+        verify(worker).capture(captureId);
+        verifyNoMoreInteractions(worker);
+    }
+
+    @Test
+    void process_ShouldRunSlowStepsConcurrently() throws InterruptedException {
+        var started = new CountDownLatch(3);
+        var release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(worker).authorize(any());
+        var consumer = consumer(3);
+
+        var processing = new Thread(() -> consumer.process(records(command(0), command(1), command(2))));
+        processing.start();
+
+        // all three provider calls are in flight at once rather than one after another
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        processing.join(5000);
+        assertThat(processing.isAlive()).isFalse();
+        verify(worker, times(3)).authorize(any());
+    }
+
+    private SettlementConsumer consumer(int workers) {
+        when(publisher.authorizeTopic()).thenReturn(AUTHORIZE_TOPIC);
+        when(publisher.captureTopic()).thenReturn(CAPTURE_TOPIC);
+        return new SettlementConsumer(kafkaConsumer, worker, publisher, workers, Duration.ofMillis(100));
+    }
+
+    private static ConsumerRecord<String, byte[]> command(long offset) {
+        var id = UUID.randomUUID().toString();
+        return new ConsumerRecord<>(AUTHORIZE_TOPIC, 0, offset, id, id.getBytes());
+    }
+
+    @SafeVarargs
+    private static ConsumerRecords<String, byte[]> records(ConsumerRecord<String, byte[]>... records) {
+        return new ConsumerRecords<>(Map.of(new TopicPartition(AUTHORIZE_TOPIC, 0), List.of(records)));
+    }
+}
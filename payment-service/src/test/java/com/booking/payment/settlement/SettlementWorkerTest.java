@@ -0,0 +1,147 @@
+package com.booking.payment.settlement;
+
+import com.booking.payment.dto.PaymentDto;
+import com.booking.payment.entity.Payment;
+import com.booking.payment.entity.PaymentStatus;
+import com.booking.payment.exception.ProviderUnavailableException;
+import com.booking.payment.mapper.PaymentMapper;
+import com.booking.payment.provider.PaymentProvider;
+import com.booking.payment.provider.ProviderResponse;
+import com.booking.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SettlementWorkerTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentProvider paymentProvider;
+
+    @Mock
+    private SettlementPublisher publisher;
+
+    @Mock
+    private PaymentMapper paymentMapper;
+
+    @InjectMocks
+    private SettlementWorker worker;
+
+    private final UUID paymentId = UUID.randomUUID();
+
+    @Test
+    void authorize_WhenApproved_ShouldMarkAuthorizedAndEnqueueCapture() {
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment(PaymentStatus.PENDING)));
+        when(paymentProvider.authorize(any())).thenReturn(ProviderResponse.approved("auth_1"));
+        when(paymentRepository.transition(paymentId, PaymentStatus.PENDING, PaymentStatus.AUTHORIZED, "auth_1", null)).thenReturn(1);
+
+        worker.authorize(paymentId);
+
+        verify(publisher).requestCapture(paymentId);
+        verify(publisher, never()).publishResult(any());
+    }
+
+    @Test
+    void authorize_WhenDeclined_ShouldFailAndPublishResult() {
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment(PaymentStatus.PENDING)));
+        when(paymentProvider.authorize(any())).thenReturn(ProviderResponse.declined("card_declined"));
+        when(paymentRepository.transition(paymentId, PaymentStatus.PENDING, PaymentStatus.FAILED, null, "card_declined")).thenReturn(1);
+        when(paymentMapper.toPaymentDto(any(Payment.class))).thenAnswer(inv -> toDto(inv.getArgument(0)));
+
+        worker.authorize(paymentId);
+
+        verify(publisher).publishResult(argThat(dto -> dto.status() == PaymentStatus.FAILED && "card_declined".equals(dto.failureReason())));
+        verify(publisher, never()).requestCapture(any());
+    }
+
+    @Test
+    void authorize_WhenProviderUnavailable_ShouldLeavePaymentPending() {
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment(PaymentStatus.PENDING)));
+        when(paymentProvider.authorize(any())).thenThrow(ProviderUnavailableException.forOperation("authorize"));
+
+        worker.authorize(paymentId);
+
+        verify(paymentRepository, never()).transition(any(), any(), any(), any(), any());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void authorize_WhenAlreadyAuthorized_ShouldNotCallProvider() {
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment(PaymentStatus.AUTHORIZED)));
+
+        worker.authorize(paymentId);
+
+        verifyNoInteractions(paymentProvider, publisher);
+    }
+
+    @Test
+    void capture_WhenApproved_ShouldMarkCapturedAndPublishResult() {
+        var payment = payment(PaymentStatus.AUTHORIZED);
+        payment.setAuthorizationId("auth_1");
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment));
+        when(paymentProvider.capture(argThat(request -> "auth_1".equals(request.authorizationId())))).thenReturn(ProviderResponse.approved("cap_1"));
+        when(paymentRepository.transition(paymentId, PaymentStatus.AUTHORIZED, PaymentStatus.CAPTURED, null, null)).thenReturn(1);
+        when(paymentMapper.toPaymentDto(any(Payment.class))).thenAnswer(inv -> toDto(inv.getArgument(0)));
+
+        worker.capture(paymentId);
+
+        verify(publisher).publishResult(argThat(dto -> dto.status() == PaymentStatus.CAPTURED));
+    }
+
+    @Test
+    void capture_WhenTransitionLostToConcurrentWorker_ShouldNotPublishTwice() {
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment(PaymentStatus.AUTHORIZED)));
+        when(paymentProvider.capture(any())).thenReturn(ProviderResponse.approved("cap_1"));
+        when(paymentRepository.transition(paymentId, PaymentStatus.AUTHORIZED, PaymentStatus.CAPTURED, null, null)).thenReturn(0);
+
+        worker.capture(paymentId);
+
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void giveUp_WhenStillAuthorized_ShouldFailAndPublishResult() {
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment(PaymentStatus.AUTHORIZED)));
+        when(paymentRepository.transition(paymentId, PaymentStatus.AUTHORIZED, PaymentStatus.FAILED, null, "retries exhausted")).thenReturn(1);
+        when(paymentMapper.toPaymentDto(any(Payment.class))).thenAnswer(inv -> toDto(inv.getArgument(0)));
+
+        worker.giveUp(paymentId, "retries exhausted");
+
+        verify(publisher).publishResult(argThat(dto -> dto.status() == PaymentStatus.FAILED && "retries exhausted".equals(dto.failureReason())));
+        verifyNoInteractions(paymentProvider);
+    }
+
+    @Test
+    void giveUp_WhenAlreadyCaptured_ShouldDoNothing() {
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment(PaymentStatus.CAPTURED)));
+
+        worker.giveUp(paymentId, "retries exhausted");
+
+        verify(paymentRepository, never()).transition(any(), any(), any(), any(), any());
+        verifyNoInteractions(publisher);
+    }
+
+    private Payment payment(PaymentStatus status) {
+        return new Payment(paymentId, "key", UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("250.00"), "EUR",
+                status, LocalDateTime.now());
+    }
+
+    private static PaymentDto toDto(Payment payment) {
+        return new PaymentDto(payment.getId(), payment.getIdempotencyKey(), payment.getBookingId(), payment.getPayerId(),
+                payment.getAmount(), payment.getCurrency(), payment.getStatus(), payment.getFailureReason(), payment.getCreatedAt());
+    }
+}
@@ -0,0 +1,59 @@
+package com.booking.payment.settlement;
+
+import com.booking.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StalledPaymentSweeperTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private SettlementPublisher publisher;
+
+    @Mock
+    private SettlementWorker worker;
+
+    private StalledPaymentSweeper sweeper() {
+        return new StalledPaymentSweeper(paymentRepository, publisher, worker, Duration.ofMinutes(2), 5, 500);
+    }
+
+    @Test
+    void sweep_ShouldReEnqueueEachStepAndGiveUpOnExhaustedPayments() {
+        var pending = UUID.randomUUID();
+        var authorized = UUID.randomUUID();
+        var exhausted = UUID.randomUUID();
+        when(paymentRepository.sweepStalled("PENDING", 120, 5, 500)).thenReturn(List.of(pending));
+        when(paymentRepository.sweepStalled("AUTHORIZED", 120, 5, 500)).thenReturn(List.of(authorized));
+        when(paymentRepository.findIdsSweptOut(120, 5, 500)).thenReturn(List.of(exhausted));
+
+        sweeper().sweep();
+
+        verify(publisher).requestAuthorization(pending);
+        verify(publisher).requestCapture(authorized);
+        verify(worker).giveUp(eq(exhausted), startsWith("Settlement did not complete"));
+        verifyNoMoreInteractions(publisher, worker);
+    }
+
+    @Test
+    void sweep_WhenNothingStalled_ShouldPublishNothing() {
+        when(paymentRepository.sweepStalled(any(), anyLong(), anyInt(), anyInt())).thenReturn(List.of());
+        when(paymentRepository.findIdsSweptOut(anyLong(), anyInt(), anyInt())).thenReturn(List.of());
+
+        sweeper().sweep();
+
+        verifyNoInteractions(publisher, worker);
+    }
+}
@@ -0,0 +1,58 @@
+package com.booking.property.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Bounded cache of owners already confirmed as active by user-service.
+ * Only positive lookups are cached, so a soft-deleted owner is accepted
+ * for at most {@code ttl} after the deletion. Hits, misses, size and evictions are published as the
+ * {@code cache.*} meters tagged {@code cache=owners}. The same {@code ttl} bounds how stale an owner replica row may be
+ * before it is re-checked against user-service.
+ */
+@Component
+@Slf4j
+public class OwnerCache {
+
+    private final Cache<UUID, Boolean> activeOwners;
+    private final Duration ttl;
+
+    public OwnerCache(@Value("${services.user-service.owner-cache.ttl:PT1M}") Duration ttl,
+                      @Value("${services.user-service.owner-cache.max-size:10000}") long maxSize,
+                      MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.activeOwners = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                // evict on the writing thread so the published size never lags behind the bound
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, activeOwners, "owners");
+        log.info("Owner cache initialized with ttl={}, maxSize={}", ttl, maxSize);
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    public boolean isActiveOwner(UUID ownerId) {
+        return activeOwners.getIfPresent(ownerId) != null;
+    }
+
+    public void markActive(UUID ownerId) {
+        activeOwners.put(ownerId, Boolean.TRUE);
+    }
+
+    public void evict(UUID ownerId) {
+        activeOwners.invalidate(ownerId);
+    }
+}
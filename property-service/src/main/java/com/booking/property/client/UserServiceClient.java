@@ -4,7 +4,11 @@ import com.booking.property.dto.UserDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @FeignClient(
@@ -20,4 +24,12 @@ public interface UserServiceClient {
      */
     @GetMapping("/api/v1/users/{userId}")
     UserDto getUserById(@PathVariable("userId") UUID userId);
+
+    /**
+     * Получение активных пользователей по списку ID.
+     * @param userIds ID пользователей
+     * @return данные пользователей; 404 если хотя бы один не найден или удален
+     */
+    @PostMapping("/api/v1/users/batch")
+    List<UserDto> getUsersByIds(@RequestBody Set<UUID> userIds);
 }
@@ -0,0 +1,59 @@
+package com.booking.property.config;
+
+import com.booking.common.metrics.LatencyHistogramFilter;
+import com.booking.common.sql.SqlInstrumentationConfig;
+import feign.micrometer.FeignContext;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.observation.ObservationFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Latency histograms for {@code http.server.requests} (every endpoint), {@code spring.data.repository.invocations}
+ * (every repository method, tagged with {@code state} SUCCESS/ERROR) and {@code http.client.requests}, which
+ * feign-micrometer records for the {@link com.booking.property.client.UserServiceClient} calls.
+ * Also turns on per-request SQL counting.
+ */
+@Configuration
+@Import(SqlInstrumentationConfig.class)
+public class MetricsConfig {
+
+    static final Set<String> LATENCY_TIMERS = Set.of("http.server.requests", "http.client.requests",
+            "spring.data.repository.invocations");
+
+    @Bean
+    public MeterFilter applicationTagFilter(@Value("${spring.application.name:property-service}") String applicationName) {
+        return MeterFilter.commonTags(Set.of(Tag.of("application", applicationName)));
+    }
+
+    @Bean
+    public MeterFilter latencyHistogramFilter(
+            @Value("${metrics.latency.slo:PT0.005S,PT0.01S,PT0.025S,PT0.05S,PT0.1S,PT0.25S,PT0.5S,PT1S,PT2.5S}") Duration[] slo,
+            @Value("${metrics.latency.max-expected:PT10S}") Duration maxExpected) {
+        return new LatencyHistogramFilter(LATENCY_TIMERS, slo, maxExpected);
+    }
+
+    /**
+     * Feign tags its timer with the raw status only; add the same {@code outcome} tag the server timers carry,
+     * UNKNOWN when no response came back at all.
+     */
+    @Bean
+    public ObservationFilter feignOutcomeFilter() {
+        return context -> {
+            if (context instanceof FeignContext feignContext) {
+                var response = feignContext.getResponse();
+                var outcome = response == null ? Outcome.UNKNOWN : Outcome.forStatus(response.status());
+                feignContext.addLowCardinalityKeyValue(KeyValue.of("outcome", outcome.name()));
+            }
+            return context;
+        };
+    }
+}
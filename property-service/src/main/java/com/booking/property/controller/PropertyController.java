@@ -1,24 +1,37 @@
 package com.booking.property.controller;
 
+import com.booking.common.pagination.CursorPage;
+import com.booking.property.dto.PropertyBulkResultDto;
 import com.booking.property.dto.PropertyCreationDto;
 import com.booking.property.dto.PropertyDto;
 import com.booking.property.dto.PropertyPatchDto;
+import com.booking.property.dto.PropertySearchCriteria;
+import com.booking.property.entity.PropertyType;
 import com.booking.property.service.PropertyService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -32,6 +45,7 @@ import java.util.UUID;
 public class PropertyController {
 
     private final PropertyService propertyService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Create real estate property", description = "Method for property creation. Owner should exist in User Service")
     @PostMapping
@@ -40,6 +54,15 @@ public class PropertyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(propertyService.createProperty(creationDto));
     }
 
+    @Operation(summary = "Bulk create real estate properties", description = "Creates up to 1000 properties in one transaction. Owners are validated in batches, result is reported per item")
+    @PostMapping("/bulk")
+    public ResponseEntity<List<PropertyBulkResultDto>> createProperties(
+            @RequestBody
+            @Size(min = 1, max = 1000, message = "Bulk size must be between 1 and 1000") List<@Valid PropertyCreationDto> creationDtos) {
+        log.info("Bulk creating {} properties", creationDtos.size());
+        return ResponseEntity.ok(propertyService.createProperties(creationDtos));
+    }
+
     @Operation(summary = "Get real estate property by ID", description = "Returns a property by unique ID")
     @GetMapping("/{propertyId}")
     public ResponseEntity<PropertyDto> getProperty(@PathVariable("propertyId") UUID propertyId) {
@@ -65,6 +88,53 @@ public class PropertyController {
         return ResponseEntity.ok(propertyService.getAll(PageRequest.of(page, size)));
     }
 
+    @Operation(summary = "Scroll all properties", description = "Returns properties ordered by creation time using an opaque continuation cursor. Does not count total elements")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<PropertyDto>> scrollProperties(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("Scrolling properties cursor={}, size={}", cursor, size);
+        return ResponseEntity.ok(propertyService.getAll(cursor, size));
+    }
+
+    @Operation(summary = "Search properties", description = "Returns a paginated list of properties matching the filters, ordered by price. Only active properties are searched, and at least one of city, country or propertyType is required")
+    @GetMapping("/search")
+    public ResponseEntity<Page<PropertyDto>> searchProperties(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) PropertyType propertyType,
+            @RequestParam(required = false) @Min(1) Integer maxGuests,
+            @RequestParam(required = false) @Positive BigDecimal minPrice,
+            @RequestParam(required = false) @Positive BigDecimal maxPrice,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        var criteria = new PropertySearchCriteria(city, country, propertyType, maxGuests, minPrice, maxPrice);
+        log.debug("Searching properties {}, page={}, size={}", criteria, page, size);
+        return ResponseEntity.ok(propertyService.search(criteria, PageRequest.of(page, size)));
+    }
+
+    @Operation(summary = "Export all properties", description = "Streams every property as newline-delimited JSON")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProperties() {
+        log.info("Exporting all properties");
+
+        var writer = objectMapper.writerFor(PropertyDto.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> {
+            var out = new BufferedOutputStream(outputStream);
+            propertyService.exportAll(dto -> {
+                try {
+                    writer.writeValue(out, dto);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "Get all properties by owner ID", description = "Returns list of all real estate properties by owner ID")
     @GetMapping("/owner/{ownerId}")
     public ResponseEntity<List<PropertyDto>> getPropertiesByOwnerId(@PathVariable("ownerId") UUID ownerId) {
@@ -72,6 +142,16 @@ public class PropertyController {
         return ResponseEntity.ok(propertyService.getPropertiesByOwnerId(ownerId));
     }
 
+    @Operation(summary = "Scroll properties by owner ID", description = "Returns owner's properties ordered by creation time using an opaque continuation cursor")
+    @GetMapping("/owner/{ownerId}/scroll")
+    public ResponseEntity<CursorPage<PropertyDto>> scrollPropertiesByOwnerId(
+            @PathVariable("ownerId") UUID ownerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("Scrolling properties for owner {} cursor={}, size={}", ownerId, cursor, size);
+        return ResponseEntity.ok(propertyService.getPropertiesByOwnerId(ownerId, cursor, size));
+    }
+
     @Operation(summary = "Get all properties by IDs", description = "Returns list of real estate properties by IDs")
     @PostMapping("/batch")
     public ResponseEntity<List<PropertyDto>> getAllPropertiesByIds(
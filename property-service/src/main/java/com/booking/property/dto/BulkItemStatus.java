@@ -0,0 +1,12 @@
+package com.booking.property.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a single item in a bulk request")
+public enum BulkItemStatus {
+    @Schema(description = "Item was created")
+    CREATED,
+
+    @Schema(description = "Item was rejected, see error")
+    REJECTED
+}
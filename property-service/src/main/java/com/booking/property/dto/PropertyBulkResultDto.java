@@ -0,0 +1,27 @@
+package com.booking.property.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of a single property in a bulk creation request")
+public record PropertyBulkResultDto(
+
+        @Schema(description = "Position of the item in the request")
+        int index,
+
+        @Schema(description = "Item outcome")
+        BulkItemStatus status,
+
+        @Schema(description = "Created property, present when status is CREATED")
+        PropertyDto property,
+
+        @Schema(description = "Rejection reason, present when status is REJECTED")
+        String error
+) {
+    public static PropertyBulkResultDto created(int index, PropertyDto property) {
+        return new PropertyBulkResultDto(index, BulkItemStatus.CREATED, property, null);
+    }
+
+    public static PropertyBulkResultDto rejected(int index, String error) {
+        return new PropertyBulkResultDto(index, BulkItemStatus.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,21 @@
+package com.booking.property.dto;
+
+import com.booking.property.entity.PropertyType;
+
+import java.math.BigDecimal;
+
+public record PropertySearchCriteria(
+        String city,
+        String country,
+        PropertyType propertyType,
+        Integer maxGuests,
+        BigDecimal minPrice,
+        BigDecimal maxPrice
+) {
+    /**
+     * Every supported search must be anchored on at least one indexed column.
+     */
+    public boolean hasIndexedFilter() {
+        return city != null || country != null || propertyType != null;
+    }
+}
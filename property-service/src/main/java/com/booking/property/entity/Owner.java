@@ -0,0 +1,44 @@
+package com.booking.property.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of the owner replica. Rows are written by {@link com.booking.property.replica.OwnerReplica}.
+ */
+@Entity
+@Table(name = "owners")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class Owner {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Owner owner = (Owner) o;
+        return id != null && id.equals(owner.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -2,6 +2,7 @@ package com.booking.property.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -9,6 +10,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "properties")
+@DynamicUpdate
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -52,6 +54,13 @@ public class Property {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Incremented by Hibernate on every update; published with each property event so consumers can drop stale ones.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public Property(String name, String description, String address, String city, String country, PropertyType propertyType, BigDecimal pricePerNight, Integer maxGuests, UUID ownerId, Boolean isActive) {
         this.name = name;
         this.description = description;
@@ -1,13 +1,16 @@
 package com.booking.property.exception.exceptionhandler;
 
+import com.booking.common.pagination.InvalidCursorException;
 import com.booking.property.exception.OwnerNotFoundException;
 import com.booking.property.exception.PropertyNotFoundException;
+import com.booking.property.exception.PropertyServiceException;
 import com.booking.property.exception.UserServiceUnavailableException;
 import feign.FeignException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -49,6 +52,29 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return createProblemDetail(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request);
     }
 
+    @ExceptionHandler(PropertyServiceException.class)
+    public ResponseEntity<ProblemDetail> handlePropertyServiceException(PropertyServiceException ex, WebRequest request) {
+        log.warn("Property service error {}", ex.getMessage());
+
+        return ResponseEntity.status(ex.getStatus()).body(createProblemDetail(ex.getMessage(), ex.getStatus(), request));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException ex, WebRequest request) {
+        log.warn("Invalid cursor {}", ex.getMessage());
+
+        return createProblemDetail(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ProblemDetail handleConcurrentModification(ObjectOptimisticLockingFailureException ex, WebRequest request) {
+        log.warn("Concurrent property modification: {}", ex.getMessage());
+
+        return createProblemDetail("Property was modified concurrently, retry the request", HttpStatus.CONFLICT, request);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
                                                                   HttpHeaders headers,
@@ -18,6 +18,7 @@ public interface PropertyMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Property toPropertyEntity(PropertyCreationDto propertyCreationDto);
 
     //PatchDto -> Property - update of existing Property
@@ -26,5 +27,6 @@ public interface PropertyMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "isActive", ignore = true)
     @Mapping(target = "ownerId", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updatePropertyEntity(PropertyPatchDto propertyPatchDto, @MappingTarget Property property);
 }
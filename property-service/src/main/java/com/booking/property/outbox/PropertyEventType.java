@@ -0,0 +1,7 @@
+package com.booking.property.outbox;
+
+public enum PropertyEventType {
+    PROPERTY_CREATED,
+    PROPERTY_UPDATED,
+    PROPERTY_STATUS_CHANGED
+}
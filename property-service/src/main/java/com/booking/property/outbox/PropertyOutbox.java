@@ -0,0 +1,30 @@
+package com.booking.property.outbox;
+
+import com.booking.common.event.EventEnvelope;
+import com.booking.common.event.EventSerializer;
+import com.booking.property.dto.PropertyDto;
+import com.booking.property.entity.PropertyOutboxEvent;
+import com.booking.property.repository.PropertyOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records property events in the outbox table. Must join the caller's transaction so that an event is stored
+ * if and only if the change it describes is committed; {@link PropertyOutboxRelay} publishes it afterwards.
+ * Envelopes carry the property's {@code @Version}, so callers must flush before recording an update.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyOutbox {
+
+    private final PropertyOutboxRepository outboxRepository;
+    private final EventSerializer eventSerializer;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(PropertyEventType type, long version, PropertyDto property) {
+        var envelope = EventEnvelope.of(type.name(), property.id(), version, property);
+        outboxRepository.save(new PropertyOutboxEvent(property.id(), version, type, eventSerializer.serialize(envelope)));
+    }
+}
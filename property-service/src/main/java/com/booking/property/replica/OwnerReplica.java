@@ -0,0 +1,55 @@
+package com.booking.property.replica;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Writes owner states into the local replica. Event upserts only move a row forward: a state is applied when its
+ * version is higher than the stored one, so replayed or reordered events are no-ops. Lookup results are the current
+ * answer from user-service, so they always overwrite the deleted flag and refresh {@code updated_at}, but keep the
+ * stored version so that later events still apply.
+ */
+@Component
+@RequiredArgsConstructor
+public class OwnerReplica {
+
+    private static final String EVENT_UPSERT_SQL = """
+            INSERT INTO owners (id, is_deleted, version, updated_at)
+            VALUES (?, ?, ?, NOW())
+            ON CONFLICT (id) DO UPDATE
+                SET is_deleted = EXCLUDED.is_deleted, version = EXCLUDED.version, updated_at = EXCLUDED.updated_at
+                WHERE owners.version < EXCLUDED.version""";
+
+    private static final String LOOKUP_UPSERT_SQL = """
+            INSERT INTO owners (id, is_deleted, version, updated_at)
+            VALUES (?, ?, ?, NOW())
+            ON CONFLICT (id) DO UPDATE
+                SET is_deleted = EXCLUDED.is_deleted, updated_at = EXCLUDED.updated_at""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void applyAll(Collection<OwnerState> states) {
+        var events = new ArrayList<Object[]>();
+        var lookups = new ArrayList<Object[]>();
+        for (var state : states) {
+            (state.isLookup() ? lookups : events).add(new Object[]{state.id(), state.deleted(), state.version()});
+        }
+        if (!events.isEmpty()) {
+            jdbcTemplate.batchUpdate(EVENT_UPSERT_SQL, events);
+        }
+        if (!lookups.isEmpty()) {
+            jdbcTemplate.batchUpdate(LOOKUP_UPSERT_SQL, lookups);
+        }
+    }
+
+    @Transactional
+    public void apply(OwnerState state) {
+        jdbcTemplate.update(state.isLookup() ? LOOKUP_UPSERT_SQL : EVENT_UPSERT_SQL, state.id(), state.deleted(), state.version());
+    }
+}
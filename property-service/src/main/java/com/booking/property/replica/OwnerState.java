@@ -0,0 +1,17 @@
+package com.booking.property.replica;
+
+import java.util.UUID;
+
+public record OwnerState(UUID id, boolean deleted, long version) {
+
+    /** Version used for rows learned from a synchronous lookup rather than an event. */
+    public static final long LOOKUP_VERSION = -1;
+
+    public static OwnerState fromLookup(UUID id, boolean deleted) {
+        return new OwnerState(id, deleted, LOOKUP_VERSION);
+    }
+
+    public boolean isLookup() {
+        return version == LOOKUP_VERSION;
+    }
+}
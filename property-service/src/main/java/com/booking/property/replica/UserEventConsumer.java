@@ -0,0 +1,171 @@
+package com.booking.property.replica;
+
+import com.booking.common.event.EventSerializer;
+import com.booking.property.cache.OwnerCache;
+import com.booking.property.dto.UserDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.errors.WakeupException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the owner replica current from user-service lifecycle events. Each poll is applied as one batch:
+ * events are collapsed to the newest version per user, upserted in a single JDBC batch, and the offsets are
+ * committed only after the batch is stored, so a crash replays rather than loses events. A failed poll or batch
+ * does not end the loop: the consumer rewinds to the committed offsets and retries with exponential backoff.
+ */
+@Component
+@ConditionalOnProperty(name = "owners.replica.consumer.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class UserEventConsumer implements SmartLifecycle {
+
+    private final Consumer<String, byte[]> consumer;
+    private final OwnerReplica ownerReplica;
+    private final OwnerCache ownerCache;
+    private final EventSerializer eventSerializer;
+    private final String topic;
+    private final Duration pollTimeout;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    private volatile boolean running;
+    private volatile CountDownLatch stopped;
+    private Thread worker;
+
+    public UserEventConsumer(Consumer<String, byte[]> consumer,
+                             OwnerReplica ownerReplica,
+                             OwnerCache ownerCache,
+                             EventSerializer eventSerializer,
+                             @Value("${owners.replica.topic:user-events}") String topic,
+                             @Value("${owners.replica.consumer.poll-timeout:PT1S}") Duration pollTimeout,
+                             @Value("${owners.replica.consumer.retry-backoff:PT1S}") Duration retryBackoff,
+                             @Value("${owners.replica.consumer.max-retry-backoff:PT30S}") Duration maxRetryBackoff) {
+        this.consumer = consumer;
+        this.ownerReplica = ownerReplica;
+        this.ownerCache = ownerCache;
+        this.eventSerializer = eventSerializer;
+        this.topic = topic;
+        this.pollTimeout = pollTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        stopped = new CountDownLatch(1);
+        worker = new Thread(this::run, "user-event-consumer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopped.countDown();
+        consumer.wakeup();
+        try {
+            worker.join(pollTimeout.toMillis() * 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        var backoff = retryBackoff;
+        boolean rewind = false;
+        try {
+            consumer.subscribe(List.of(topic));
+            while (running) {
+                try {
+                    if (rewind) {
+                        rewindToCommitted();
+                        rewind = false;
+                    }
+                    var records = consumer.poll(pollTimeout);
+                    if (!records.isEmpty()) {
+                        apply(records);
+                        consumer.commitSync();
+                    }
+                    backoff = retryBackoff;
+                } catch (WakeupException e) {
+                    // woken by stop(); the loop condition ends the run
+                } catch (RuntimeException e) {
+                    log.error("Failed to apply user events, retrying in {}", backoff, e);
+                    rewind = true;
+                    pause(backoff);
+                    var doubled = backoff.multipliedBy(2);
+                    backoff = doubled.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : doubled;
+                }
+            }
+        } finally {
+            consumer.close();
+        }
+    }
+
+    /**
+     * Moves every assigned partition back to its committed offset, so the records of a failed batch are polled again.
+     */
+    private void rewindToCommitted() {
+        var assignment = consumer.assignment();
+        var committed = consumer.committed(assignment);
+        for (var partition : assignment) {
+            var offset = committed.get(partition);
+            if (offset != null) {
+                consumer.seek(partition, offset);
+            } else {
+                consumer.seekToBeginning(List.of(partition));
+            }
+        }
+    }
+
+    private void pause(Duration backoff) {
+        try {
+            stopped.await(backoff.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    void apply(ConsumerRecords<String, byte[]> records) {
+        var latest = new HashMap<UUID, OwnerState>();
+        for (var record : records) {
+            var state = parse(record);
+            if (state != null) {
+                latest.merge(state.id(), state, (current, candidate) -> candidate.version() > current.version() ? candidate : current);
+            }
+        }
+
+        ownerReplica.applyAll(latest.values());
+        latest.values().stream().filter(OwnerState::deleted).forEach(state -> ownerCache.evict(state.id()));
+        log.debug("Applied {} owner states from {} user events", latest.size(), records.count());
+    }
+
+    private OwnerState parse(ConsumerRecord<String, byte[]> record) {
+        try {
+            var event = eventSerializer.deserialize(record.value(), UserDto.class);
+            return new OwnerState(event.aggregateId(), Boolean.TRUE.equals(event.payload().isDeleted()), event.version());
+        } catch (RuntimeException e) {
+            log.warn("Skipping malformed user event at {}-{}@{}: {}", record.topic(), record.partition(), record.offset(), e.getMessage());
+            return null;
+        }
+    }
+}
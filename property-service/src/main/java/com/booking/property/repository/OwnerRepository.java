@@ -0,0 +1,35 @@
+package com.booking.property.repository;
+
+import com.booking.property.entity.Owner;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface OwnerRepository extends JpaRepository<Owner, UUID> {
+
+    /**
+     * Finds the owner if its row can be trusted without asking user-service. Rows fed by user events
+     * ({@code version <> -1}) are kept current by the replica consumer, so they are trusted as they are and their
+     * staleness is bounded by the consumer lag. Rows learned from a synchronous lookup are never corrected by an event
+     * the consumer already applied, so they are trusted only if written or confirmed within the last
+     * {@code maxAgeSeconds}, by the database clock that also stamps {@code updated_at}.
+     */
+    @Query(value = """
+            SELECT * FROM owners
+            WHERE id = :id AND (version <> -1 OR updated_at > now() - :maxAgeSeconds * INTERVAL '1 second')""",
+            nativeQuery = true)
+    Optional<Owner> findTrusted(@Param("id") UUID id, @Param("maxAgeSeconds") long maxAgeSeconds);
+
+    @Query(value = """
+            SELECT * FROM owners
+            WHERE id IN (:ids) AND (version <> -1 OR updated_at > now() - :maxAgeSeconds * INTERVAL '1 second')""",
+            nativeQuery = true)
+    List<Owner> findAllTrusted(@Param("ids") Collection<UUID> ids, @Param("maxAgeSeconds") long maxAgeSeconds);
+}
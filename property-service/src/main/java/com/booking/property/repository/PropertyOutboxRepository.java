@@ -0,0 +1,36 @@
+package com.booking.property.repository;
+
+import com.booking.common.outbox.OutboxStore;
+import com.booking.property.entity.PropertyOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PropertyOutboxRepository extends JpaRepository<PropertyOutboxEvent, Long>, OutboxStore<PropertyOutboxEvent> {
+
+    @Override
+    @Transactional
+    @Query(value = """
+            WITH claimed AS (
+                UPDATE property_outbox SET claimed_until = now() + :leaseSeconds * INTERVAL '1 second'
+                WHERE id IN (SELECT id FROM property_outbox
+                             WHERE claimed_until IS NULL OR claimed_until < now()
+                             ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED)
+                RETURNING *)
+            SELECT * FROM claimed ORDER BY id
+            """, nativeQuery = true)
+    List<PropertyOutboxEvent> claimNextBatch(@Param("limit") int limit, @Param("leaseSeconds") long leaseSeconds);
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE property_outbox SET claimed_until = NULL WHERE id IN (:ids)", nativeQuery = true)
+    void releaseClaims(@Param("ids") Collection<Long> ids);
+}
@@ -1,17 +1,69 @@
 package com.booking.property.repository;
 
 import com.booking.property.entity.Property;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, UUID> {
+public interface PropertyRepository extends JpaRepository<Property, UUID>, JpaSpecificationExecutor<Property> {
+
+    int STREAM_FETCH_SIZE = 1000;
 
     List<Property> findAllByOwnerId(UUID userId);
 
     List<Property> findAllByIdIn(Collection<UUID> ids);
+
+    @Query(value = "SELECT * FROM properties ORDER BY created_at, id LIMIT :limit", nativeQuery = true)
+    List<Property> findFirstKeysetPage(@Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM properties
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit""", nativeQuery = true)
+    List<Property> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") UUID id,
+                                       @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM properties
+            WHERE owner_id = :ownerId
+            ORDER BY created_at, id
+            LIMIT :limit""", nativeQuery = true)
+    List<Property> findFirstKeysetPageByOwnerId(@Param("ownerId") UUID ownerId,
+                                                @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM properties
+            WHERE owner_id = :ownerId AND (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit""", nativeQuery = true)
+    List<Property> findKeysetPageByOwnerIdAfter(@Param("ownerId") UUID ownerId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                @Param("limit") int limit);
+
+    /**
+     * Streams every property through a server-side cursor. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Property p")
+    Stream<Property> streamAll();
 }
@@ -0,0 +1,45 @@
+package com.booking.property.repository.specification;
+
+import com.booking.property.dto.PropertySearchCriteria;
+import com.booking.property.entity.Property;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+
+public final class PropertySpecifications {
+
+    private PropertySpecifications() {
+    }
+
+    public static Specification<Property> matching(PropertySearchCriteria criteria) {
+        return (root, query, cb) -> {
+            var predicates = new ArrayList<Predicate>();
+
+            // search is limited to active listings, as a literal true (not a bind parameter) so the partial
+            // indexes on is_active can be used
+            predicates.add(cb.isTrue(root.get("isActive")));
+
+            if (criteria.city() != null) {
+                predicates.add(cb.equal(root.get("city"), criteria.city()));
+            }
+            if (criteria.country() != null) {
+                predicates.add(cb.equal(root.get("country"), criteria.country()));
+            }
+            if (criteria.propertyType() != null) {
+                predicates.add(cb.equal(root.get("propertyType"), criteria.propertyType()));
+            }
+            if (criteria.maxGuests() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("maxGuests"), criteria.maxGuests()));
+            }
+            if (criteria.minPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("pricePerNight"), criteria.minPrice()));
+            }
+            if (criteria.maxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("pricePerNight"), criteria.maxPrice()));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,27 +1,41 @@
 package com.booking.property.service;
 
+import com.booking.common.pagination.CursorPage;
+import com.booking.property.dto.PropertyBulkResultDto;
 import com.booking.property.dto.PropertyCreationDto;
 import com.booking.property.dto.PropertyDto;
 import com.booking.property.dto.PropertyPatchDto;
+import com.booking.property.dto.PropertySearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface PropertyService {
     PropertyDto createProperty(PropertyCreationDto dto);
 
+    List<PropertyBulkResultDto> createProperties(List<PropertyCreationDto> dtos);
+
     PropertyDto getPropertyById(UUID id);
 
     PropertyDto updateProperty(UUID id, PropertyPatchDto dto);
 
     Page<PropertyDto> getAll(Pageable pageable);
 
+    CursorPage<PropertyDto> getAll(String cursor, int size);
+
+    Page<PropertyDto> search(PropertySearchCriteria criteria, Pageable pageable);
+
     List<PropertyDto> getPropertiesByOwnerId(UUID id);
 
+    CursorPage<PropertyDto> getPropertiesByOwnerId(UUID id, String cursor, int size);
+
     List<PropertyDto> getAllPropertiesByIds(Collection<UUID> ids);
 
     PropertyDto changeActivePropertyStatus(UUID id, Boolean status);
+
+    void exportAll(Consumer<PropertyDto> sink);
 }
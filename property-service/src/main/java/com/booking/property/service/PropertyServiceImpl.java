@@ -1,35 +1,67 @@
 package com.booking.property.service;
 
+import com.booking.common.pagination.Cursor;
+import com.booking.common.pagination.CursorPage;
+import com.booking.property.cache.OwnerCache;
 import com.booking.property.client.UserServiceClient;
+import com.booking.property.dto.PropertyBulkResultDto;
 import com.booking.property.dto.PropertyCreationDto;
 import com.booking.property.dto.PropertyDto;
 import com.booking.property.dto.PropertyPatchDto;
+import com.booking.property.dto.PropertySearchCriteria;
+import com.booking.property.dto.UserDto;
+import com.booking.property.entity.Owner;
 import com.booking.property.entity.Property;
 import com.booking.property.exception.OwnerNotFoundException;
 import com.booking.property.exception.PropertyNotFoundException;
+import com.booking.property.exception.PropertyServiceException;
 import com.booking.property.exception.UserServiceUnavailableException;
 import com.booking.property.mapper.PropertyMapper;
+import com.booking.property.outbox.PropertyEventType;
+import com.booking.property.outbox.PropertyOutbox;
+import com.booking.property.replica.OwnerReplica;
+import com.booking.property.replica.OwnerState;
+import com.booking.property.repository.OwnerRepository;
 import com.booking.property.repository.PropertyRepository;
+import com.booking.property.repository.specification.PropertySpecifications;
 import feign.FeignException;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PropertyServiceImpl implements PropertyService {
 
+    private static final int OWNER_BATCH_SIZE = 100;
+    private static final Sort SEARCH_SORT = Sort.by("pricePerNight", "id");
+
     private final PropertyRepository propertyRepository;
     private final PropertyMapper propertyMapper;
     private final UserServiceClient userServiceClient;
+    private final OwnerCache ownerCache;
+    private final EntityManager entityManager;
+    private final PropertyOutbox outbox;
+    private final OwnerRepository ownerRepository;
+    private final OwnerReplica ownerReplica;
 
     @Override
     @Transactional
@@ -41,10 +73,49 @@ public class PropertyServiceImpl implements PropertyService {
         var property = propertyMapper.toPropertyEntity(dto);
         property.setIsActive(true);
 
-        var saved = propertyRepository.saveAndFlush(property);
+        // persist only: the insert goes out at commit, batched with the outbox row
+        var saved = propertyRepository.save(property);
         log.info("Property created with id {}", saved.getId());
 
-        return propertyMapper.toPropertyDto(saved);
+        var created = propertyMapper.toPropertyDto(saved);
+        outbox.record(PropertyEventType.PROPERTY_CREATED, saved.getVersion(), created);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<PropertyBulkResultDto> createProperties(List<PropertyCreationDto> dtos) {
+        log.info("Bulk creating {} properties", dtos.size());
+
+        var ownerIds = dtos.stream().map(PropertyCreationDto::ownerId).collect(Collectors.toSet());
+        var activeOwners = resolveActiveOwners(ownerIds);
+
+        var accepted = new ArrayList<Property>(dtos.size());
+        var acceptedIndexes = new ArrayList<Integer>(dtos.size());
+        var results = new PropertyBulkResultDto[dtos.size()];
+
+        for (int i = 0; i < dtos.size(); i++) {
+            var dto = dtos.get(i);
+            if (!activeOwners.contains(dto.ownerId())) {
+                results[i] = PropertyBulkResultDto.rejected(i, new OwnerNotFoundException(dto.ownerId()).getMessage());
+                continue;
+            }
+            var property = propertyMapper.toPropertyEntity(dto);
+            property.setIsActive(true);
+            accepted.add(property);
+            acceptedIndexes.add(i);
+        }
+
+        var saved = propertyRepository.saveAll(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            var dto = propertyMapper.toPropertyDto(saved.get(i));
+            outbox.record(PropertyEventType.PROPERTY_CREATED, saved.get(i).getVersion(), dto);
+            results[index] = PropertyBulkResultDto.created(index, dto);
+        }
+
+        log.info("Bulk creation finished: {} created, {} rejected", saved.size(), dtos.size() - saved.size());
+        return List.of(results);
     }
 
     @Override
@@ -61,10 +132,17 @@ public class PropertyServiceImpl implements PropertyService {
     public PropertyDto updateProperty(UUID id, PropertyPatchDto dto) {
         log.info("Updating property {}", id);
 
+        // Managed entity: dirty checking writes only the changed columns. The flush sends that UPDATE now, so the event
+        // carries the version Hibernate actually wrote. Predicting version + 1 instead would be wrong for a patch that
+        // changes nothing, since Hibernate then skips the UPDATE and keeps the version, and the next real change would
+        // reuse the number and be dropped by consumers. The flush costs no extra round trip: Hibernate batches per
+        // statement, so the UPDATE and the outbox INSERT at commit are two executions either way.
         var updatedProperty = updatePropertyData(id, dto);
-        var savedProperty = propertyRepository.saveAndFlush(updatedProperty);
+        propertyRepository.flush();
 
-        return propertyMapper.toPropertyDto(savedProperty);
+        var updated = propertyMapper.toPropertyDto(updatedProperty);
+        outbox.record(PropertyEventType.PROPERTY_UPDATED, updatedProperty.getVersion(), updated);
+        return updated;
     }
 
     @Override
@@ -74,6 +152,39 @@ public class PropertyServiceImpl implements PropertyService {
         return propertyPage.map(propertyMapper::toPropertyDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PropertyDto> getAll(String cursor, int size) {
+        log.debug("Getting properties after cursor {}, size={}", cursor, size);
+
+        List<Property> properties;
+        if (cursor == null) {
+            properties = propertyRepository.findFirstKeysetPage(size + 1);
+        } else {
+            var position = Cursor.decode(cursor);
+            properties = propertyRepository.findKeysetPageAfter(position.createdAt(), position.id(), size + 1);
+        }
+
+        return CursorPage.of(properties, size, p -> new Cursor(p.getCreatedAt(), p.getId()), propertyMapper::toPropertyDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PropertyDto> search(PropertySearchCriteria criteria, Pageable pageable) {
+        log.debug("Searching properties by {}", criteria);
+
+        if (!criteria.hasIndexedFilter()) {
+            throw new PropertyServiceException("At least one of city, country or propertyType is required", HttpStatus.BAD_REQUEST);
+        }
+        if (criteria.minPrice() != null && criteria.maxPrice() != null && criteria.minPrice().compareTo(criteria.maxPrice()) > 0) {
+            throw new PropertyServiceException("minPrice must not be greater than maxPrice", HttpStatus.BAD_REQUEST);
+        }
+
+        var sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), SEARCH_SORT);
+        return propertyRepository.findAll(PropertySpecifications.matching(criteria), sortedPageable)
+                .map(propertyMapper::toPropertyDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<PropertyDto> getPropertiesByOwnerId(UUID id) {
@@ -84,6 +195,22 @@ public class PropertyServiceImpl implements PropertyService {
         return propertyMapper.toPropertyDtoList(properties);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PropertyDto> getPropertiesByOwnerId(UUID id, String cursor, int size) {
+        log.debug("Getting properties for owner {} after cursor {}, size={}", id, cursor, size);
+
+        List<Property> properties;
+        if (cursor == null) {
+            properties = propertyRepository.findFirstKeysetPageByOwnerId(id, size + 1);
+        } else {
+            var position = Cursor.decode(cursor);
+            properties = propertyRepository.findKeysetPageByOwnerIdAfter(id, position.createdAt(), position.id(), size + 1);
+        }
+
+        return CursorPage.of(properties, size, p -> new Cursor(p.getCreatedAt(), p.getId()), propertyMapper::toPropertyDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<PropertyDto> getAllPropertiesByIds(Collection<UUID> ids) {
@@ -103,9 +230,26 @@ public class PropertyServiceImpl implements PropertyService {
     public PropertyDto changeActivePropertyStatus(UUID id, Boolean status) {
         log.info("Changing property {} active state to {}", id, status);
 
+        // flushed for the written version, see updateProperty
         var property = changeActiveState(id, status);
-        var savedProperty = propertyRepository.saveAndFlush(property);
-        return propertyMapper.toPropertyDto(savedProperty);
+        propertyRepository.flush();
+
+        var changed = propertyMapper.toPropertyDto(property);
+        outbox.record(PropertyEventType.PROPERTY_STATUS_CHANGED, property.getVersion(), changed);
+        return changed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<PropertyDto> sink) {
+        log.info("Exporting all properties");
+
+        try (var properties = propertyRepository.streamAll()) {
+            properties.forEach(property -> {
+                sink.accept(propertyMapper.toPropertyDto(property));
+                entityManager.detach(property);
+            });
+        }
     }
 
     private Property updatePropertyData(UUID id, PropertyPatchDto updatedDto) {
@@ -117,22 +261,145 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     private void validateUserExists(UUID id) {
+        if (ownerCache.isActiveOwner(id)) {
+            log.debug("Owner {} found in owner cache", id);
+            return;
+        }
+
+        var replicated = ownerRepository.findTrusted(id, ownerCache.ttl().toSeconds());
+        if (replicated.isPresent()) {
+            if (replicated.get().isDeleted()) {
+                throw new OwnerNotFoundException(id);
+            }
+            ownerCache.markActive(id);
+            return;
+        }
+
+        // owner not replicated yet or only known from an old lookup, fall back to asking user-service
         try {
             var user = userServiceClient.getUserById(id);
+            boolean deleted = Boolean.TRUE.equals(user.isDeleted());
+            ownerReplica.apply(OwnerState.fromLookup(id, deleted));
 
-            if (user.isDeleted()) {
+            if (deleted) {
+                ownerCache.evict(id);
                 throw new OwnerNotFoundException(id);
             }
 
+            ownerCache.markActive(id);
         } catch (FeignException.NotFound e) {
             log.warn("Owner with id {} not found", id);
             throw new OwnerNotFoundException(id);
         } catch (FeignException e) {
             log.error("Error calling user-service: {}", e.getMessage());
-            throw new UserServiceUnavailableException("Failed to validate owner: user-service is unavailable", e);
+            if (!isReplicatedActiveOwner(id, e)) {
+                throw new OwnerNotFoundException(id);
+            }
+        }
+    }
+
+    private Set<UUID> resolveActiveOwners(Set<UUID> ownerIds) {
+        var active = new HashSet<UUID>();
+        var unknown = new ArrayList<UUID>();
+
+        for (var ownerId : ownerIds) {
+            if (ownerCache.isActiveOwner(ownerId)) {
+                active.add(ownerId);
+            } else {
+                unknown.add(ownerId);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            var replicated = ownerRepository.findAllTrusted(unknown, ownerCache.ttl().toSeconds());
+            for (var owner : replicated) {
+                if (!owner.isDeleted()) {
+                    active.add(owner.getId());
+                    ownerCache.markActive(owner.getId());
+                }
+            }
+            var known = replicated.stream().map(Owner::getId).collect(Collectors.toSet());
+            unknown.removeIf(known::contains);
+        }
+
+        for (int from = 0; from < unknown.size(); from += OWNER_BATCH_SIZE) {
+            var chunk = new LinkedHashSet<>(unknown.subList(from, Math.min(from + OWNER_BATCH_SIZE, unknown.size())));
+            active.addAll(fetchActiveOwners(chunk));
+        }
+
+        return active;
+    }
+
+    private Set<UUID> fetchActiveOwners(Set<UUID> ownerIds) {
+        try {
+            var users = userServiceClient.getUsersByIds(ownerIds);
+            ownerReplica.applyAll(users.stream()
+                    .map(user -> OwnerState.fromLookup(user.id(), Boolean.TRUE.equals(user.isDeleted())))
+                    .toList());
+
+            var active = users.stream()
+                    .filter(user -> !Boolean.TRUE.equals(user.isDeleted()))
+                    .map(UserDto::id)
+                    .collect(Collectors.toSet());
+            active.forEach(ownerCache::markActive);
+            return active;
+        } catch (FeignException.NotFound e) {
+            // user-service rejects the whole batch if any owner is missing, resolve this chunk one by one
+            log.debug("Batch owner lookup reported missing owners, checking {} owners individually", ownerIds.size());
+            return ownerIds.stream().filter(this::isActiveOwner).collect(Collectors.toSet());
+        } catch (FeignException e) {
+            log.error("Error calling user-service: {}", e.getMessage());
+            return replicatedActiveOwners(ownerIds, e);
         }
     }
 
+    private boolean isActiveOwner(UUID id) {
+        try {
+            var user = userServiceClient.getUserById(id);
+            boolean deleted = Boolean.TRUE.equals(user.isDeleted());
+            ownerReplica.apply(OwnerState.fromLookup(id, deleted));
+
+            if (deleted) {
+                ownerCache.evict(id);
+                return false;
+            }
+
+            ownerCache.markActive(id);
+            return true;
+        } catch (FeignException.NotFound e) {
+            log.warn("Owner with id {} not found", id);
+            return false;
+        } catch (FeignException e) {
+            log.error("Error calling user-service: {}", e.getMessage());
+            return isReplicatedActiveOwner(id, e);
+        }
+    }
+
+    /**
+     * Answers from the replica row, however old, while user-service is unavailable. The answer is not cached, so the
+     * next request asks user-service again. Without a row there is nothing to go on and the request fails.
+     */
+    private boolean isReplicatedActiveOwner(UUID id, FeignException cause) {
+        var owner = ownerRepository.findById(id).orElseThrow(() ->
+                new UserServiceUnavailableException("Failed to validate owner: user-service is unavailable", cause));
+
+        log.warn("user-service is unavailable, using replicated owner {} last updated at {}", id, owner.getUpdatedAt());
+        return !owner.isDeleted();
+    }
+
+    private Set<UUID> replicatedActiveOwners(Set<UUID> ownerIds, FeignException cause) {
+        var owners = ownerRepository.findAllById(ownerIds);
+        if (owners.size() < ownerIds.size()) {
+            throw new UserServiceUnavailableException("Failed to validate owners: user-service is unavailable", cause);
+        }
+
+        log.warn("user-service is unavailable, using replicated state of {} owners", owners.size());
+        return owners.stream()
+                .filter(owner -> !owner.isDeleted())
+                .map(Owner::getId)
+                .collect(Collectors.toSet());
+    }
+
     private Property changeActiveState(UUID id, Boolean status) {
         var property = propertyRepository.findById(id).orElseThrow(() -> PropertyNotFoundException.forProperty(id));
 
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_properties_created_at_id ON properties (created_at, id);
@@ -0,0 +1,10 @@
+-- Partial indexes for GET /api/v1/properties/search. Searches are served for active listings only,
+-- the service always emits a literal "is_active = true" predicate so the planner can match them.
+CREATE INDEX IF NOT EXISTS idx_properties_active_city_type_price
+    ON properties (city, property_type, price_per_night) WHERE is_active;
+
+CREATE INDEX IF NOT EXISTS idx_properties_active_country_city_price
+    ON properties (country, city, price_per_night) WHERE is_active;
+
+CREATE INDEX IF NOT EXISTS idx_properties_active_type_price
+    ON properties (property_type, price_per_night) WHERE is_active;
@@ -0,0 +1,2 @@
+-- Serves findAllByOwnerId and keyset pagination of an owner's properties ordered by (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_properties_owner_created_at_id ON properties (owner_id, created_at, id);
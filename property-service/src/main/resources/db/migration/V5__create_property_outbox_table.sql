@@ -0,0 +1,9 @@
+CREATE SEQUENCE IF NOT EXISTS property_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS property_outbox(
+    id BIGINT NOT NULL PRIMARY KEY,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
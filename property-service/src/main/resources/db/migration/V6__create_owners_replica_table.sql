@@ -0,0 +1,8 @@
+-- Local replica of user-service owners, fed by user lifecycle events.
+-- version -1 marks rows filled in from a synchronous lookup; any real event replaces them.
+CREATE TABLE IF NOT EXISTS owners(
+    id UUID NOT NULL PRIMARY KEY,
+    is_deleted BOOLEAN NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
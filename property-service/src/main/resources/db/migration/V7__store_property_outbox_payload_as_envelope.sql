@@ -0,0 +1,11 @@
+-- Outbox rows now hold a serialized EventEnvelope; wrap the pending legacy payloads so the relay can send them as-is.
+-- created_at holds the writer's local time with no zone, so the envelopes are stamped with the migration time in UTC.
+ALTER TABLE property_outbox ALTER COLUMN payload TYPE BYTEA USING convert_to(
+    json_build_object(
+        'id', gen_random_uuid(),
+        'type', event_type,
+        'aggregateId', aggregate_id,
+        'version', 0,
+        'timestamp', to_char(now() AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"'),
+        'payload', payload::json
+    )::text, 'UTF8');
@@ -0,0 +1,3 @@
+ALTER TABLE properties ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE property_outbox ADD COLUMN IF NOT EXISTS aggregate_version BIGINT NOT NULL DEFAULT 0;
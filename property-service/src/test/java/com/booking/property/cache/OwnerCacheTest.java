@@ -0,0 +1,58 @@
+package com.booking.property.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OwnerCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OwnerCache ownerCache = new OwnerCache(Duration.ofMinutes(1), 100, meterRegistry);
+
+    @Test
+    void isActiveOwner_WhenNotCached_ShouldReturnFalseAndRecordMiss() {
+        assertThat(ownerCache.isActiveOwner(UUID.randomUUID())).isFalse();
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void isActiveOwner_WhenMarkedActive_ShouldReturnTrueAndRecordHit() {
+        var ownerId = UUID.randomUUID();
+
+        ownerCache.markActive(ownerId);
+
+        assertThat(ownerCache.isActiveOwner(ownerId)).isTrue();
+        assertThat(gets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void evict_ShouldRemoveOwner() {
+        var ownerId = UUID.randomUUID();
+        ownerCache.markActive(ownerId);
+
+        ownerCache.evict(ownerId);
+
+        assertThat(ownerCache.isActiveOwner(ownerId)).isFalse();
+    }
+
+    @Test
+    void markActive_WhenMaxSizeExceeded_ShouldEvictEntries() {
+        var registry = new SimpleMeterRegistry();
+        var smallCache = new OwnerCache(Duration.ofMinutes(1), 10, registry);
+
+        for (int i = 0; i < 100; i++) {
+            smallCache.markActive(UUID.randomUUID());
+        }
+
+        assertThat(registry.get("cache.size").tag("cache", "owners").gauge().value()).isLessThanOrEqualTo(10);
+        assertThat(registry.get("cache.evictions").tag("cache", "owners").functionCounter().count()).isGreaterThanOrEqualTo(90);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "owners").tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,41 @@
+package com.booking.property.config;
+
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.micrometer.FeignContext;
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsConfigTest {
+
+    private final MetricsConfig metricsConfig = new MetricsConfig();
+
+    @Test
+    void feignOutcomeFilter_ShouldTagByResponseStatus() {
+        var request = Request.create(Request.HttpMethod.GET, "http://user-service/api/v1/users/1", Map.of(),
+                null, StandardCharsets.UTF_8, new RequestTemplate());
+        var context = new FeignContext(request);
+        context.setResponse(Response.builder().request(request).status(503).headers(Map.of()).build());
+
+        metricsConfig.feignOutcomeFilter().map(context);
+
+        assertThat(context.getLowCardinalityKeyValue("outcome")).isEqualTo(KeyValue.of("outcome", "SERVER_ERROR"));
+    }
+
+    @Test
+    void feignOutcomeFilter_WhenNoResponse_ShouldTagUnknown() {
+        var request = Request.create(Request.HttpMethod.POST, "http://user-service/api/v1/users/batch", Map.of(),
+                null, StandardCharsets.UTF_8, new RequestTemplate());
+        var context = new FeignContext(request);
+
+        metricsConfig.feignOutcomeFilter().map(context);
+
+        assertThat(context.getLowCardinalityKeyValue("outcome")).isEqualTo(KeyValue.of("outcome", "UNKNOWN"));
+    }
+}
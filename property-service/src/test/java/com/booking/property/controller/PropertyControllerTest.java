@@ -1,11 +1,16 @@
 package com.booking.property.controller;
 
+import com.booking.common.pagination.CursorPage;
+import com.booking.common.pagination.InvalidCursorException;
+import com.booking.property.dto.PropertyBulkResultDto;
 import com.booking.property.dto.PropertyCreationDto;
 import com.booking.property.dto.PropertyDto;
 import com.booking.property.dto.PropertyPatchDto;
+import com.booking.property.dto.PropertySearchCriteria;
 import com.booking.property.entity.PropertyType;
 import com.booking.property.exception.OwnerNotFoundException;
 import com.booking.property.exception.PropertyNotFoundException;
+import com.booking.property.exception.PropertyServiceException;
 import com.booking.property.exception.exceptionhandler.GlobalExceptionHandler;
 import com.booking.property.service.PropertyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,28 +22,40 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PropertyController.class)
 @Import(GlobalExceptionHandler.class)
 public class PropertyControllerTest {
 
+    /** Tomcat's async timeout, which applies when spring.mvc.async.request-timeout is not set. */
+    private static final Duration CONTAINER_DEFAULT_ASYNC_TIMEOUT = Duration.ofSeconds(30);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -94,6 +111,49 @@ public class PropertyControllerTest {
         verify(propertyService, never()).createProperty(creationDto);
     }
 
+    @Test
+    void createProperties_Success() throws Exception {
+        var creationDto = new PropertyCreationDto("TestName", "TestDescription", "TestAddress", "TestCity", "TestCountry",
+                PropertyType.BUNGALOW, new BigDecimal("50.00"), 3, OWNER_ID);
+        var propertyDto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
+
+        when(propertyService.createProperties(List.of(creationDto, creationDto)))
+                .thenReturn(List.of(PropertyBulkResultDto.created(0, propertyDto),
+                        PropertyBulkResultDto.rejected(1, "Owner with id " + OWNER_ID + " not found")));
+
+        mockMvc.perform(post("/api/v1/properties/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(creationDto, creationDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].property.id").value(PROPERTY_ID.toString()))
+                .andExpect(jsonPath("$[1].status").value("REJECTED"));
+    }
+
+    @Test
+    void createProperties_WhenEmptyList_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/v1/properties/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(propertyService);
+    }
+
+    @Test
+    void createProperties_WhenItemInvalid_ShouldReturn400() throws Exception {
+        var invalidDto = new PropertyCreationDto("", "TestDescription", "TestAddress", "TestCity", "TestCountry",
+                PropertyType.BUNGALOW, new BigDecimal("50.00"), 3, OWNER_ID);
+
+        mockMvc.perform(post("/api/v1/properties/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalidDto))))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(propertyService);
+    }
+
     @Test
     void getPropertyById_Success() throws Exception {
         var propertyDto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
@@ -155,6 +215,20 @@ public class PropertyControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void updateProperty_WhenModifiedConcurrently_ShouldReturn409() throws Exception {
+        var patchDto = new PropertyPatchDto("UpdateName", "UpdatedDescription", "UpdatedAddress", null, null, null, null, null);
+
+        when(propertyService.updateProperty(PROPERTY_ID, patchDto))
+                .thenThrow(new ObjectOptimisticLockingFailureException("Property", PROPERTY_ID));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/v1/properties/{propertyId}", PROPERTY_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchDto)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("Property was modified concurrently, retry the request"));
+    }
+
     @Test
     void getAllProperties_Success() throws Exception {
         var propertyDto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
@@ -174,6 +248,111 @@ public class PropertyControllerTest {
                 .andExpect(jsonPath("$.content[0].createdAt").value(propertyDto.createdAt().toString()));
     }
 
+    @Test
+    void scrollProperties_Success() throws Exception {
+        var propertyDto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
+
+        when(propertyService.getAll("token", 10)).thenReturn(new CursorPage<>(List.of(propertyDto), null));
+
+        mockMvc.perform(get("/api/v1/properties/scroll")
+                        .param("cursor", "token")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(PROPERTY_ID.toString()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void scrollProperties_WhenCursorInvalid_ShouldReturn400() throws Exception {
+        when(propertyService.getAll("broken", 20)).thenThrow(new InvalidCursorException("broken"));
+
+        mockMvc.perform(get("/api/v1/properties/scroll").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchProperties_Success() throws Exception {
+        var propertyDto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
+        var criteria = new PropertySearchCriteria("TestCity", null, PropertyType.BUNGALOW, 2,
+                new BigDecimal("10"), new BigDecimal("100"));
+
+        when(propertyService.search(criteria, PageRequest.of(0, 20))).thenReturn(new PageImpl<>(List.of(propertyDto)));
+
+        mockMvc.perform(get("/api/v1/properties/search")
+                        .param("city", "TestCity")
+                        .param("propertyType", "BUNGALOW")
+                        .param("maxGuests", "2")
+                        .param("minPrice", "10")
+                        .param("maxPrice", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(PROPERTY_ID.toString()));
+    }
+
+    @Test
+    void searchProperties_WhenNoIndexedFilter_ShouldReturn400() throws Exception {
+        when(propertyService.search(any(PropertySearchCriteria.class), any(Pageable.class)))
+                .thenThrow(new PropertyServiceException("At least one of city, country or propertyType is required", HttpStatus.BAD_REQUEST));
+
+        mockMvc.perform(get("/api/v1/properties/search").param("maxGuests", "2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").exists());
+    }
+
+    @Test
+    void searchProperties_WhenUnknownPropertyType_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/properties/search").param("propertyType", "CASTLE"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(propertyService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportProperties_ShouldStreamNdjson() throws Exception {
+        var dto1 = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
+        var dto2 = createPropertyDto(UUID.randomUUID(), OWNER_ID, LocalDateTime.now(), false);
+
+        doAnswer(invocation -> {
+            Consumer<PropertyDto> sink = invocation.getArgument(0);
+            sink.accept(dto1);
+            sink.accept(dto2);
+            return null;
+        }).when(propertyService).exportAll(any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/properties/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var expected = objectMapper.writeValueAsString(dto1) + "\n" + objectMapper.writeValueAsString(dto2) + "\n";
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportProperties_ShouldOutliveContainerDefaultAsyncTimeout() throws Exception {
+        var dto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
+        doAnswer(invocation -> {
+            Consumer<PropertyDto> sink = invocation.getArgument(0);
+            sink.accept(dto);
+            return null;
+        }).when(propertyService).exportAll(any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/properties/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(Duration.ofHours(1).toMillis())
+                .isGreaterThan(CONTAINER_DEFAULT_ASYNC_TIMEOUT.toMillis());
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(objectMapper.writeValueAsString(dto) + "\n"));
+    }
+
     @Test
     void getPropertiesByOwnerId_Success() throws Exception {
         var propertyDto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
@@ -192,6 +371,27 @@ public class PropertyControllerTest {
                 .andExpect(jsonPath("$[0].createdAt").value(propertyDto.createdAt().toString()));
     }
 
+    @Test
+    void scrollPropertiesByOwnerId_Success() throws Exception {
+        var propertyDto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
+
+        when(propertyService.getPropertiesByOwnerId(OWNER_ID, null, 50))
+                .thenReturn(new CursorPage<>(List.of(propertyDto), "next-token"));
+
+        mockMvc.perform(get("/api/v1/properties/owner/{ownerId}/scroll", OWNER_ID).param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].ownerId").value(OWNER_ID.toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    void scrollPropertiesByOwnerId_WhenSizeTooLarge_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/properties/owner/{ownerId}/scroll", OWNER_ID).param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(propertyService);
+    }
+
     @Test
     void getAllPropertiesByIds_Success() throws Exception {
         var propertyDto = createPropertyDto(PROPERTY_ID, OWNER_ID, LocalDateTime.now(), true);
@@ -0,0 +1,141 @@
+package com.booking.property.replica;
+
+import com.booking.property.cache.OwnerCache;
+import com.booking.common.event.EventEnvelope;
+import com.booking.common.event.EventSerializer;
+import com.booking.property.dto.UserDto;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserEventConsumerTest {
+
+    private static final String TOPIC = "user-events";
+
+    @Mock
+    private OwnerReplica ownerReplica;
+
+    @Mock
+    private OwnerCache ownerCache;
+
+    private final EventSerializer eventSerializer = new EventSerializer();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void apply_ShouldKeepNewestVersionPerUserInOneBatch() {
+        var consumer = consumer();
+        var userId = UUID.randomUUID();
+        var otherId = UUID.randomUUID();
+
+        consumer.apply(records(
+                event(userId, 0, "USER_CREATED", false),
+                event(userId, 2, "USER_DELETE_STATE_CHANGED", true),
+                event(userId, 1, "USER_UPDATED", false),
+                event(otherId, 5, "USER_UPDATED", false)));
+
+        ArgumentCaptor<Collection<OwnerState>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(ownerReplica, times(1)).applyAll(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                new OwnerState(userId, true, 2),
+                new OwnerState(otherId, false, 5));
+        verify(ownerCache).evict(userId);
+        verify(ownerCache, never()).evict(otherId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void apply_ShouldSkipMalformedEvents() {
+        var consumer = consumer();
+        var userId = UUID.randomUUID();
+
+        consumer.apply(records("not json".getBytes(), event(userId, 1, "USER_UPDATED", false)));
+
+        ArgumentCaptor<Collection<OwnerState>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(ownerReplica).applyAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(new OwnerState(userId, false, 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_WhenBatchFails_ShouldRewindAndRetryInsteadOfStopping() {
+        var mockConsumer = new MockConsumer<String, byte[]>(OffsetResetStrategy.EARLIEST);
+        var partition = new TopicPartition(TOPIC, 0);
+        var userId = UUID.randomUUID();
+        var event = event(userId, 1, "USER_UPDATED", false);
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(partition));
+            mockConsumer.updateBeginningOffsets(Map.of(partition, 0L));
+            mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, null, event));
+        });
+        // polled records are dropped by the mock, so offset 0 is only seen again if the consumer rewound
+        mockConsumer.schedulePollTask(() -> mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, null, event)));
+        doThrow(new IllegalStateException("database unavailable")).doNothing().when(ownerReplica).applyAll(any());
+
+        var consumer = consumer(mockConsumer);
+        consumer.start();
+        try {
+            ArgumentCaptor<Collection<OwnerState>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(ownerReplica, timeout(5000).times(2)).applyAll(captor.capture());
+            assertThat(captor.getAllValues()).allSatisfy(states -> assertThat(states).containsExactly(new OwnerState(userId, false, 1)));
+            awaitCommittedOffset(mockConsumer, partition, 1);
+            assertThat(consumer.isRunning()).isTrue();
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    private UserEventConsumer consumer() {
+        return consumer(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
+    }
+
+    private UserEventConsumer consumer(MockConsumer<String, byte[]> mockConsumer) {
+        return new UserEventConsumer(mockConsumer, ownerReplica, ownerCache, eventSerializer, TOPIC,
+                Duration.ofMillis(100), Duration.ofMillis(10), Duration.ofMillis(100));
+    }
+
+    private static void awaitCommittedOffset(MockConsumer<String, byte[]> consumer, TopicPartition partition, long offset) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            var committed = consumer.committed(Set.of(partition)).get(partition);
+            if (committed != null && committed.offset() == offset) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Offset " + offset + " was not committed for " + partition);
+    }
+
+    private byte[] event(UUID userId, long version, String type, boolean deleted) {
+        var user = new UserDto(userId, "Name", "Lastname", "email@test.com", LocalDateTime.of(2025, 1, 1, 10, 0), deleted);
+        return eventSerializer.serialize(EventEnvelope.of(type, userId, version, user));
+    }
+
+    private static ConsumerRecords<String, byte[]> records(byte[]... values) {
+        var partition = new TopicPartition(TOPIC, 0);
+        var list = new ArrayList<ConsumerRecord<String, byte[]>>();
+        for (int i = 0; i < values.length; i++) {
+            list.add(new ConsumerRecord<>(TOPIC, 0, i, null, values[i]));
+        }
+        return new ConsumerRecords<>(Map.of(partition, List.copyOf(list)));
+    }
+}
@@ -1,7 +1,9 @@
 package com.booking.property.repository;
 
+import com.booking.property.dto.PropertySearchCriteria;
 import com.booking.property.entity.Property;
 import com.booking.property.entity.PropertyType;
+import com.booking.property.repository.specification.PropertySpecifications;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -98,6 +100,48 @@ public class PropertyRepositoryIntegrationTest {
         assertThat(page.getNumber()).isEqualTo(1);
     }
 
+    @Test
+    void findKeysetPages_ShouldWalkAllRowsInCreationOrder() {
+        for (int i = 0; i < 5; i++) {
+            propertyRepository.saveAndFlush(createProperty());
+        }
+
+        var firstPage = propertyRepository.findFirstKeysetPage(3);
+        var last = firstPage.get(2);
+        var secondPage = propertyRepository.findKeysetPageAfter(last.getCreatedAt(), last.getId(), 3);
+
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage).extracting(Property::getId)
+                .doesNotContainAnyElementsOf(firstPage.stream().map(Property::getId).toList());
+    }
+
+    @Test
+    void findAllBySpecification_ShouldApplyAllFilters() {
+        var matching = createProperty();
+        matching.setCity("Lisbon");
+        matching.setMaxGuests(4);
+        var tooSmall = createProperty();
+        tooSmall.setCity("Lisbon");
+        tooSmall.setMaxGuests(1);
+        var inactive = createProperty();
+        inactive.setCity("Lisbon");
+        inactive.setMaxGuests(4);
+        inactive.setIsActive(false);
+        var otherCity = createProperty();
+        otherCity.setMaxGuests(4);
+
+        propertyRepository.saveAll(List.of(matching, tooSmall, inactive, otherCity));
+
+        var criteria = new PropertySearchCriteria("Lisbon", null, PropertyType.APARTMENT, 2,
+                new BigDecimal("10.00"), new BigDecimal("100.00"));
+        var result = propertyRepository.findAll(PropertySpecifications.matching(criteria), PageRequest.of(0, 10));
+
+        assertThat(result.getContent())
+                .extracting(Property::getId)
+                .containsExactly(matching.getId());
+    }
+
     @Test
     void findPropertiesByOwnerId() {
         var ownerId = UUID.randomUUID();
@@ -126,6 +170,33 @@ public class PropertyRepositoryIntegrationTest {
                 .containsExactlyInAnyOrder(property1.getId(), property2.getId());
     }
 
+    @Test
+    void findKeysetPagesByOwnerId_ShouldReturnOnlyOwnerProperties() {
+        var ownerId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            var property = createProperty();
+            property.setOwnerId(ownerId);
+            propertyRepository.saveAndFlush(property);
+        }
+        propertyRepository.saveAndFlush(createProperty());
+
+        var firstPage = propertyRepository.findFirstKeysetPageByOwnerId(ownerId, 2);
+        var last = firstPage.get(1);
+        var secondPage = propertyRepository.findKeysetPageByOwnerIdAfter(ownerId, last.getCreatedAt(), last.getId(), 2);
+
+        assertThat(firstPage).hasSize(2).extracting(Property::getOwnerId).containsOnly(ownerId);
+        assertThat(secondPage).hasSize(1).extracting(Property::getOwnerId).containsOnly(ownerId);
+    }
+
+    @Test
+    void streamAll_ShouldReturnEveryProperty() {
+        propertyRepository.saveAll(List.of(createProperty(), createProperty(), createProperty()));
+
+        try (var stream = propertyRepository.streamAll()) {
+            assertThat(stream.count()).isEqualTo(3);
+        }
+    }
+
     @Test
     void findPropertiesByIds() {
         var property1 = createProperty();
@@ -0,0 +1,154 @@
+package com.booking.property.repository;
+
+import com.booking.property.dto.PropertySearchCriteria;
+import com.booking.property.entity.Property;
+import com.booking.property.entity.PropertyType;
+import com.booking.property.repository.specification.PropertySpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL that {@link PropertySpecifications} generates for every supported combination of search
+ * filters and checks that Postgres can serve it from one of the partial {@code idx_properties_active_*} indexes.
+ * Sequential scans are disabled so the plan reflects whether an index is usable, not the size of the table.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PropertySearchPlanIntegrationTest {
+
+    private static final Sort SEARCH_SORT = Sort.by("pricePerNight", "id");
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("properties")
+            .withUsername("property")
+            .withPassword("password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add(CapturingStatementInspector.PROPERTY, CapturingStatementInspector.class::getName);
+    }
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        propertyRepository.saveAllAndFlush(List.of(
+                property("Lisbon", "Portugal", PropertyType.APARTMENT, true),
+                property("Porto", "Portugal", PropertyType.HOUSE, true),
+                property("Lisbon", "Portugal", PropertyType.APARTMENT, false)));
+        jdbcTemplate.execute("ANALYZE properties");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void searchByCity_ShouldUsePartialIndex() {
+        assertUsesSearchIndex(criteria("Lisbon", null, null, null, null, null));
+        assertUsesSearchIndex(criteria("Lisbon", null, null, 2, new BigDecimal("10.00"), new BigDecimal("100.00")));
+    }
+
+    @Test
+    void searchByCountry_ShouldUsePartialIndex() {
+        assertUsesSearchIndex(criteria(null, "Portugal", null, null, null, null));
+        assertUsesSearchIndex(criteria(null, "Portugal", null, 2, new BigDecimal("10.00"), new BigDecimal("100.00")));
+    }
+
+    @Test
+    void searchByPropertyType_ShouldUsePartialIndex() {
+        assertUsesSearchIndex(criteria(null, null, PropertyType.APARTMENT, null, null, null));
+        assertUsesSearchIndex(criteria(null, null, PropertyType.APARTMENT, 2, new BigDecimal("10.00"), null));
+    }
+
+    @Test
+    void searchByCityAndPropertyType_ShouldUsePartialIndex() {
+        assertUsesSearchIndex(criteria("Lisbon", null, PropertyType.APARTMENT, null, null, null));
+        assertUsesSearchIndex(criteria("Lisbon", null, PropertyType.APARTMENT, 2, null, new BigDecimal("100.00")));
+    }
+
+    @Test
+    void searchByCountryAndCity_ShouldUsePartialIndex() {
+        assertUsesSearchIndex(criteria("Lisbon", "Portugal", null, null, null, null));
+        assertUsesSearchIndex(criteria("Lisbon", "Portugal", null, 2, new BigDecimal("10.00"), new BigDecimal("100.00")));
+    }
+
+    @Test
+    void searchByCountryAndPropertyType_ShouldUsePartialIndex() {
+        assertUsesSearchIndex(criteria(null, "Portugal", PropertyType.HOUSE, null, null, null));
+    }
+
+    @Test
+    void searchByAllIndexedFilters_ShouldUsePartialIndex() {
+        assertUsesSearchIndex(criteria("Lisbon", "Portugal", PropertyType.APARTMENT, 2,
+                new BigDecimal("10.00"), new BigDecimal("100.00")));
+    }
+
+    private void assertUsesSearchIndex(PropertySearchCriteria criteria) {
+        CapturingStatementInspector.clear();
+        propertyRepository.findAll(PropertySpecifications.matching(criteria), PageRequest.of(0, PAGE_SIZE, SEARCH_SORT));
+
+        var sql = CapturingStatementInspector.statements().stream()
+                .filter(statement -> statement.contains("order by"))
+                .findFirst()
+                .orElseThrow();
+        var plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, bindValues(criteria, sql)));
+
+        assertThat(plan)
+                .as("plan for %s:%n%s", criteria, plan)
+                .contains("idx_properties_active_")
+                .doesNotContain("Seq Scan");
+    }
+
+    /**
+     * Bind values in the order the specification adds its predicates, followed by the page limit.
+     */
+    private static Object[] bindValues(PropertySearchCriteria criteria, String sql) {
+        var values = new ArrayList<Object>();
+        if (criteria.city() != null) values.add(criteria.city());
+        if (criteria.country() != null) values.add(criteria.country());
+        if (criteria.propertyType() != null) values.add(criteria.propertyType().name());
+        if (criteria.maxGuests() != null) values.add(criteria.maxGuests());
+        if (criteria.minPrice() != null) values.add(criteria.minPrice());
+        if (criteria.maxPrice() != null) values.add(criteria.maxPrice());
+        values.add(PAGE_SIZE);
+        assertThat(sql.chars().filter(c -> c == '?').count()).as("bind parameters in %s", sql).isEqualTo(values.size());
+        return values.toArray();
+    }
+
+    private static PropertySearchCriteria criteria(String city, String country, PropertyType type, Integer maxGuests,
+                                                   BigDecimal minPrice, BigDecimal maxPrice) {
+        return new PropertySearchCriteria(city, country, type, maxGuests, minPrice, maxPrice);
+    }
+
+    private static Property property(String city, String country, PropertyType type, boolean active) {
+        return new Property("TestProperty", "TestDescription", "TestAddress", city, country,
+                type, new BigDecimal("50.00"), 3, UUID.randomUUID(), active);
+    }
+}
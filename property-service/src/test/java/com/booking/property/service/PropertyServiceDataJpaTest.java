@@ -0,0 +1,148 @@
+package com.booking.property.service;
+
+import com.booking.common.sql.SqlDataSourceConfig;
+import com.booking.common.sql.SqlStatementStats;
+import com.booking.property.cache.OwnerCache;
+import com.booking.property.client.UserServiceClient;
+import com.booking.property.config.HibernateConfig;
+import com.booking.property.dto.PropertyPatchDto;
+import com.booking.property.entity.Property;
+import com.booking.property.entity.PropertyType;
+import com.booking.property.mapper.PropertyMapperImpl;
+import com.booking.property.outbox.PropertyEventType;
+import com.booking.property.outbox.PropertyOutbox;
+import com.booking.property.replica.OwnerReplica;
+import com.booking.property.repository.CapturingStatementInspector;
+import com.booking.property.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks the SQL that property writes produce against Postgres: each service call commits on its own, runs one
+ * SELECT and one UPDATE, and thanks to {@code @DynamicUpdate} the UPDATE sets only the changed columns and the
+ * version. The outbox is mocked, so its INSERT is not counted.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PropertyServiceImpl.class, PropertyMapperImpl.class, HibernateConfig.class, SqlDataSourceConfig.class})
+public class PropertyServiceDataJpaTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("properties")
+            .withUsername("property")
+            .withPassword("password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add(CapturingStatementInspector.PROPERTY, CapturingStatementInspector.class::getName);
+    }
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private OwnerCache ownerCache;
+
+    @MockitoBean
+    private PropertyOutbox outbox;
+
+    @MockitoBean
+    private OwnerReplica ownerReplica;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    private Property property;
+
+    @BeforeEach
+    void setUp() {
+        propertyRepository.deleteAll();
+        property = propertyRepository.save(new Property("TestProperty", "TestDescription", "TestAddress", "Lisbon",
+                "Portugal", PropertyType.APARTMENT, new BigDecimal("50.00"), 3, UUID.randomUUID(), true));
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void changeActivePropertyStatus_ShouldIssueSingleUpdateOfChangedColumns() {
+        SqlStatementStats.start();
+        var result = propertyService.changeActivePropertyStatus(property.getId(), false);
+        var stats = SqlStatementStats.stop();
+
+        assertThat(result.isActive()).isFalse();
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(updates()).singleElement().satisfies(sql ->
+                assertThat(setColumns(sql)).containsExactlyInAnyOrder("is_active", "version"));
+        assertThat(propertyRepository.findById(property.getId()).orElseThrow().getIsActive()).isFalse();
+    }
+
+    @Test
+    void updateProperty_ShouldIssueSingleUpdateOfChangedColumns() {
+        var patch = new PropertyPatchDto("Renamed", null, null, null, null, null, new BigDecimal("75.00"), null);
+
+        SqlStatementStats.start();
+        var result = propertyService.updateProperty(property.getId(), patch);
+        var stats = SqlStatementStats.stop();
+
+        assertThat(result.name()).isEqualTo("Renamed");
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(updates()).singleElement().satisfies(sql ->
+                assertThat(setColumns(sql)).containsExactlyInAnyOrder("name", "price_per_night", "version"));
+        assertThat(propertyRepository.findById(property.getId()).orElseThrow().getVersion()).isEqualTo(property.getVersion() + 1);
+    }
+
+    @Test
+    void updateProperty_WhenNothingChanges_ShouldKeepVersionInTheEvent() {
+        var patch = new PropertyPatchDto("TestProperty", null, null, null, null, null, null, null);
+
+        var result = propertyService.updateProperty(property.getId(), patch);
+
+        assertThat(updates()).isEmpty();
+        verify(outbox).record(PropertyEventType.PROPERTY_UPDATED, property.getVersion(), result);
+    }
+
+    private static List<String> updates() {
+        return CapturingStatementInspector.statements().stream()
+                .filter(sql -> sql.regionMatches(true, 0, "update", 0, 6))
+                .toList();
+    }
+
+    /**
+     * Column names of the SET clause of {@code update properties set a=?,b=? where ...}.
+     */
+    private static List<String> setColumns(String updateSql) {
+        var lower = updateSql.toLowerCase();
+        var assignments = lower.substring(lower.indexOf(" set ") + 5, lower.indexOf(" where "));
+        return Arrays.stream(assignments.split(","))
+                .map(assignment -> assignment.substring(0, assignment.indexOf('=')).trim())
+                .toList();
+    }
+}
@@ -1,18 +1,32 @@
 package com.booking.property.service;
 
+import com.booking.common.pagination.Cursor;
+import com.booking.property.cache.OwnerCache;
 import com.booking.property.client.UserServiceClient;
+import com.booking.property.dto.BulkItemStatus;
+import com.booking.property.dto.PropertyBulkResultDto;
 import com.booking.property.dto.PropertyCreationDto;
 import com.booking.property.dto.PropertyDto;
 import com.booking.property.dto.PropertyPatchDto;
+import com.booking.property.dto.PropertySearchCriteria;
 import com.booking.property.dto.UserDto;
+import com.booking.property.entity.Owner;
 import com.booking.property.entity.Property;
 import com.booking.property.entity.PropertyType;
 import com.booking.property.exception.OwnerNotFoundException;
 import com.booking.property.exception.PropertyNotFoundException;
+import com.booking.property.exception.PropertyServiceException;
 import com.booking.property.exception.UserServiceUnavailableException;
 import com.booking.property.mapper.PropertyMapper;
+import com.booking.property.outbox.PropertyEventType;
+import com.booking.property.outbox.PropertyOutbox;
+import com.booking.property.replica.OwnerReplica;
+import com.booking.property.replica.OwnerState;
+import com.booking.property.repository.OwnerRepository;
 import com.booking.property.repository.PropertyRepository;
 import feign.FeignException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -23,12 +37,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -47,10 +66,27 @@ public class PropertyServiceImplTest {
     @Mock
     private PropertyMapper propertyMapper;
 
+    @Mock
+    private OwnerCache ownerCache;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PropertyOutbox outbox;
+
+    @Mock
+    private OwnerRepository ownerRepository;
+
+    @Mock
+    private OwnerReplica ownerReplica;
+
     @InjectMocks
     PropertyServiceImpl propertyService;
 
 
+    private static final Duration OWNER_TTL = Duration.ofMinutes(1);
+
     private final UUID userId = UUID.randomUUID();
     private final UUID propertyId = UUID.randomUUID();
 
@@ -59,6 +95,11 @@ public class PropertyServiceImplTest {
     );
 
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(ownerCache.ttl()).thenReturn(OWNER_TTL);
+    }
+
     @Test
     void createProperty_WhenOwnerExists_ShouldReturnPropertyDto() {
         var property = createProperty();
@@ -67,7 +108,7 @@ public class PropertyServiceImplTest {
 
         when(userServiceClient.getUserById(userId)).thenReturn(new UserDto(userId, "Name", "Lastname", "email@test.com", LocalDateTime.now(), false));
         when(propertyMapper.toPropertyEntity(propertyCreationDto)).thenReturn(property);
-        when(propertyRepository.saveAndFlush(property)).thenReturn(property);
+        when(propertyRepository.save(property)).thenReturn(property);
         when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
 
         var result = propertyService.createProperty(propertyCreationDto);
@@ -75,9 +116,58 @@ public class PropertyServiceImplTest {
         assertThat(result).usingRecursiveComparison().isEqualTo(propertyDto);
 
         verify(userServiceClient).getUserById(userId);
+        verify(ownerCache).markActive(userId);
         verify(propertyMapper).toPropertyEntity(propertyCreationDto);
-        verify(propertyRepository).saveAndFlush(property);
+        verify(propertyRepository).save(property);
         verify(propertyMapper).toPropertyDto(property);
+        verify(outbox).record(PropertyEventType.PROPERTY_CREATED, 0L, propertyDto);
+        verify(ownerReplica).apply(OwnerState.fromLookup(userId, false));
+    }
+
+    @Test
+    void createProperty_WhenOwnerReplicated_ShouldNotCallUserService() {
+        var property = createProperty();
+        property.setId(propertyId);
+        var propertyDto = createPropertyDto(propertyId, property.getOwnerId(), property.getCreatedAt(), property.getIsActive());
+
+        when(ownerRepository.findTrusted(userId, OWNER_TTL.toSeconds())).thenReturn(Optional.of(new Owner(userId, false, 3, LocalDateTime.now())));
+        when(propertyMapper.toPropertyEntity(propertyCreationDto)).thenReturn(property);
+        when(propertyRepository.save(property)).thenReturn(property);
+        when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
+
+        var result = propertyService.createProperty(propertyCreationDto);
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(propertyDto);
+        verify(ownerCache).markActive(userId);
+        verifyNoInteractions(userServiceClient, ownerReplica);
+    }
+
+    @Test
+    void createProperty_WhenReplicatedOwnerDeleted_ShouldThrowOwnerNotFoundException() {
+        when(ownerRepository.findTrusted(userId, OWNER_TTL.toSeconds())).thenReturn(Optional.of(new Owner(userId, true, 4, LocalDateTime.now())));
+
+        assertThatThrownBy(() -> propertyService.createProperty(propertyCreationDto))
+                .isInstanceOf(OwnerNotFoundException.class);
+
+        verifyNoInteractions(userServiceClient);
+        verify(propertyRepository, never()).save(any());
+    }
+
+    @Test
+    void createProperty_WhenOwnerCached_ShouldNotCallUserService() {
+        var property = createProperty();
+        property.setId(propertyId);
+        var propertyDto = createPropertyDto(propertyId, property.getOwnerId(), property.getCreatedAt(), property.getIsActive());
+
+        when(ownerCache.isActiveOwner(userId)).thenReturn(true);
+        when(propertyMapper.toPropertyEntity(propertyCreationDto)).thenReturn(property);
+        when(propertyRepository.save(property)).thenReturn(property);
+        when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
+
+        var result = propertyService.createProperty(propertyCreationDto);
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(propertyDto);
+        verifyNoInteractions(userServiceClient);
     }
 
     @Test
@@ -110,6 +200,120 @@ public class PropertyServiceImplTest {
                 .hasMessageContaining("user-service is unavailable");
     }
 
+    @Test
+    void createProperty_WhenUserServiceUnavailable_ShouldFallBackToReplicatedOwner() {
+        var property = createProperty();
+        property.setId(propertyId);
+        var propertyDto = createPropertyDto(propertyId, property.getOwnerId(), property.getCreatedAt(), property.getIsActive());
+
+        when(userServiceClient.getUserById(userId)).thenThrow(FeignException.class);
+        when(ownerRepository.findById(userId)).thenReturn(Optional.of(new Owner(userId, false, OwnerState.LOOKUP_VERSION, LocalDateTime.now().minusHours(1))));
+        when(propertyMapper.toPropertyEntity(propertyCreationDto)).thenReturn(property);
+        when(propertyRepository.save(property)).thenReturn(property);
+        when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
+
+        var result = propertyService.createProperty(propertyCreationDto);
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(propertyDto);
+        verify(ownerCache, never()).markActive(any());
+    }
+
+    @Test
+    void createProperty_WhenUserServiceUnavailableAndReplicatedOwnerDeleted_ShouldThrowOwnerNotFoundException() {
+        when(userServiceClient.getUserById(userId)).thenThrow(FeignException.class);
+        when(ownerRepository.findById(userId)).thenReturn(Optional.of(new Owner(userId, true, OwnerState.LOOKUP_VERSION, LocalDateTime.now().minusHours(1))));
+
+        assertThatThrownBy(() -> propertyService.createProperty(propertyCreationDto))
+                .isInstanceOf(OwnerNotFoundException.class);
+
+        verify(propertyRepository, never()).save(any());
+    }
+
+    @Test
+    void createProperties_ShouldValidateOwnersInOneBatchCall() {
+        var property = createProperty();
+        property.setId(propertyId);
+        var propertyDto = createPropertyDto(propertyId, userId, property.getCreatedAt(), true);
+
+        when(userServiceClient.getUsersByIds(Set.of(userId)))
+                .thenReturn(List.of(new UserDto(userId, "Name", "Lastname", "email@test.com", LocalDateTime.now(), false)));
+        when(propertyMapper.toPropertyEntity(propertyCreationDto)).thenReturn(property);
+        when(propertyRepository.saveAll(List.of(property, property))).thenReturn(List.of(property, property));
+        when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
+
+        var result = propertyService.createProperties(List.of(propertyCreationDto, propertyCreationDto));
+
+        assertThat(result)
+                .extracting(PropertyBulkResultDto::status)
+                .containsExactly(BulkItemStatus.CREATED, BulkItemStatus.CREATED);
+        verify(userServiceClient, times(1)).getUsersByIds(Set.of(userId));
+        verify(userServiceClient, never()).getUserById(any());
+        verify(ownerCache).markActive(userId);
+    }
+
+    @Test
+    void createProperties_WhenSomeOwnersMissing_ShouldRejectOnlyTheirItems() {
+        var missingOwnerId = UUID.randomUUID();
+        var missingOwnerDto = new PropertyCreationDto("Other", "TestDescription", "TestAddress", "TestCity", "TestCountry",
+                PropertyType.APARTMENT, new BigDecimal("50.00"), 3, missingOwnerId);
+        var property = createProperty();
+        property.setId(propertyId);
+        var propertyDto = createPropertyDto(propertyId, userId, property.getCreatedAt(), true);
+
+        when(userServiceClient.getUsersByIds(anySet())).thenThrow(FeignException.NotFound.class);
+        when(userServiceClient.getUserById(userId))
+                .thenReturn(new UserDto(userId, "Name", "Lastname", "email@test.com", LocalDateTime.now(), false));
+        when(userServiceClient.getUserById(missingOwnerId)).thenThrow(FeignException.NotFound.class);
+        when(propertyMapper.toPropertyEntity(propertyCreationDto)).thenReturn(property);
+        when(propertyRepository.saveAll(List.of(property))).thenReturn(List.of(property));
+        when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
+
+        var result = propertyService.createProperties(List.of(missingOwnerDto, propertyCreationDto));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).status()).isEqualTo(BulkItemStatus.REJECTED);
+        assertThat(result.get(0).error()).contains(missingOwnerId.toString());
+        assertThat(result.get(1).status()).isEqualTo(BulkItemStatus.CREATED);
+        assertThat(result.get(1).property()).isEqualTo(propertyDto);
+        verify(outbox).record(PropertyEventType.PROPERTY_CREATED, 0L, propertyDto);
+        verify(ownerReplica).apply(OwnerState.fromLookup(userId, false));
+    }
+
+    @Test
+    void createProperties_WhenUserServiceUnavailable_ShouldThrowUserServiceUnavailableException() {
+        when(userServiceClient.getUsersByIds(anySet())).thenThrow(FeignException.class);
+
+        assertThatThrownBy(() -> propertyService.createProperties(List.of(propertyCreationDto)))
+                .isInstanceOf(UserServiceUnavailableException.class);
+
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    void createProperties_WhenUserServiceUnavailable_ShouldFallBackToReplicatedOwners() {
+        var deletedOwnerId = UUID.randomUUID();
+        var deletedOwnerDto = new PropertyCreationDto("Other", "TestDescription", "TestAddress", "TestCity", "TestCountry",
+                PropertyType.APARTMENT, new BigDecimal("50.00"), 3, deletedOwnerId);
+        var property = createProperty();
+        property.setId(propertyId);
+        var propertyDto = createPropertyDto(propertyId, userId, property.getCreatedAt(), true);
+
+        when(userServiceClient.getUsersByIds(anySet())).thenThrow(FeignException.class);
+        when(ownerRepository.findAllById(anySet())).thenReturn(List.of(
+                new Owner(userId, false, OwnerState.LOOKUP_VERSION, LocalDateTime.now().minusHours(1)),
+                new Owner(deletedOwnerId, true, OwnerState.LOOKUP_VERSION, LocalDateTime.now().minusHours(1))));
+        when(propertyMapper.toPropertyEntity(propertyCreationDto)).thenReturn(property);
+        when(propertyRepository.saveAll(List.of(property))).thenReturn(List.of(property));
+        when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
+
+        var result = propertyService.createProperties(List.of(deletedOwnerDto, propertyCreationDto));
+
+        assertThat(result)
+                .extracting(PropertyBulkResultDto::status)
+                .containsExactly(BulkItemStatus.REJECTED, BulkItemStatus.CREATED);
+        verify(ownerCache, never()).markActive(any());
+    }
+
     @Test
     void getPropertyById_WhenExists_ShouldReturnPropertyDto() {
         var property = createProperty();
@@ -142,6 +346,7 @@ public class PropertyServiceImplTest {
     void shouldUpdateProperty() {
         var property = createProperty();
         property.setId(propertyId);
+        property.setVersion(4);
         var patchDto = new PropertyPatchDto("UpdatedName", "UpdatedDescription", "UpdatedAdress",
                 null, null, null, null, null);
         var propertyDto = new PropertyDto(propertyId, patchDto.name(), patchDto.description(), patchDto.address(), property.getCity(),
@@ -150,7 +355,6 @@ public class PropertyServiceImplTest {
 
         when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
         doNothing().when(propertyMapper).updatePropertyEntity(patchDto, property);
-        when(propertyRepository.saveAndFlush(property)).thenReturn(property);
         when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
 
         var result = propertyService.updateProperty(propertyId, patchDto);
@@ -160,6 +364,10 @@ public class PropertyServiceImplTest {
         assertThat(result.address()).isEqualTo(patchDto.address());
         assertThat(result.city()).isEqualTo(property.getCity());
         assertThat(result.country()).isEqualTo(property.getCountry());
+        verify(propertyRepository, never()).save(any());
+        verify(propertyRepository, never()).saveAndFlush(any());
+        verify(propertyRepository).flush();
+        verify(outbox).record(PropertyEventType.PROPERTY_UPDATED, 4L, propertyDto);
     }
 
     @Test
@@ -207,6 +415,66 @@ public class PropertyServiceImplTest {
         assertThat(result.getSize()).isEqualTo(10);
     }
 
+    @Test
+    void shouldReturnKeysetPageWithoutCountQuery() {
+        var property1 = createProperty();
+        property1.setId(propertyId);
+        property1.setCreatedAt(LocalDateTime.now().minusMinutes(2));
+        var property2 = createProperty();
+        property2.setId(UUID.randomUUID());
+        property2.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+        var cursor = new Cursor(LocalDateTime.now().minusDays(1), UUID.randomUUID());
+
+        when(propertyRepository.findKeysetPageAfter(cursor.createdAt(), cursor.id(), 2)).thenReturn(List.of(property1, property2));
+        when(propertyMapper.toPropertyDto(property1))
+                .thenReturn(createPropertyDto(propertyId, property1.getOwnerId(), property1.getCreatedAt(), true));
+
+        var result = propertyService.getAll(cursor.encode(), 1);
+
+        assertThat(result.content()).extracting(PropertyDto::id).containsExactly(propertyId);
+        assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(property1.getCreatedAt(), propertyId));
+        verify(propertyRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_ShouldReturnMatchingPropertiesSortedByPrice() {
+        var property = createProperty();
+        property.setId(propertyId);
+        var propertyDto = createPropertyDto(propertyId, property.getOwnerId(), property.getCreatedAt(), true);
+        var criteria = new PropertySearchCriteria("TestCity", null, PropertyType.APARTMENT, 2, null, new BigDecimal("100.00"));
+
+        when(propertyRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(property)));
+        when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
+
+        var result = propertyService.search(criteria, PageRequest.of(0, 20));
+
+        assertThat(result.getContent()).containsExactly(propertyDto);
+        verify(propertyRepository).findAll(any(Specification.class),
+                eq(PageRequest.of(0, 20, org.springframework.data.domain.Sort.by("pricePerNight", "id"))));
+    }
+
+    @Test
+    void search_WhenNoIndexedFilter_ShouldThrowPropertyServiceException() {
+        var criteria = new PropertySearchCriteria(null, null, null, 2, null, null);
+
+        assertThatThrownBy(() -> propertyService.search(criteria, PageRequest.of(0, 20)))
+                .isInstanceOf(PropertyServiceException.class)
+                .hasMessageContaining("required");
+
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    void search_WhenPriceRangeInverted_ShouldThrowPropertyServiceException() {
+        var criteria = new PropertySearchCriteria("TestCity", null, null, null,
+                new BigDecimal("200.00"), new BigDecimal("100.00"));
+
+        assertThatThrownBy(() -> propertyService.search(criteria, PageRequest.of(0, 20)))
+                .isInstanceOf(PropertyServiceException.class);
+    }
+
     @Test
     void getAllPropertiesByIds_WhenAllExist_ShouldReturnList() {
         var property1 = createProperty();
@@ -274,6 +542,45 @@ public class PropertyServiceImplTest {
                 .isEqualTo(dtoList);
     }
 
+    @Test
+    void getPropertiesByOwnerId_WithCursor_ShouldReturnBoundedPage() {
+        var ownerId = UUID.randomUUID();
+        var property = createProperty();
+        property.setId(propertyId);
+        property.setOwnerId(ownerId);
+        var propertyDto = createPropertyDto(propertyId, ownerId, property.getCreatedAt(), true);
+
+        when(propertyRepository.findFirstKeysetPageByOwnerId(ownerId, 21)).thenReturn(List.of(property));
+        when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
+
+        var result = propertyService.getPropertiesByOwnerId(ownerId, null, 20);
+
+        assertThat(result.content()).containsExactly(propertyDto);
+        assertThat(result.nextCursor()).isNull();
+        verify(propertyRepository, never()).findAllByOwnerId(any());
+    }
+
+    @Test
+    void exportAll_ShouldPassEveryPropertyToSinkAndDetachIt() {
+        var property1 = createProperty();
+        property1.setId(propertyId);
+        var property2 = createProperty();
+        property2.setId(UUID.randomUUID());
+        var dto1 = createPropertyDto(property1.getId(), property1.getOwnerId(), property1.getCreatedAt(), true);
+        var dto2 = createPropertyDto(property2.getId(), property2.getOwnerId(), property2.getCreatedAt(), true);
+
+        when(propertyRepository.streamAll()).thenReturn(Stream.of(property1, property2));
+        when(propertyMapper.toPropertyDto(property1)).thenReturn(dto1);
+        when(propertyMapper.toPropertyDto(property2)).thenReturn(dto2);
+
+        var exported = new ArrayList<PropertyDto>();
+        propertyService.exportAll(exported::add);
+
+        assertThat(exported).containsExactly(dto1, dto2);
+        verify(entityManager).detach(property1);
+        verify(entityManager).detach(property2);
+    }
+
     @Test
     void shouldChangeActivePropertyStatus() {
         var property = createProperty();
@@ -283,13 +590,16 @@ public class PropertyServiceImplTest {
         assertTrue(property.getIsActive());
 
         when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
-        when(propertyRepository.saveAndFlush(property)).thenReturn(property);
         when(propertyMapper.toPropertyDto(property)).thenReturn(propertyDto);
 
         var result = propertyService.changeActivePropertyStatus(propertyId, false);
 
         assertThat(result).usingRecursiveComparison().isEqualTo(propertyDto);
         assertThat(result.isActive()).isFalse();
+        assertThat(property.getIsActive()).isFalse();
+        verify(propertyRepository, never()).saveAndFlush(any());
+        verify(propertyRepository).flush();
+        verify(outbox).record(PropertyEventType.PROPERTY_STATUS_CHANGED, property.getVersion(), propertyDto);
     }
 
     @Test
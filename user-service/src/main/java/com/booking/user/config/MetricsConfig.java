@@ -0,0 +1,37 @@
+package com.booking.user.config;
+
+import com.booking.common.metrics.LatencyHistogramFilter;
+import com.booking.common.sql.SqlInstrumentationConfig;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Latency histograms for the timers Boot registers on its own: {@code http.server.requests} for every
+ * endpoint and {@code spring.data.repository.invocations} for every repository method, the latter
+ * tagged with {@code state} SUCCESS/ERROR. Also turns on per-request SQL counting.
+ */
+@Configuration
+@Import(SqlInstrumentationConfig.class)
+public class MetricsConfig {
+
+    static final Set<String> LATENCY_TIMERS = Set.of("http.server.requests", "spring.data.repository.invocations");
+
+    @Bean
+    public MeterFilter applicationTagFilter(@Value("${spring.application.name:user-service}") String applicationName) {
+        return MeterFilter.commonTags(Set.of(Tag.of("application", applicationName)));
+    }
+
+    @Bean
+    public MeterFilter latencyHistogramFilter(
+            @Value("${metrics.latency.slo:PT0.005S,PT0.01S,PT0.025S,PT0.05S,PT0.1S,PT0.25S,PT0.5S,PT1S,PT2.5S}") Duration[] slo,
+            @Value("${metrics.latency.max-expected:PT10S}") Duration maxExpected) {
+        return new LatencyHistogramFilter(LATENCY_TIMERS, slo, maxExpected);
+    }
+}
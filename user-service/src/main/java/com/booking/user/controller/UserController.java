@@ -1,9 +1,12 @@
 package com.booking.user.controller;
 
+import com.booking.common.pagination.CursorPage;
 import com.booking.user.dto.UserCreationDto;
 import com.booking.user.dto.UserDto;
 import com.booking.user.dto.UserPatchDto;
 import com.booking.user.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -14,10 +17,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -30,6 +38,7 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Create user", description = "Method for user creation")
     @PostMapping
@@ -57,6 +66,35 @@ public class UserController {
         return ResponseEntity.ok(userService.getAll(PageRequest.of(page, size)));
     }
 
+    @Operation(summary = "Scroll all users", description = "Returns users ordered by creation time using an opaque continuation cursor. Does not count total elements")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<UserDto>> scrollUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(userService.getAll(cursor, size));
+    }
+
+    @Operation(summary = "Export all users", description = "Streams users as newline-delimited JSON. Logically deleted users are skipped unless includeDeleted is set")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "false") boolean includeDeleted) {
+        var writer = objectMapper.writerFor(UserDto.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> {
+            var out = new BufferedOutputStream(outputStream);
+            userService.exportUsers(includeDeleted, dto -> {
+                try {
+                    writer.writeValue(out, dto);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "Update user by ID", description = "Partially update the user. Send only the fields that need to be changed")
     @PatchMapping("/{userId}")
     public ResponseEntity<UserDto> updateUser(@PathVariable("userId") UUID userId,
@@ -1,7 +1,6 @@
 package com.booking.user.entity;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -15,7 +14,6 @@ import java.util.UUID;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class User {
 
     @Id
@@ -29,7 +27,7 @@ public class User {
     @Column(name = "last_name", nullable = false)
     private String lastName;
 
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -38,6 +36,22 @@ public class User {
     @Column(name = "is_deleted", nullable = false)
     private boolean deleted = false;
 
+    /**
+     * Incremented by Hibernate on every update; published with each user event so consumers can drop stale ones.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public User(UUID id, String firstName, String lastName, String email, LocalDateTime createdAt, boolean deleted) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.createdAt = createdAt;
+        this.deleted = deleted;
+    }
+
     public User(String firstName, String lastName, String email, boolean deleted) {
         this.firstName = firstName;
         this.lastName = lastName;
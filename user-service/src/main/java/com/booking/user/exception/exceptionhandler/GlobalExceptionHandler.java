@@ -1,11 +1,13 @@
 package com.booking.user.exception.exceptionhandler;
 
+import com.booking.common.pagination.InvalidCursorException;
 import com.booking.user.exception.UserAlreadyExistsException;
 import com.booking.user.exception.UserNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -40,6 +42,22 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return createProblemDetail(ex.getMessage(), HttpStatus.CONFLICT, request);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleInvalidCursorException(InvalidCursorException ex, WebRequest request) {
+        log.warn("Invalid cursor: {}", ex.getMessage());
+
+        return createProblemDetail(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ProblemDetail handleConcurrentModification(ObjectOptimisticLockingFailureException ex, WebRequest request) {
+        log.warn("Concurrent user modification: {}", ex.getMessage());
+
+        return createProblemDetail("User was modified concurrently, retry the request", HttpStatus.CONFLICT, request);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ProblemDetail handleDuplicateEmail(DataIntegrityViolationException ex, WebRequest request) {
@@ -0,0 +1,7 @@
+package com.booking.user.outbox;
+
+public enum UserEventType {
+    USER_CREATED,
+    USER_UPDATED,
+    USER_DELETE_STATE_CHANGED
+}
@@ -0,0 +1,29 @@
+package com.booking.user.outbox;
+
+import com.booking.common.event.EventEnvelope;
+import com.booking.common.event.EventSerializer;
+import com.booking.user.dto.UserDto;
+import com.booking.user.entity.UserOutboxEvent;
+import com.booking.user.repository.UserOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records user events in the outbox table within the caller's transaction; {@link UserOutboxRelay} publishes them.
+ * Rows hold the serialized {@link EventEnvelope}, so the relay sends them without re-encoding.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserOutbox {
+
+    private final UserOutboxRepository outboxRepository;
+    private final EventSerializer eventSerializer;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(UserEventType type, long version, UserDto user) {
+        var envelope = EventEnvelope.of(type.name(), user.id(), version, user);
+        outboxRepository.save(new UserOutboxEvent(user.id(), version, type, eventSerializer.serialize(envelope)));
+    }
+}
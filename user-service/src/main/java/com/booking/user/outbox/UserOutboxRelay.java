@@ -0,0 +1,33 @@
+package com.booking.user.outbox;
+
+import com.booking.common.outbox.OutboxRelay;
+import com.booking.user.entity.UserOutboxEvent;
+import com.booking.user.repository.UserOutboxRepository;
+import org.apache.kafka.clients.producer.Producer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Schedules the shared {@link OutboxRelay} over the user_outbox table.
+ */
+@Component
+public class UserOutboxRelay extends OutboxRelay<UserOutboxEvent> {
+
+    public UserOutboxRelay(UserOutboxRepository outboxRepository,
+                           Producer<String, byte[]> producer,
+                           @Value("${outbox.user.topic:user-events}") String topic,
+                           @Value("${outbox.relay.batch-size:500}") int batchSize,
+                           @Value("${outbox.relay.ack-timeout:PT30S}") Duration ackTimeout,
+                           @Value("${outbox.relay.claim-lease:PT2M}") Duration claimLease) {
+        super(outboxRepository, producer, topic, batchSize, ackTimeout, claimLease);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:PT0.5S}")
+    public void relay() {
+        super.relay();
+    }
+}
@@ -1,24 +1,72 @@
 package com.booking.user.repository;
 
 import com.booking.user.entity.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    int STREAM_FETCH_SIZE = 1000;
+
     Optional<User> findByIdAndDeletedFalse(UUID userId);
 
     List<User> findByIdInAndDeletedFalse(Collection<UUID> id);
 
-    Optional<User> findByEmail(String email);
+    @Query("select u from User u where lower(u.email) = lower(:email)")
+    Optional<User> findByEmailIgnoreCase(@Param("email") String email);
 
     List<User> findByIdIn(Collection<UUID> id);
 
-    boolean existsByEmail(String email);
+    /**
+     * Inserts the user unless the email is already taken, compared case-insensitively.
+     * @return 1 if inserted, 0 on email conflict
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO users (id, first_name, last_name, email, created_at, is_deleted, version)
+            VALUES (:#{#user.id}, :#{#user.firstName}, :#{#user.lastName}, :#{#user.email}, :#{#user.createdAt}, :#{#user.deleted}, :#{#user.version})
+            ON CONFLICT ((lower(email))) DO NOTHING""", nativeQuery = true)
+    int insertIfEmailAbsent(@Param("user") User user);
+
+    @Query(value = "SELECT * FROM users ORDER BY created_at, id LIMIT :limit", nativeQuery = true)
+    List<User> findFirstKeysetPage(@Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM users
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit""", nativeQuery = true)
+    List<User> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") UUID id,
+                                   @Param("limit") int limit);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from User u")
+    Stream<User> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from User u where u.deleted = false")
+    Stream<User> streamAllActive();
 }
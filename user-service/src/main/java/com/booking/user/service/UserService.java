@@ -1,5 +1,6 @@
 package com.booking.user.service;
 
+import com.booking.common.pagination.CursorPage;
 import com.booking.user.dto.UserCreationDto;
 import com.booking.user.dto.UserDto;
 import com.booking.user.dto.UserPatchDto;
@@ -9,6 +10,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface UserService {
     UserDto create(UserCreationDto creationDto);
@@ -23,8 +25,12 @@ public interface UserService {
 
     Page<UserDto> getAll(Pageable pageable);
 
+    CursorPage<UserDto> getAll(String cursor, int size);
+
     List<UserDto> getAllByIds(Set<UUID> ids);
 
     UserDto changeDeleteStateForUser(UUID userId, boolean deleteState);
 
+    void exportUsers(boolean includeDeleted, Consumer<UserDto> sink);
+
 }
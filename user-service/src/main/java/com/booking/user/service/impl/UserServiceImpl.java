@@ -1,7 +1,11 @@
 package com.booking.user.service.impl;
 
+import com.booking.common.pagination.Cursor;
+import com.booking.common.pagination.CursorPage;
 import com.booking.user.exception.UserAlreadyExistsException;
 import com.booking.user.mapper.UserMapper;
+import com.booking.user.outbox.UserEventType;
+import com.booking.user.outbox.UserOutbox;
 import com.booking.user.dto.UserCreationDto;
 import com.booking.user.dto.UserDto;
 import com.booking.user.dto.UserPatchDto;
@@ -9,6 +13,7 @@ import com.booking.user.entity.User;
 import com.booking.user.exception.UserNotFoundException;
 import com.booking.user.repository.UserRepository;
 import com.booking.user.service.UserService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,10 +21,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,6 +38,8 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final EntityManager entityManager;
+    private final UserOutbox outbox;
 
 
     @Override
@@ -38,11 +47,17 @@ public class UserServiceImpl implements UserService {
     public UserDto create(UserCreationDto creationDto) {
         log.info("Creating user with email: {}", creationDto.email());
 
-        verifyUserExists(creationDto);
-
         var user = userMapper.toUser(creationDto);
-        var saveUser = userRepository.save(user);
-        return userMapper.toUserDto(saveUser);
+        user.setId(UUID.randomUUID());
+        user.setCreatedAt(LocalDateTime.now());
+
+        if (userRepository.insertIfEmailAbsent(user) == 0) {
+            throw new UserAlreadyExistsException(MSG_USER_ALREADY_EXISTS, creationDto.email());
+        }
+
+        var created = userMapper.toUserDto(user);
+        outbox.record(UserEventType.USER_CREATED, user.getVersion(), created);
+        return created;
     }
 
     @Override
@@ -50,7 +65,12 @@ public class UserServiceImpl implements UserService {
     public UserDto update(UUID userId, UserPatchDto userForUpdate) {
         log.info("Updating user: {}", userId);
         var updatedUser = updateUserData(userId, userForUpdate);
-        return userMapper.toUserDto(updatedUser);
+        // flush so the version is bumped before it goes into the event
+        userRepository.flush();
+
+        var updated = userMapper.toUserDto(updatedUser);
+        outbox.record(UserEventType.USER_UPDATED, updatedUser.getVersion(), updated);
+        return updated;
     }
 
     @Override
@@ -72,7 +92,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto getByEmail(String email) {
-        var userEntity = userRepository.findByEmail(email)
+        var userEntity = userRepository.findByEmailIgnoreCase(email)
                 .orElseThrow(() -> UserNotFoundException.forUserEmail(email));
         return userMapper.toUserDto(userEntity);
     }
@@ -83,6 +103,19 @@ public class UserServiceImpl implements UserService {
         return usersPage.map(userMapper::toUserDto);
     }
 
+    @Override
+    public CursorPage<UserDto> getAll(String cursor, int size) {
+        List<User> users;
+        if (cursor == null) {
+            users = userRepository.findFirstKeysetPage(size + 1);
+        } else {
+            var position = Cursor.decode(cursor);
+            users = userRepository.findKeysetPageAfter(position.createdAt(), position.id(), size + 1);
+        }
+
+        return CursorPage.of(users, size, u -> new Cursor(u.getCreatedAt(), u.getId()), userMapper::toUserDto);
+    }
+
     @Override
     public List<UserDto> getAllByIds(Set<UUID> ids){
         if (ids == null || ids.isEmpty()) {
@@ -96,18 +129,33 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserDto changeDeleteStateForUser(UUID userId, boolean deleteState) {
-        var user = changeDeleteState(userId, deleteState);
-
-        return userMapper.toUserDto(user);
-    }
-
-    private User changeDeleteState(UUID userId, boolean deleteState) {
         var user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.forUser(userId));
 
+        if (user.isDeleted() == deleteState) {
+            // nothing changed, so there is nothing to publish
+            return userMapper.toUserDto(user);
+        }
+
         user.setDeleted(deleteState);
+        userRepository.flush();
 
-        return user;
+        var changed = userMapper.toUserDto(user);
+        outbox.record(UserEventType.USER_DELETE_STATE_CHANGED, user.getVersion(), changed);
+        return changed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(boolean includeDeleted, Consumer<UserDto> sink) {
+        log.info("Exporting users, includeDeleted={}", includeDeleted);
+
+        try (var users = includeDeleted ? userRepository.streamAll() : userRepository.streamAllActive()) {
+            users.forEach(user -> {
+                sink.accept(userMapper.toUserDto(user));
+                entityManager.detach(user);
+            });
+        }
     }
 
     private List<UserDto> processUsers(Set<UUID> userIds, List<User> users) {
@@ -131,12 +179,4 @@ public class UserServiceImpl implements UserService {
 
         return userEntity;
     }
-
-    private void verifyUserExists(UserCreationDto user) {
-        var isExists = userRepository.existsByEmail(user.email());
-
-        if (isExists) {
-            throw new UserAlreadyExistsException(MSG_USER_ALREADY_EXISTS, user.email());
-        }
-    }
 }
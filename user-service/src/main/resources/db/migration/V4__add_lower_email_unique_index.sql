@@ -0,0 +1,25 @@
+-- Emails are unique regardless of case; lookups use lower(email) and are served by this index.
+-- Existing case variants of one email (e.g. John@x.com and john@x.com) would make the index build fail halfway,
+-- so check first and stop with the offending emails. They can't be merged automatically: decide per account
+-- which one to keep, then rename or delete the others, e.g.
+--   UPDATE users SET email = 'dup+' || id || '@invalid', is_deleted = true WHERE id = '<duplicate id>';
+-- and rerun the migration.
+DO $$
+DECLARE
+    duplicates TEXT;
+BEGIN
+    SELECT string_agg(lower_email, ', ')
+    INTO duplicates
+    FROM (SELECT lower(email) AS lower_email
+          FROM users
+          GROUP BY lower(email)
+          HAVING count(*) > 1
+          LIMIT 20) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'users.email has case-insensitive duplicates, resolve them before migrating: %', duplicates;
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_lower_email ON users (lower(email));
+
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
@@ -0,0 +1,2 @@
+-- The relay claims rows for a lease in a short transaction instead of holding row locks while waiting for Kafka.
+ALTER TABLE user_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMPTZ;
@@ -1,5 +1,7 @@
 package com.booking.user.controller;
 
+import com.booking.common.pagination.CursorPage;
+import com.booking.common.pagination.InvalidCursorException;
 import com.booking.user.dto.UserCreationDto;
 import com.booking.user.dto.UserDto;
 import com.booking.user.dto.UserPatchDto;
@@ -18,25 +20,35 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
 @Import(GlobalExceptionHandler.class)
 public class UserControllerTest {
 
+    /** Tomcat's async timeout, which applies when spring.mvc.async.request-timeout is not set. */
+    private static final Duration CONTAINER_DEFAULT_ASYNC_TIMEOUT = Duration.ofSeconds(30);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -156,6 +168,65 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.content[0].email").value(userDto.email()));
     }
 
+    @Test
+    void scrollUsers_Success() throws Exception {
+        when(userService.getAll(null, 20)).thenReturn(new CursorPage<>(List.of(userDto), "next-token"));
+
+        mockMvc.perform(get("/api/v1/users/scroll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(userDto.id().toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    void scrollUsers_WhenCursorInvalid_ShouldReturn400() throws Exception {
+        when(userService.getAll("broken", 20)).thenThrow(new InvalidCursorException("broken"));
+
+        mockMvc.perform(get("/api/v1/users/scroll").param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").exists());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportUsers_ShouldStreamNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserDto> sink = invocation.getArgument(1);
+            sink.accept(userDto);
+            return null;
+        }).when(userService).exportUsers(eq(true), any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/export").param("includeDeleted", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(userDto) + "\n"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportUsers_ShouldOutliveContainerDefaultAsyncTimeout() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserDto> sink = invocation.getArgument(1);
+            sink.accept(userDto);
+            return null;
+        }).when(userService).exportUsers(eq(false), any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(Duration.ofHours(1).toMillis())
+                .isGreaterThan(CONTAINER_DEFAULT_ASYNC_TIMEOUT.toMillis());
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(objectMapper.writeValueAsString(userDto) + "\n"));
+    }
+
     @Test
     void getUsersByIds_Success() throws Exception {
         Set<UUID> userIds = Set.of(userId);
@@ -11,6 +11,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -44,7 +45,7 @@ public class UserRepositoryIntegrationTest {
         var user = getUser();
         userRepository.save(user);
 
-        var savedUser = userRepository.findByEmail(user.getEmail());
+        var savedUser = userRepository.findByEmailIgnoreCase(user.getEmail());
 
         assertThat(savedUser).isPresent();
         assertThat(savedUser.get()).usingRecursiveComparison().isEqualTo(user);
@@ -65,7 +66,7 @@ public class UserRepositoryIntegrationTest {
         var user = getUser();
         userRepository.save(user);
 
-        var found = userRepository.findByEmail(user.getEmail());
+        var found = userRepository.findByEmailIgnoreCase(user.getEmail());
 
         assertThat(found).isPresent();
         assertThat(found.get().getEmail()).isEqualTo(user.getEmail());
@@ -107,6 +108,48 @@ public class UserRepositoryIntegrationTest {
         assertTrue(result.contains(user3));
     }
 
+    @Test
+    void insertIfEmailAbsent_ShouldInsertOnceAndIgnoreDuplicateEmail() {
+        var email = getRandomEmail();
+        var first = new User(UUID.randomUUID(), "uName", "uLastname", email, LocalDateTime.now(), false);
+        var duplicate = new User(UUID.randomUUID(), "uName1", "uLastname1", email, LocalDateTime.now(), false);
+
+        assertThat(userRepository.insertIfEmailAbsent(first)).isEqualTo(1);
+        assertThat(userRepository.insertIfEmailAbsent(duplicate)).isEqualTo(0);
+        assertThat(userRepository.findByEmailIgnoreCase(email).get().getId()).isEqualTo(first.getId());
+    }
+
+    @Test
+    void findByEmailIgnoreCase_ShouldMatchMixedCaseEmail() {
+        var user = userRepository.save(new User("uName", "uLastname", "Mixed.Case_" + UUID.randomUUID() + "@Test.com", false));
+
+        var found = userRepository.findByEmailIgnoreCase(user.getEmail().toUpperCase());
+
+        assertThat(found).isPresent();
+        assertThat(found.get().getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void insertIfEmailAbsent_ShouldTreatEmailsCaseInsensitively() {
+        var email = getRandomEmail();
+        var first = new User(UUID.randomUUID(), "uName", "uLastname", email, LocalDateTime.now(), false);
+        var duplicate = new User(UUID.randomUUID(), "uName1", "uLastname1", email.toUpperCase(), LocalDateTime.now(), false);
+
+        assertThat(userRepository.insertIfEmailAbsent(first)).isEqualTo(1);
+        assertThat(userRepository.insertIfEmailAbsent(duplicate)).isEqualTo(0);
+    }
+
+    @Test
+    void streamAllActive_ShouldSkipDeletedUsers() {
+        var active = userRepository.save(new User("uName", "uLastname", getRandomEmail(), false));
+        var deleted = userRepository.save(new User("uName1", "uLastname1", getRandomEmail(), true));
+
+        try (var stream = userRepository.streamAllActive()) {
+            var ids = stream.map(User::getId).toList();
+            assertTrue(ids.contains(active.getId()));
+            assertFalse(ids.contains(deleted.getId()));
+        }
+    }
 
     private User getUser() {
         return new User("TestName", "TestLastName", getRandomEmail(), false);
@@ -1,11 +1,14 @@
 package com.booking.user.service;
 
+import com.booking.common.sql.SqlDataSourceConfig;
+import com.booking.common.sql.SqlStatementStats;
 import com.booking.user.dto.UserCreationDto;
 import com.booking.user.dto.UserDto;
 import com.booking.user.dto.UserPatchDto;
 import com.booking.user.exception.UserAlreadyExistsException;
 import com.booking.user.exception.UserNotFoundException;
 import com.booking.user.mapper.UserMapperImpl;
+import com.booking.user.outbox.UserOutbox;
 import com.booking.user.repository.UserRepository;
 import com.booking.user.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.springframework.boot.testcontainers.service.connection.ServiceConnect
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.jdbc.Sql;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -31,7 +35,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Testcontainers
-@Import({UserServiceImpl.class, UserMapperImpl.class})
+@Import({UserServiceImpl.class, UserMapperImpl.class, SqlDataSourceConfig.class})
 @Sql(scripts = {
         "/sql/user/user-test-data.sql"
         },
@@ -50,6 +54,9 @@ public class UserServiceDataJpaTest {
             .withUsername("user")
             .withPassword("password");
 
+    @MockitoBean
+    private UserOutbox outbox;
+
     @Autowired
     private UserService userService;
 
@@ -175,6 +182,21 @@ public class UserServiceDataJpaTest {
         assertThat(result.isDeleted()).isFalse();
     }
 
+    @Test
+    void get_shouldReturnUserByEmailIgnoringCase() {
+        var result = userService.getByEmail("USEREMAIL@gmail.com");
+
+        assertThat(result.id()).isEqualTo(USER_ID_1);
+    }
+
+    @Test
+    void create_shouldThrowExceptionWhenEmailDiffersOnlyInCase() {
+        var userCreationDto =  userCreationDto("BrandNewUser", "NewLastname", "UserEmail@Gmail.com");
+
+        assertThatThrownBy(() -> userService.create(userCreationDto))
+                .isInstanceOf(UserAlreadyExistsException.class);
+    }
+
     @Test
     void get_shouldThrowExceptionWhenUserNotFoundByEmail(){
 
@@ -198,6 +220,17 @@ public class UserServiceDataJpaTest {
                 .allSatisfy(user -> assertThat(user.isDeleted()).isFalse());
     }
 
+    @Test
+    void get_shouldLoadUsersByIdsInSingleStatement() {
+        var usersIds = Set.of(USER_ID_1, USER_ID_2, USER_ID_3);
+
+        SqlStatementStats.start();
+        userService.getActiveUsersByIds(usersIds);
+        var stats = SqlStatementStats.stop();
+
+        assertThat(stats.statements()).isEqualTo(1);
+    }
+
     @Test
     void get_shouldThrowExceptionWhenUsersNotFoundByById() {
         var usersIds = Set.of(USER_ID_1, UUID.randomUUID(), USER_ID_3);
@@ -1,13 +1,18 @@
 package com.booking.user.service;
 
+import com.booking.common.pagination.Cursor;
 import com.booking.user.dto.UserCreationDto;
 import com.booking.user.dto.UserDto;
 import com.booking.user.dto.UserPatchDto;
 import com.booking.user.entity.User;
+import com.booking.user.exception.UserAlreadyExistsException;
 import com.booking.user.exception.UserNotFoundException;
 import com.booking.user.mapper.UserMapper;
+import com.booking.user.outbox.UserEventType;
+import com.booking.user.outbox.UserOutbox;
 import com.booking.user.repository.UserRepository;
 import com.booking.user.service.impl.UserServiceImpl;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,10 +24,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,6 +47,12 @@ public class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private UserOutbox outbox;
+
     private UserServiceImpl userService;
 
     private final UUID userId = UUID.randomUUID();
@@ -58,20 +71,37 @@ public class UserServiceImplTest {
 
     @BeforeEach
     public void setUp() {
-        userService = new UserServiceImpl(userRepository, userMapper);
+        userService = new UserServiceImpl(userRepository, userMapper, entityManager, outbox);
     }
 
     @Test
     void shouldCreateUser() {
         var user = createUser(userEmail, false);
 
-        when(userRepository.save(any(User.class))).thenReturn(user);
         when(userMapper.toUser(userCreationDto)).thenReturn(user);
+        when(userRepository.insertIfEmailAbsent(user)).thenReturn(1);
         when(userMapper.toUserDto(user)).thenReturn(userDto);
 
         var response = userService.create(userCreationDto);
 
         assertThat(response).usingRecursiveComparison().isEqualTo(userDto);
+        verify(userRepository, never()).save(any(User.class));
+        verify(outbox).record(UserEventType.USER_CREATED, 0L, userDto);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenEmailConflictsOnCreate() {
+        var user = createUser(userEmail, false);
+
+        when(userMapper.toUser(userCreationDto)).thenReturn(user);
+        when(userRepository.insertIfEmailAbsent(user)).thenReturn(0);
+
+        assertThatThrownBy(() -> userService.create(userCreationDto))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessageContaining(userEmail);
+
+        verifyNoInteractions(entityManager);
+        verifyNoInteractions(outbox);
     }
 
     @Test
@@ -98,6 +128,8 @@ public class UserServiceImplTest {
         assertFalse(user.isDeleted());
 
         verify(userRepository, never()).save(any(User.class));
+        verify(userRepository).flush();
+        verify(outbox).record(UserEventType.USER_UPDATED, user.getVersion(), updatedDto);
     }
 
     @Test
@@ -116,7 +148,7 @@ public class UserServiceImplTest {
     void shouldReturnUserByEmail() {
         var user = createUser(userEmail, false);
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(userRepository.findByEmailIgnoreCase(user.getEmail())).thenReturn(Optional.of(user));
         when(userMapper.toUserDto(user)).thenReturn(userDto);
 
         var result = userService.getByEmail(user.getEmail());
@@ -190,6 +222,65 @@ public class UserServiceImplTest {
         assertThat(result.getSize()).isEqualTo(10);   // размер страницы
     }
 
+    @Test
+    void shouldReturnFirstKeysetPageWithNextCursor() {
+        List<User> users = List.of(createUser(userEmail, false), createUser(userEmail, false), createUser(userEmail, false));
+
+        when(userRepository.findFirstKeysetPage(3)).thenReturn(users);
+        when(userMapper.toUserDto(any(User.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        var result = userService.getAll(null, 2);
+
+        assertThat(result.content()).extracting(UserDto::id)
+                .containsExactly(users.get(0).getId(), users.get(1).getId());
+        assertThat(Cursor.decode(result.nextCursor()))
+                .isEqualTo(new Cursor(users.get(1).getCreatedAt(), users.get(1).getId()));
+    }
+
+    @Test
+    void shouldReturnKeysetPageAfterCursorWithoutNextCursorOnLastPage() {
+        var last = createUser(userEmail, false);
+        var cursor = new Cursor(LocalDateTime.now().minusDays(1), UUID.randomUUID());
+
+        when(userRepository.findKeysetPageAfter(cursor.createdAt(), cursor.id(), 3)).thenReturn(List.of(last));
+        when(userMapper.toUserDto(last)).thenReturn(toDto(last));
+
+        var result = userService.getAll(cursor.encode(), 2);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.nextCursor()).isNull();
+        verify(userRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void shouldExportOnlyActiveUsersAndDetachThem() {
+        var user = createUser(userEmail, false);
+
+        when(userRepository.streamAllActive()).thenReturn(Stream.of(user));
+        when(userMapper.toUserDto(user)).thenReturn(userDto);
+
+        var exported = new ArrayList<UserDto>();
+        userService.exportUsers(false, exported::add);
+
+        assertThat(exported).containsExactly(userDto);
+        verify(entityManager).detach(user);
+        verify(userRepository, never()).streamAll();
+    }
+
+    @Test
+    void shouldExportDeletedUsersWhenRequested() {
+        var user = createUser(userEmail, true);
+
+        when(userRepository.streamAll()).thenReturn(Stream.of(user));
+        when(userMapper.toUserDto(user)).thenReturn(toDto(user));
+
+        var exported = new ArrayList<UserDto>();
+        userService.exportUsers(true, exported::add);
+
+        assertThat(exported).extracting(UserDto::isDeleted).containsExactly(true);
+        verify(userRepository, never()).streamAllActive();
+    }
+
     @Test
     void shouldSetDeleteTrueStateForUser() {
         var user = createUser(userEmail, false);
@@ -202,6 +293,22 @@ public class UserServiceImplTest {
 
         assertThat(result).usingRecursiveComparison().isEqualTo(deleteDto);
         assertThat(user.isDeleted()).isTrue();
+        verify(outbox).record(UserEventType.USER_DELETE_STATE_CHANGED, user.getVersion(), deleteDto);
+    }
+
+    @Test
+    void shouldNotPublishEventWhenDeleteStateUnchanged() {
+        var user = createUser(userEmail, true);
+        var deleteDto = new UserDto(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getCreatedAt(), true);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userMapper.toUserDto(user)).thenReturn(deleteDto);
+
+        var result = userService.changeDeleteStateForUser(user.getId(), true);
+
+        assertThat(result.isDeleted()).isTrue();
+        verify(userRepository, never()).flush();
+        verifyNoInteractions(outbox);
     }
 
     @Test
@@ -220,7 +327,7 @@ public class UserServiceImplTest {
 
         var errMsg = String.format("User '%s' not found.", user.getEmail());
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.empty());
+        when(userRepository.findByEmailIgnoreCase(user.getEmail())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.getByEmail(user.getEmail())).isInstanceOf(UserNotFoundException.class);
         assertThatThrownBy(() -> userService.getByEmail(user.getEmail())).hasMessage(errMsg);